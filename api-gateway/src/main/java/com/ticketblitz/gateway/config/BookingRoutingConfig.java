@@ -0,0 +1,17 @@
+package com.ticketblitz.gateway.config;
+
+import com.ticketblitz.gateway.loadbalancer.BookingLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Booking route load balancing
+ *
+ * The name must match the host of the route URI (lb://BOOKING-SERVICE).
+ *
+ * @author Akhil
+ */
+@Configuration
+@LoadBalancerClient(name = "BOOKING-SERVICE", configuration = BookingLoadBalancerConfiguration.class)
+public class BookingRoutingConfig {
+}
@@ -0,0 +1,88 @@
+package com.ticketblitz.gateway.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.gateway.loadbalancer.ConsistentHashLoadBalancer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tags booking requests with the event they belong to
+ *
+ * The consistent-hash load balancer routes on the X-Event-Id header:
+ * - header already set by the client -> kept as-is
+ * - POST with a JSON body            -> eventId read from the body
+ * - anything else                    -> no header, round robin
+ *
+ * The body is cached so the booking service still receives it unchanged.
+ * Only the small booking POST is buffered; other methods stream through.
+ * With round-robin booking load balancing (the default) the header has no
+ * reader, so the filter passes every request through without buffering.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class EventAffinityFilter extends AbstractGatewayFilterFactory<EventAffinityFilter.Config> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean consistentHash;
+
+    public EventAffinityFilter(@Value("${gateway.booking.load-balancing:round-robin}") String loadBalancing) {
+        super(Config.class);
+        this.consistentHash = "consistent-hash".equals(loadBalancing);
+    }
+
+    public static class Config {
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+
+            if (!consistentHash
+                    || request.getHeaders().containsKey(ConsistentHashLoadBalancer.EVENT_ID_HEADER)
+                    || !HttpMethod.POST.equals(request.getMethod())
+                    || !MediaType.APPLICATION_JSON.isCompatibleWith(request.getHeaders().getContentType())) {
+                return chain.filter(exchange);
+            }
+
+            return ServerWebExchangeUtils.cacheRequestBodyAndRequest(exchange, cachedRequest -> {
+                String eventId = eventId(exchange);
+                ServerHttpRequest forwarded = eventId == null
+                        ? cachedRequest
+                        : cachedRequest.mutate().header(ConsistentHashLoadBalancer.EVENT_ID_HEADER, eventId).build();
+                return chain.filter(exchange.mutate().request(forwarded).build());
+            });
+        };
+    }
+
+    private String eventId(ServerWebExchange exchange) {
+        DataBuffer body = exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode eventId = objectMapper.readTree(
+                    body.toString(body.readPosition(), body.readableByteCount(), StandardCharsets.UTF_8))
+                    .path("eventId");
+            return eventId.isIntegralNumber() || eventId.isTextual() ? eventId.asText() : null;
+        } catch (Exception ex) {
+            // Malformed JSON is the booking service's to reject; just route without affinity
+            log.debug("Could not read eventId from booking request body: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
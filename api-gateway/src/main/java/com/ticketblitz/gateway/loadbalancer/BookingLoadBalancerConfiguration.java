@@ -0,0 +1,42 @@
+package com.ticketblitz.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Load balancer for BOOKING-SERVICE (child context, registered through
+ * {@code @LoadBalancerClient} in BookingRoutingConfig)
+ *
+ * Deliberately not a @Configuration: component scanning would make it the
+ * load balancer of every service.
+ *
+ * gateway.booking.load-balancing=consistent-hash enables the ring; anything
+ * else keeps Spring Cloud's default round robin.
+ *
+ * @author Akhil
+ */
+public class BookingLoadBalancerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.booking.load-balancing", havingValue = "consistent-hash")
+    public ConsistentHashLoadBalancer consistentHashLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.booking.consistent-hash.virtual-nodes:100}") int virtualNodes,
+            @Value("${gateway.booking.consistent-hash.load-factor:1.25}") double loadFactor) {
+
+        String serviceId = LoadBalancerClientFactory.getName(environment);
+        return new ConsistentHashLoadBalancer(
+                serviceId,
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                virtualNodes,
+                loadFactor,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,226 @@
+package com.ticketblitz.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consistent-hash load balancer for booking traffic
+ *
+ * Requests carrying an X-Event-Id header (set by EventAffinityFilter) go to
+ * the instance owning that event on a {@link ConsistentHashRing} of booking
+ * instances, so all bookings for one event meet in the same JVM. Requests
+ * without an event (history, payment, cancel by id) are spread round robin.
+ *
+ * RING FROM EUREKA:
+ * =================
+ * - node id     = Eureka instance id
+ * - node weight = "ring-weight" metadata (default 1), so bigger instances
+ *                 can own a larger share of events
+ * The ring is rebuilt only when the registered instances change; the load
+ * counters of instances that left the registry are dropped with it.
+ *
+ * BOUNDED LOAD:
+ * =============
+ * In-flight requests per instance are counted through the load balancer
+ * lifecycle (start/complete). An owner above its fair share times
+ * loadFactor spills the request to the next instance on the ring.
+ *
+ * Affinity is a throughput optimization, not a correctness guarantee:
+ * spillover and membership changes can still put one event on two
+ * instances for a moment, so the Redis seat locks stay in place.
+ *
+ * @author Akhil
+ */
+@Slf4j
+public class ConsistentHashLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    public static final String EVENT_ID_HEADER = "X-Event-Id";
+    public static final String RING_WEIGHT_METADATA = "ring-weight";
+
+    private record RingSnapshot(Map<String, Integer> members, ConsistentHashRing<ServiceInstance> ring) {
+    }
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final int virtualNodes;
+    private final double loadFactor;
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile RingSnapshot snapshot = new RingSnapshot(Map.of(), new ConsistentHashRing<>(Map.of(), i -> 1, 1));
+
+    private final Counter ownerRouted;
+    private final Counter spillover;
+    private final Counter unkeyed;
+
+    public ConsistentHashLoadBalancer(
+            String serviceId,
+            ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+            int virtualNodes,
+            double loadFactor,
+            MeterRegistry meterRegistry) {
+        if (loadFactor < 1.0) {
+            throw new IllegalArgumentException("loadFactor must be at least 1.0");
+        }
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.virtualNodes = virtualNodes;
+        this.loadFactor = loadFactor;
+        this.ownerRouted = routingCounter(meterRegistry, "owner");
+        this.spillover = routingCounter(meterRegistry, "spillover");
+        this.unkeyed = routingCounter(meterRegistry, "unkeyed");
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        String eventId = eventId(request);
+        return supplier.get(request).next().map(instances -> choose(instances, eventId));
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances, String eventId) {
+        if (instances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        if (eventId == null) {
+            unkeyed.increment();
+            int position = Math.floorMod(roundRobin.getAndIncrement(), instances.size());
+            return new DefaultResponse(instances.get(position));
+        }
+
+        ConsistentHashRing.Selection<ServiceInstance> selection = ring(instances).select(
+                eventId,
+                instance -> load(instance).get(),
+                Math.max(0, totalInFlight.get()),
+                loadFactor);
+
+        if (selection.spillover()) {
+            spillover.increment();
+            log.debug("Event {} spilled over to {}", eventId, selection.node().getInstanceId());
+        } else {
+            ownerRouted.increment();
+        }
+        return new DefaultResponse(selection.node());
+    }
+
+    private ConsistentHashRing<ServiceInstance> ring(List<ServiceInstance> instances) {
+        Map<String, Integer> members = new LinkedHashMap<>();
+        Map<String, ServiceInstance> byId = new LinkedHashMap<>();
+        for (ServiceInstance instance : instances) {
+            members.put(instance.getInstanceId(), ringWeight(instance));
+            byId.put(instance.getInstanceId(), instance);
+        }
+
+        RingSnapshot current = snapshot;
+        if (current.members().equals(members)) {
+            return current.ring();
+        }
+
+        ConsistentHashRing<ServiceInstance> ring = new ConsistentHashRing<>(
+                byId, instance -> members.get(instance.getInstanceId()), virtualNodes);
+        snapshot = new RingSnapshot(members, ring);
+        pruneDeparted(members.keySet());
+        log.info("Rebuilt {} hash ring with {} instances: {}", serviceId, members.size(), members.keySet());
+        return ring;
+    }
+
+    /**
+     * Requests still in flight on a departed instance complete without
+     * touching the counters (see onComplete)
+     */
+    private void pruneDeparted(Set<String> instanceIds) {
+        inFlight.keySet().removeIf(id -> {
+            if (instanceIds.contains(id)) {
+                return false;
+            }
+            AtomicInteger removed = inFlight.get(id);
+            if (removed != null) {
+                totalInFlight.addAndGet(-removed.get());
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            load(lbResponse.getServer()).incrementAndGet();
+            totalInFlight.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        AtomicInteger load = inFlight.get(lbResponse.getServer().getInstanceId());
+        if (load != null) {
+            load.decrementAndGet();
+            totalInFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    private AtomicInteger load(ServiceInstance instance) {
+        return inFlight.computeIfAbsent(instance.getInstanceId(), id -> new AtomicInteger());
+    }
+
+    private static String eventId(Request<?> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null) {
+            return context.getClientRequest().getHeaders().getFirst(EVENT_ID_HEADER);
+        }
+        return null;
+    }
+
+    private static int ringWeight(ServiceInstance instance) {
+        String weight = instance.getMetadata().get(RING_WEIGHT_METADATA);
+        if (weight == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(weight.trim()));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring invalid {}={} on {}", RING_WEIGHT_METADATA, weight, instance.getInstanceId());
+            return 1;
+        }
+    }
+
+    private Counter routingCounter(MeterRegistry registry, String result) {
+        return Counter.builder("ticketblitz.gateway.booking.routing")
+                .tag("result", result)
+                .description("Booking requests by consistent-hash routing outcome")
+                .register(registry);
+    }
+}
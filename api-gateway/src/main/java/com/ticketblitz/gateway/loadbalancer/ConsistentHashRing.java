@@ -0,0 +1,116 @@
+package com.ticketblitz.gateway.loadbalancer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Consistent hash ring with bounded loads
+ *
+ * RING:
+ * =====
+ * Every node is placed on the ring weight * virtualNodes times
+ * (hash of "nodeId#i"); a key belongs to the first node clockwise from
+ * its own hash. Adding or removing one node only moves the keys that node
+ * owned, so an event keeps its owner while the rest of the cluster changes.
+ *
+ * BOUNDED LOAD:
+ * =============
+ * A hot event must not pin one node while others sit idle. A node may only
+ * take a request while its in-flight count is below
+ *
+ *   capacity = ceil(loadFactor * (totalInFlight + 1) / nodeCount)
+ *
+ * otherwise the walk continues clockwise to the next distinct node. Since
+ * the capacities sum to more than the total load, some node always fits.
+ *
+ * Positions depend only on node ids and weights, so every gateway instance
+ * builds the same ring from the same registry view.
+ *
+ * @author Akhil
+ */
+public final class ConsistentHashRing<N> {
+
+    public record Selection<N>(N node, boolean spillover) {
+    }
+
+    private final TreeMap<Long, N> ring = new TreeMap<>();
+    private final int nodeCount;
+
+    public ConsistentHashRing(Map<String, N> nodesById, ToIntFunction<N> weight, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        nodesById.forEach((id, node) -> {
+            int replicas = Math.max(1, weight.applyAsInt(node)) * virtualNodes;
+            for (int i = 0; i < replicas; i++) {
+                ring.put(hash(id + "#" + i), node);
+            }
+        });
+        this.nodeCount = nodesById.size();
+    }
+
+    public boolean isEmpty() {
+        return nodeCount == 0;
+    }
+
+    /**
+     * @param inFlight current load of a node
+     * @param totalInFlight load across all nodes on the ring
+     */
+    public Selection<N> select(String key, ToIntFunction<N> inFlight, int totalInFlight, double loadFactor) {
+        if (isEmpty()) {
+            throw new IllegalStateException("No nodes on the ring");
+        }
+
+        int capacity = (int) Math.ceil(loadFactor * (totalInFlight + 1) / nodeCount);
+        long position = hash(key);
+        Set<N> visited = new HashSet<>();
+        N owner = null;
+
+        // Clockwise: from the key's position to the end, then wrap around
+        for (Collection<N> arc : List.of(
+                ring.tailMap(position, true).values(),
+                ring.headMap(position, false).values())) {
+            for (N node : arc) {
+                if (!visited.add(node)) {
+                    continue;
+                }
+                if (owner == null) {
+                    owner = node;
+                }
+                if (inFlight.applyAsInt(node) < capacity) {
+                    return new Selection<>(node, node != owner);
+                }
+                if (visited.size() == nodeCount) {
+                    // Unreachable while loads are consistent; stay with the owner if they are not
+                    return new Selection<>(owner, false);
+                }
+            }
+        }
+        return new Selection<>(owner, false);
+    }
+
+    /**
+     * First 8 bytes of MD5, as in ketama: well spread and identical on every JVM
+     */
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("MD5 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ticketblitz.gateway.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 100;
+    private static final double LOAD_FACTOR = 1.25;
+    private static final List<String> KEYS = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+
+    @Test
+    void shouldPlaceKeysTheSameWayOnEveryBuild() {
+        ConsistentHashRing<String> first = ring("booking-1", "booking-2", "booking-3");
+        ConsistentHashRing<String> second = ring("booking-3", "booking-1", "booking-2");
+
+        assertThat(owners(second)).isEqualTo(owners(first));
+        assertThat(owners(first).values()).containsOnly("booking-1", "booking-2", "booking-3");
+    }
+
+    @Test
+    void shouldMoveOnlyTheKeysOfAnAddedNode() {
+        Map<String, String> before = owners(ring("booking-1", "booking-2", "booking-3"));
+        Map<String, String> after = owners(ring("booking-1", "booking-2", "booking-3", "booking-4"));
+
+        long moved = KEYS.stream().filter(key -> !before.get(key).equals(after.get(key))).count();
+        KEYS.stream()
+                .filter(key -> !before.get(key).equals(after.get(key)))
+                .forEach(key -> assertThat(after.get(key)).isEqualTo("booking-4"));
+        // Roughly a quarter of the keys, never a reshuffle
+        assertThat(moved).isBetween(1_500L, 3_500L);
+    }
+
+    @Test
+    void shouldMoveOnlyTheKeysOfARemovedNode() {
+        Map<String, String> before = owners(ring("booking-1", "booking-2", "booking-3"));
+        Map<String, String> after = owners(ring("booking-1", "booking-3"));
+
+        KEYS.forEach(key -> {
+            if (before.get(key).equals("booking-2")) {
+                assertThat(after.get(key)).isIn("booking-1", "booking-3");
+            } else {
+                assertThat(after.get(key)).isEqualTo(before.get(key));
+            }
+        });
+    }
+
+    @Test
+    void shouldSpillOverToTheNextNodeWhenTheOwnerIsFull() {
+        ConsistentHashRing<String> ring = ring("booking-1", "booking-2", "booking-3");
+        String owner = ring.select("42", node -> 0, 0, LOAD_FACTOR).node();
+
+        // capacity = ceil(1.25 * (30 + 1) / 3) = 13: the owner at 13 is full
+        Map<String, Integer> load = new HashMap<>(Map.of("booking-1", 5, "booking-2", 6, "booking-3", 6));
+        load.put(owner, 13);
+        ConsistentHashRing.Selection<String> selection = ring.select("42", load::get, 30, LOAD_FACTOR);
+
+        assertThat(selection.spillover()).isTrue();
+        assertThat(selection.node()).isNotEqualTo(owner);
+        // The same walk every time, so a hot event spills to one neighbour
+        assertThat(ring.select("42", load::get, 30, LOAD_FACTOR)).isEqualTo(selection);
+
+        load.put(owner, 12);
+        assertThat(ring.select("42", load::get, 30, LOAD_FACTOR))
+                .isEqualTo(new ConsistentHashRing.Selection<>(owner, false));
+    }
+
+    @Test
+    void shouldGiveHeavierNodesMoreKeys() {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        nodes.put("small", "small");
+        nodes.put("large", "large");
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(
+                nodes, node -> node.equals("large") ? 3 : 1, VIRTUAL_NODES);
+
+        long large = owners(ring).values().stream().filter("large"::equals).count();
+        assertThat(large).isBetween(6_500L, 8_500L);
+    }
+
+    @Test
+    void shouldRejectSelectionOnAnEmptyRing() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Map.of(), node -> 1, VIRTUAL_NODES);
+
+        assertThat(ring.isEmpty()).isTrue();
+        assertThatThrownBy(() -> ring.select("42", node -> 0, 0, LOAD_FACTOR))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing<>(Map.of(), node -> 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsistentHashRing<String> ring(String... nodeIds) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (String id : nodeIds) {
+            nodes.put(id, id);
+        }
+        return new ConsistentHashRing<>(nodes, node -> 1, VIRTUAL_NODES);
+    }
+
+    private static Map<String, String> owners(ConsistentHashRing<String> ring) {
+        Map<String, String> owners = new HashMap<>();
+        KEYS.forEach(key -> owners.put(key, ring.select(key, node -> 0, 0, LOAD_FACTOR).node()));
+        return owners;
+    }
+}
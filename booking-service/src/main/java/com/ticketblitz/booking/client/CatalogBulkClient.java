@@ -0,0 +1,59 @@
+package com.ticketblitz.booking.client;
+
+import com.ticketblitz.common.dto.ApiResponse;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Catalog calls for group bookings
+ *
+ * Seat IDs always travel in the request body (never as query params) and
+ * as a primitive long[], one chunk per call. Always REST: group bookings
+ * are rare and the payloads are large, so the gRPC transport is not used.
+ *
+ * @author Akhil
+ */
+@FeignClient(name = "catalog-service", contextId = "catalogBulkClient", path = "/api/v1")
+public interface CatalogBulkClient {
+
+    @PostMapping("/seats/event/{eventId}/selected")
+    @CircuitBreaker(name = "catalogService")
+    @Retry(name = "catalogService")
+    ApiResponse<List<CatalogServiceClient.SeatInfo>> getSeatsByIds(
+            @PathVariable("eventId") Long eventId,
+            @RequestBody SeatChunk chunk
+    );
+
+    @GetMapping("/seats/event/{eventId}/section/{section}")
+    @CircuitBreaker(name = "catalogService")
+    @Retry(name = "catalogService")
+    ApiResponse<List<CatalogServiceClient.SeatInfo>> getSeatsBySection(
+            @PathVariable("eventId") Long eventId,
+            @PathVariable("section") String section
+    );
+
+    @PostMapping("/seats/event/{eventId}/lock")
+    ApiResponse<List<CatalogServiceClient.SeatInfo>> lockSeats(
+            @PathVariable("eventId") Long eventId,
+            @RequestBody SeatChunk chunk
+    );
+
+    @PostMapping("/seats/event/{eventId}/release")
+    ApiResponse<List<CatalogServiceClient.SeatInfo>> releaseSeats(
+            @PathVariable("eventId") Long eventId,
+            @RequestBody SeatChunk chunk
+    );
+
+    /**
+     * Same JSON as SeatOperationRequest ({"seatIds": [...]})
+     */
+    record SeatChunk(long[] seatIds) implements Serializable {}
+}
@@ -20,7 +20,10 @@ import java.util.List;
 @FeignClient(
         name = "catalog-service",
         path = "/api/v1",
-        fallback = CatalogServiceFallback.class
+        fallback = CatalogServiceFallback.class,
+        // Injected by type, callers get CoalescingCatalogServiceClient around this
+        primary = false,
+        qualifiers = CoalescingCatalogServiceClient.FEIGN_QUALIFIER
 )
 public interface CatalogServiceClient {
 
@@ -0,0 +1,132 @@
+package com.ticketblitz.booking.client;
+
+import com.ticketblitz.common.dto.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight decorator around the catalog Feign client
+ *
+ * COALESCING:
+ * ===========
+ * Identical read calls that overlap share one remote call:
+ *
+ * Thread 1: getSeatsByIds(7, [1,2]) -> calls catalog
+ * Thread 2: getSeatsByIds(7, [1,2]) -> waits for thread 1's call
+ * Thread 1 returns                  -> both get the same response
+ *
+ * Nothing is cached: once the call completes, the next identical call goes
+ * to catalog again. Writes (lock/book/release) are never coalesced.
+ *
+ * The leader goes through the transport client (Feign, or gRPC with
+ * booking.catalog.transport=grpc), so the Resilience4j retry, circuit breaker
+ * and fallback apply once per shared call; followers receive the same result
+ * or exception.
+ *
+ * METRICS:
+ * ========
+ * ticketblitz.catalog.reads{method, role=leader|coalesced}
+ * coalescing ratio = coalesced / (leader + coalesced)
+ *
+ * @author Akhil
+ */
+@Primary
+@Component
+public class CoalescingCatalogServiceClient implements CatalogServiceClient {
+
+    static final String FEIGN_QUALIFIER = "catalogFeignClient";
+
+    private final CatalogServiceClient delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<ReadCall, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingCatalogServiceClient(
+            @Qualifier(FEIGN_QUALIFIER) CatalogServiceClient feignClient,
+            ObjectProvider<GrpcCatalogServiceClient> grpcClient,
+            MeterRegistry meterRegistry) {
+        GrpcCatalogServiceClient grpc = grpcClient.getIfAvailable();
+        this.delegate = grpc != null ? grpc : feignClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ApiResponse<EventInfo> getEvent(Long eventId) {
+        return coalesce(new ReadCall("getEvent", eventId, List.of()), () -> delegate.getEvent(eventId));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> getSeatsForEvent(Long eventId) {
+        return coalesce(new ReadCall("getSeatsForEvent", eventId, List.of()),
+                () -> delegate.getSeatsForEvent(eventId));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> getSeatsByIds(Long eventId, List<Long> seatIds) {
+        return coalesce(new ReadCall("getSeatsByIds", eventId, List.copyOf(seatIds)),
+                () -> delegate.getSeatsByIds(eventId, seatIds));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> lockSeats(Long eventId, SeatOperationRequest request) {
+        return delegate.lockSeats(eventId, request);
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> bookSeats(Long eventId, SeatOperationRequest request) {
+        return delegate.bookSeats(eventId, request);
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> releaseSeats(Long eventId, SeatOperationRequest request) {
+        return delegate.releaseSeats(eventId, request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(ReadCall call, Supplier<T> remoteCall) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(call, mine);
+
+        if (leader != null) {
+            counter(call.method(), "coalesced").increment();
+            try {
+                return (T) leader.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        counter(call.method(), "leader").increment();
+        try {
+            T result = remoteCall.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(call, mine);
+        }
+    }
+
+    private Counter counter(String method, String role) {
+        return Counter.builder("ticketblitz.catalog.reads")
+                .description("Catalog read calls, by whether they went remote or joined one in flight")
+                .tag("method", method)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private record ReadCall(String method, Long eventId, List<Long> seatIds) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.ticketblitz.booking.client;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ticketblitz.common.dto.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * Near-cache of catalog EventInfo
+ *
+ * Thousands of bookings for the same event used to fetch the same name,
+ * venue and date from catalog-service, one remote call each.
+ *
+ * FRESHNESS:
+ * ==========
+ * - catalog publishes "event changed" (CatalogChannels.EVENT_CHANGED)
+ *   -> entry dropped, next booking reloads it
+ * - fresh-ttl after a load -> the next read triggers one background reload
+ *   and keeps serving the cached value meanwhile
+ * - max-stale after a load -> entry dropped regardless
+ *
+ * DEGRADED CATALOG:
+ * =================
+ * A failed reload (catalog down, circuit breaker open) keeps the previous
+ * value, so bookings for already-cached events proceed on data at most
+ * max-stale old. Only cold misses fail.
+ *
+ * availableSeats is never cached (always null): seat availability is checked
+ * per seat by the seat lookup and enforced by the catalog seat lock.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class EventInfoNearCache implements MessageListener {
+
+    private final LoadingCache<Long, CatalogServiceClient.EventInfo> cache;
+
+    public EventInfoNearCache(
+            CatalogServiceClient catalogClient,
+            MeterRegistry meterRegistry,
+            @Value("${booking.catalog.event-cache.fresh-ttl:30s}") Duration freshTtl,
+            @Value("${booking.catalog.event-cache.max-stale:10m}") Duration maxStale,
+            @Value("${booking.catalog.event-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(freshTtl)
+                .expireAfterWrite(maxStale)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .recordStats()
+                .build(eventId -> load(catalogClient, eventId));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalogEventInfo");
+    }
+
+    /**
+     * @return empty when the event does not exist or catalog cannot be reached
+     */
+    public Optional<CatalogServiceClient.EventInfo> get(Long eventId) {
+        try {
+            return Optional.of(cache.get(eventId));
+        } catch (RuntimeException ex) {
+            log.warn("Event {} not available from catalog: {}", eventId, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(Long eventId) {
+        cache.invalidate(eventId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.valueOf(body));
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring malformed event change message: {}", body);
+        }
+    }
+
+    /**
+     * Throws instead of returning null so a failed reload keeps the old value
+     */
+    private static CatalogServiceClient.EventInfo load(CatalogServiceClient catalogClient, Long eventId) {
+        ApiResponse<CatalogServiceClient.EventInfo> response = catalogClient.getEvent(eventId);
+        if (response == null || !"success".equalsIgnoreCase(response.getStatus()) || response.getData() == null) {
+            throw new IllegalStateException("Catalog returned no event " + eventId);
+        }
+
+        CatalogServiceClient.EventInfo event = response.getData();
+        return new CatalogServiceClient.EventInfo(
+                event.id(), event.name(), event.eventDate(), null, event.status(), event.venue());
+    }
+}
@@ -0,0 +1,157 @@
+package com.ticketblitz.booking.client;
+
+import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.grpc.catalog.CatalogInternalGrpc;
+import com.ticketblitz.common.grpc.catalog.GetEventRequest;
+import com.ticketblitz.common.grpc.catalog.Seat;
+import com.ticketblitz.common.grpc.catalog.SeatList;
+import com.ticketblitz.common.grpc.catalog.SeatsRequest;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.ticketblitz.common.grpc.ProtoConversions.emptyToNull;
+import static com.ticketblitz.common.grpc.ProtoConversions.fromProto;
+
+/**
+ * gRPC transport for CatalogServiceClient
+ *
+ * Enabled with booking.catalog.transport=grpc; CoalescingCatalogServiceClient
+ * then wraps this instead of the Feign client, so callers do not change.
+ *
+ * TRANSPORT:
+ * ==========
+ * - One HTTP/2 channel per catalog instance, calls multiplexed on it
+ * - Instances from Eureka (discovery:///catalog-service, gRPC_port metadata),
+ *   round-robin across them
+ * - Protobuf bodies; prices travel as unscaled long + scale, not text
+ *
+ * ERRORS:
+ * =======
+ * Business rejections (NOT_FOUND, INVALID_ARGUMENT, FAILED_PRECONDITION)
+ * come back as ApiResponse errors, as the Feign client delivers them.
+ * Transport failures are thrown, so reads retry and trip the circuit breaker
+ * exactly like the Feign reads.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booking.catalog.transport", havingValue = "grpc")
+public class GrpcCatalogServiceClient implements CatalogServiceClient {
+
+    @GrpcClient("catalog-service")
+    private CatalogInternalGrpc.CatalogInternalBlockingStub catalogStub;
+
+    @Value("${booking.catalog.grpc.deadline:5s}")
+    private Duration deadline;
+
+    @Override
+    @CircuitBreaker(name = "catalogService")
+    @Retry(name = "catalogService")
+    public ApiResponse<EventInfo> getEvent(Long eventId) {
+        return call(() -> toEventInfo(stub().getEvent(GetEventRequest.newBuilder().setEventId(eventId).build())));
+    }
+
+    @Override
+    @CircuitBreaker(name = "catalogService")
+    @Retry(name = "catalogService")
+    public ApiResponse<List<SeatInfo>> getSeatsForEvent(Long eventId) {
+        return call(() -> toSeatInfos(stub().getSeatsForEvent(GetEventRequest.newBuilder().setEventId(eventId).build())));
+    }
+
+    @Override
+    @CircuitBreaker(name = "catalogService")
+    @Retry(name = "catalogService")
+    public ApiResponse<List<SeatInfo>> getSeatsByIds(Long eventId, List<Long> seatIds) {
+        return call(() -> toSeatInfos(stub().getSeats(seatsRequest(eventId, seatIds))));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> lockSeats(Long eventId, SeatOperationRequest request) {
+        return call(() -> toSeatInfos(stub().lockSeats(seatsRequest(eventId, request.seatIds()))));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> bookSeats(Long eventId, SeatOperationRequest request) {
+        return call(() -> toSeatInfos(stub().bookSeats(seatsRequest(eventId, request.seatIds()))));
+    }
+
+    @Override
+    public ApiResponse<List<SeatInfo>> releaseSeats(Long eventId, SeatOperationRequest request) {
+        return call(() -> toSeatInfos(stub().releaseSeats(seatsRequest(eventId, request.seatIds()))));
+    }
+
+    private CatalogInternalGrpc.CatalogInternalBlockingStub stub() {
+        return catalogStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> ApiResponse<T> call(Supplier<T> remoteCall) {
+        try {
+            return ApiResponse.success(remoteCall.get());
+        } catch (StatusRuntimeException ex) {
+            Status.Code code = ex.getStatus().getCode();
+            if (code == Status.Code.NOT_FOUND
+                    || code == Status.Code.INVALID_ARGUMENT
+                    || code == Status.Code.FAILED_PRECONDITION) {
+                return ApiResponse.error(code.name(), ex.getStatus().getDescription());
+            }
+            log.warn("Catalog gRPC call failed: {}", ex.getStatus());
+            throw ex;
+        }
+    }
+
+    private static SeatsRequest seatsRequest(Long eventId, List<Long> seatIds) {
+        return SeatsRequest.newBuilder()
+                .setEventId(eventId)
+                .addAllSeatIds(seatIds)
+                .build();
+    }
+
+    private static EventInfo toEventInfo(com.ticketblitz.common.grpc.catalog.EventInfo event) {
+        VenueInfo venue = null;
+        if (event.hasVenue()) {
+            com.ticketblitz.common.grpc.catalog.Venue v = event.getVenue();
+            venue = new VenueInfo(v.getId(), emptyToNull(v.getName()), emptyToNull(v.getAddress()),
+                    emptyToNull(v.getCity()), emptyToNull(v.getState()), emptyToNull(v.getCountry()),
+                    emptyToNull(v.getPostalCode()), v.getCapacity(), emptyToNull(v.getDescription()));
+        }
+
+        return new EventInfo(
+                event.getId(),
+                emptyToNull(event.getName()),
+                fromProto(event.getEventDate()),
+                event.hasAvailableSeats() ? event.getAvailableSeats() : null,
+                event.getStatus(),
+                venue
+        );
+    }
+
+    private static List<SeatInfo> toSeatInfos(SeatList seats) {
+        return seats.getSeatsList().stream()
+                .map(GrpcCatalogServiceClient::toSeatInfo)
+                .toList();
+    }
+
+    private static SeatInfo toSeatInfo(Seat seat) {
+        return new SeatInfo(
+                seat.getId(),
+                emptyToNull(seat.getSection()),
+                emptyToNull(seat.getRowLabel()),
+                seat.getSeatNumber(),
+                fromProto(seat.getPrice()),
+                fromProto(seat.getStatus())
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.ticketblitz.booking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis holds - expiry notifications
+ *
+ * A hold's expiry marker key expiring publishes a keyspace notification;
+ * KeyExpirationEventMessageListener turns it into a RedisKeyExpiredEvent
+ * that BookingHoldService handles.
+ *
+ * The listener enables notify-keyspace-events "Ex" on startup. Managed Redis
+ * offerings often forbid CONFIG SET: set it on the server and run with
+ * booking.hold.configure-keyspace-notifications=false.
+ *
+ * @author Akhil
+ */
+@Configuration
+@ConditionalOnProperty(name = "booking.hold.store", havingValue = "redis")
+public class BookingHoldConfig {
+
+    @Bean
+    public RedisMessageListenerContainer holdExpiryListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new VirtualThreadTaskExecutor("hold-expiry-"));
+        return container;
+    }
+
+    @Bean
+    public KeyExpirationEventMessageListener holdExpiryListener(
+            RedisMessageListenerContainer holdExpiryListenerContainer,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${booking.hold.configure-keyspace-notifications:true}") boolean configureNotifications) {
+        KeyExpirationEventMessageListener listener =
+                new KeyExpirationEventMessageListener(holdExpiryListenerContainer);
+        listener.setApplicationEventPublisher(eventPublisher);
+        listener.setKeyspaceNotificationsConfigParameter(configureNotifications ? "Ex" : "");
+        return listener;
+    }
+}
@@ -1,10 +1,13 @@
 package com.ticketblitz.booking.config;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Custom business metrics for the Booking Service.
  *
@@ -14,6 +17,8 @@ import org.springframework.stereotype.Component;
  * - Payments processed (by status: success/failed)
  * - Payment processing duration
  * - Seats locked via distributed lock
+ * - Redis holds released on expiry
+ * - Seat lock conflicts and the hold TTL chosen per booking
  *
  * All metrics are prefixed with "ticketblitz." for easy Grafana filtering.
  *
@@ -30,10 +35,15 @@ public class BookingMetrics {
     private final Counter paymentsSucceeded;
     private final Counter paymentsFailed;
     private final Counter seatsLocked;
+    private final Counter holdsExpired;
+    private final Counter lockConflicts;
 
     // Timers
     private final Timer paymentDuration;
 
+    // Distributions
+    private final DistributionSummary holdTtl;
+
     public BookingMetrics(MeterRegistry registry) {
         this.registry = registry;
 
@@ -59,9 +69,22 @@ public class BookingMetrics {
                 .description("Total seats locked for bookings")
                 .register(registry);
 
+        this.holdsExpired = Counter.builder("ticketblitz.bookings.holds.expired")
+                .description("Redis booking holds released after expiring unpaid")
+                .register(registry);
+
         this.paymentDuration = Timer.builder("ticketblitz.payments.duration")
                 .description("Payment processing duration")
                 .register(registry);
+
+        this.lockConflicts = Counter.builder("ticketblitz.seats.lock.conflicts")
+                .description("Booking attempts that lost a seat to another booking")
+                .register(registry);
+
+        this.holdTtl = DistributionSummary.builder("ticketblitz.bookings.hold.ttl")
+                .description("Seat hold duration given to new bookings")
+                .baseUnit("seconds")
+                .register(registry);
     }
 
     public void incrementBookingsCreated() {
@@ -84,6 +107,18 @@ public class BookingMetrics {
         seatsLocked.increment(count);
     }
 
+    public void incrementHoldsExpired() {
+        holdsExpired.increment();
+    }
+
+    public void incrementLockConflicts() {
+        lockConflicts.increment();
+    }
+
+    public void recordHoldTtl(Duration ttl) {
+        holdTtl.record(ttl.toSeconds());
+    }
+
     public Timer.Sample startPaymentTimer() {
         return Timer.start(registry);
     }
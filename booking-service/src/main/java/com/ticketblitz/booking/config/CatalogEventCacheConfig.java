@@ -0,0 +1,32 @@
+package com.ticketblitz.booking.config;
+
+import com.ticketblitz.booking.client.EventInfoNearCache;
+import com.ticketblitz.common.event.CatalogChannels;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes the EventInfo near-cache to catalog's event change channel.
+ *
+ * Pub/sub is fire-and-forget: a message missed during a Redis blip is
+ * covered by the cache's fresh-ttl.
+ *
+ * @author Akhil
+ */
+@Configuration
+public class CatalogEventCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer catalogEventChangeContainer(
+            RedisConnectionFactory connectionFactory,
+            EventInfoNearCache eventInfoNearCache) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(eventInfoNearCache, new ChannelTopic(CatalogChannels.EVENT_CHANGED));
+        return container;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ticketblitz.booking.config;
+
+import com.ticketblitz.common.datasource.ReadReplicaRoutingDataSource;
+import com.ticketblitz.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Database configuration - Read replica routing
+ *
+ * The primary pool is still configured by spring.datasource.hikari
+ * (sized for lock acquisition bursts).
+ *
+ * With booking.datasource.replica.url set:
+ * - @Transactional(readOnly = true) (booking history) -> replica pool
+ * - booking, payment, cancellation                    -> primary pool
+ * - replica lagging or down                           -> everything on primary
+ *
+ * Reads right after a write (getBooking, getPaymentForBooking) run
+ * read-write so they always see the row that was just committed.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Configuration
+public class DatabaseConfig {
+
+    private ReplicaLagMonitor lagMonitor;
+    private HikariDataSource replica;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("booking-primary");
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("!'${booking.datasource.replica.url:}'.isEmpty()")
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${booking.datasource.replica.url}") String replicaUrl,
+            @Value("${booking.datasource.replica.max-pool-size:20}") int replicaPoolSize,
+            @Value("${booking.datasource.replica.max-lag:1s}") Duration maxLag,
+            @Value("${booking.datasource.replica.lag-check-interval:2s}") Duration checkInterval) {
+
+        replica = new HikariDataSource();
+        replica.setPoolName("booking-replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(properties.determineUsername());
+        replica.setPassword(properties.determinePassword());
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setMinimumIdle(2);
+        // Fail fast so a dead replica does not stall reads for the full timeout
+        replica.setConnectionTimeout(2000);
+        meterRegistry.ifAvailable(replica::setMetricRegistry);
+
+        lagMonitor = new ReplicaLagMonitor(replica, maxLag, checkInterval);
+        lagMonitor.start();
+        meterRegistry.ifAvailable(registry -> lagMonitor.bindTo(registry, "booking-replica"));
+
+        log.info("Read replica routing enabled: maxLag={}, checkInterval={}", maxLag, checkInterval);
+
+        return ReadReplicaRoutingDataSource.create(primary, replica, lagMonitor);
+    }
+
+    @PreDestroy
+    void closeReplica() {
+        if (lagMonitor != null) {
+            lagMonitor.close();
+        }
+        if (replica != null) {
+            replica.close();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.ticketblitz.booking.config;
 
+import com.ticketblitz.common.event.SeatsReleasedEvent;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+
 /**
  * RabbitMQ Configuration — Booking Service (Publisher Side)
  *
@@ -25,6 +28,10 @@ import org.springframework.context.annotation.Configuration;
  *                    ↓ (fail again)
  *               DLQ (final)
  *
+ *    └─ booking.cancelled / booking.expired / payment.failed
+ *         └─ Seat release queue (catalog-service, batched)
+ *               └─ (fail) -> Seat release retry queue (30s) -> back
+ *
  *
  * WHY TOPIC EXCHANGE:
  * ====================
@@ -56,6 +63,12 @@ public class RabbitMQConfig {
     public static final String DLQ_QUEUE = "ticketblitz.booking.confirmed.dlq";
     public static final String BOOKING_DLQ_ROUTING_KEY = "booking.confirmed.dlq";
 
+    // Seat release (consumed by catalog-service; declared here too so nothing is unroutable)
+    public static final String SEAT_RELEASE_QUEUE = "ticketblitz.catalog.seat-release.queue";
+    public static final String SEAT_RELEASE_RETRY_QUEUE = "ticketblitz.catalog.seat-release.retry.queue";
+    public static final String SEAT_RELEASE_RETRY_ROUTING_KEY = "catalog.seat-release.retry";
+    public static final String SEAT_RELEASE_DLQ = "ticketblitz.catalog.seat-release.dlq";
+    public static final String SEAT_RELEASE_DLQ_ROUTING_KEY = "catalog.seat-release.dlq";
 
     @Bean
     public TopicExchange ticketblitzExchange() {
@@ -128,6 +141,63 @@ public class RabbitMQConfig {
                 .with(BOOKING_DLQ_ROUTING_KEY);
     }
 
+    // seat release queue (catalog-service consumes)
+    @Bean
+    public Queue seatReleaseQueue() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_QUEUE)
+                .deadLetterExchange(EXCHANGE_NAME)
+                .deadLetterRoutingKey(SEAT_RELEASE_RETRY_ROUTING_KEY)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Declarables seatReleaseBindings() {
+        return new Declarables(Arrays.stream(SeatsReleasedEvent.Reason.values())
+                .map(reason -> BindingBuilder
+                        .bind(seatReleaseQueue())
+                        .to(ticketblitzExchange())
+                        .with(reason.routingKey()))
+                .toList());
+    }
+
+    @Bean
+    public Queue seatReleaseRetryQueue() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_RETRY_QUEUE)
+                // Default exchange: back to the release queue only, not to every booking.* subscriber
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(SEAT_RELEASE_QUEUE)
+                .ttl(30000)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Binding seatReleaseRetryBinding() {
+        return BindingBuilder
+                .bind(seatReleaseRetryQueue())
+                .to(ticketblitzExchange())
+                .with(SEAT_RELEASE_RETRY_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue seatReleaseDlq() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_DLQ)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Binding seatReleaseDlqBinding() {
+        return BindingBuilder
+                .bind(seatReleaseDlq())
+                .to(dlxExchange())
+                .with(SEAT_RELEASE_DLQ_ROUTING_KEY);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
         return new Jackson2JsonMessageConverter(objectMapper);
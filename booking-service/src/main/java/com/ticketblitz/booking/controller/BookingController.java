@@ -2,8 +2,10 @@ package com.ticketblitz.booking.controller;
 
 import com.ticketblitz.booking.dto.*;
 import com.ticketblitz.booking.service.BookingService;
+import com.ticketblitz.booking.service.BulkBookingService;
 import com.ticketblitz.booking.service.PaymentService;
 import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.dto.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -31,6 +33,7 @@ public class BookingController {
 
     private final BookingService bookingService;
     private final PaymentService paymentService;
+    private final BulkBookingService bulkBookingService;
 
     // default pagination
     private static final int  DEFAULT_PAGE = 0;
@@ -73,6 +76,49 @@ public class BookingController {
                 .body(ApiResponse.success(booking));
     }
 
+    /**
+     * create group booking (up to booking.bulk.max-seats seats)
+     *
+     * POST: /api/v1/bookings/bulk
+     *
+     * Seats are locked in chunks; progress is readable at
+     * GET /api/v1/bookings/bulk/{idempotencyKey} while this call runs
+     */
+    @Operation(
+            summary = "Create group booking",
+            description = "Reserve a large seat set (seat IDs and/or sections). Requires idempotency key (uuid)."
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BookingDto>> createBulkBooking(
+            @Parameter(description = "User ID from JWT", hidden = true)
+            @RequestHeader("X-User-Id") String userId,
+            @Valid @RequestBody BulkBookingRequest request) {
+
+        log.info("POST /api/v1/bookings/bulk - User: {}, Event: {}",
+                userId, request.getEventId());
+
+        BookingDto booking = bulkBookingService.createBulkBooking(userId, request);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(booking));
+    }
+
+    /**
+     * Group booking progress
+     *
+     * GET /api/v1/bookings/bulk/{idempotencyKey}
+     */
+    @Operation(summary = "Get group booking progress", description = "Chunks locked so far for a group booking")
+    @GetMapping("/bulk/{idempotencyKey}")
+    public ResponseEntity<ApiResponse<BulkBookingProgress>> getBulkBookingProgress(
+            @PathVariable String idempotencyKey) {
+
+        return ResponseEntity.ok(
+                ApiResponse.success(bulkBookingService.getProgress(idempotencyKey))
+        );
+    }
+
     /**
      * Get booking by ID
      *
@@ -134,6 +180,31 @@ public class BookingController {
         );
     }
 
+    /**
+     * Get user's bookings with keyset pagination (newest first)
+     *
+     * GET /api/v1/bookings/scroll?size=20&cursor=...
+     *
+     * No total count; pass nextCursor back until hasNext is false
+     */
+    @Operation(summary = "Scroll user's bookings", description = "Cursor-paginated bookings for current user")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<BookingListDto>>> scrollUserBookings(
+            @RequestHeader("X-User-Id") String userId,
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("GET /api/v1/bookings/scroll - User: {}", userId);
+
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CursorPage<BookingListDto> bookings = bookingService.scrollUserBookings(userId, cursor, size);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(bookings)
+        );
+    }
+
     /**
      * Cancel booking
      *
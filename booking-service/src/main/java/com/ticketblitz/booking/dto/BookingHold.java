@@ -0,0 +1,42 @@
+package com.ticketblitz.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pending booking that lives only in Redis (booking.hold.store=redis)
+ *
+ * Same data a PENDING bookings row would have, including the price snapshot
+ * taken from catalog when the seats were locked. The id comes from the
+ * bookings id sequence, so the row written at payment time keeps it.
+ */
+public record BookingHold(
+        Long id,
+        String userId,
+        Long eventId,
+        String eventName,
+        String venueName,
+        LocalDateTime eventDate,
+        BigDecimal amount,
+        String idempotencyKey,
+        LocalDateTime reservedAt,
+        LocalDateTime expiresAt,
+        List<BookingItemDto> items
+) {
+
+    public Integer totalSeats() {
+        return items.size();
+    }
+
+    public List<Long> seatIds() {
+        return items.stream().map(BookingItemDto::getSeatId).toList();
+    }
+
+    @JsonIgnore
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticketblitz.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a group booking, readable while it is being locked
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkBookingProgress {
+
+    public enum Status {
+        RESOLVING, LOCKING, COMPLETED, FAILED
+    }
+
+    private String idempotencyKey;
+    private Status status;
+    private Integer totalSeats;
+    private Integer totalChunks;
+    private Integer chunksLocked;
+    private Long bookingId;
+    private String error;
+}
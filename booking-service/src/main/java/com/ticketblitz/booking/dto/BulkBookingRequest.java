@@ -0,0 +1,51 @@
+package com.ticketblitz.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.UUID;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Group / corporate booking: explicit seat IDs, whole sections, or both.
+ * The total is capped by booking.bulk.max-seats.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingRequest implements Serializable {
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    private List<Long> seatIds;
+
+    @Valid
+    private List<SectionSelection> sections;
+
+    @NotNull(message = "Idempotency key is required")
+    @UUID(message = "Idempotency key must be a valid UUID")
+    private String idempotencyKey;
+
+    /**
+     * Every AVAILABLE seat of the section, or only of the listed rows
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionSelection implements Serializable {
+
+        @NotBlank(message = "Section is required")
+        private String section;
+
+        private List<String> rows;
+    }
+}
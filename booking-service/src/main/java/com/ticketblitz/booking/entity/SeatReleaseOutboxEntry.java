@@ -0,0 +1,44 @@
+package com.ticketblitz.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seat Release Outbox Entry
+ *
+ * A SeatsReleasedEvent saved in the transaction that cancels, expires or
+ * fails the booking, so the release survives a broker outage or a crash
+ * right after commit. Deleted once catalog-service has it (published and
+ * confirmed, or released synchronously); see SeatLockingService.
+ *
+ * @author Akhil
+ */
+@Entity
+@Table(name = "seat_release_outbox")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SeatReleaseOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ticketblitz.booking.mapper;
 
 import com.ticketblitz.booking.dto.BookingDto;
+import com.ticketblitz.booking.dto.BookingHold;
 import com.ticketblitz.booking.dto.BookingItemDto;
 import com.ticketblitz.booking.dto.BookingListDto;
 import com.ticketblitz.booking.entity.Booking;
@@ -26,6 +27,13 @@ public interface BookingMapper {
     @Mapping(source = "amount", target = "totalAmount")
     BookingDto toDto(Booking booking);
 
+    /**
+     * Redis hold -> Full dto (a hold is always PENDING)
+     */
+    @Mapping(source = "amount", target = "totalAmount")
+    @Mapping(target = "status", constant = "PENDING")
+    BookingDto toDto(BookingHold hold);
+
     /**
      * Entity -> list dto (lightweight)
      * @return BookingListDto
@@ -69,4 +77,16 @@ public interface BookingMapper {
 
         dto.setIsExpired(booking.isExpired());
     }
+
+    @AfterMapping
+    default void calculateComputedFields(
+            BookingHold hold,
+            @MappingTarget BookingDto dto
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        dto.setSecondsUntilExpiry(now.isBefore(hold.expiresAt())
+                ? Duration.between(now, hold.expiresAt()).getSeconds()
+                : 0L);
+        dto.setIsExpired(hold.isExpired());
+    }
 }
@@ -6,6 +6,7 @@ import com.ticketblitz.common.constant.BookingStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -75,6 +76,23 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.userId = :userId")
     Page<Booking> findByUserId(@Param("userId") String userId, Pageable pageable);
 
+    /**
+     * find user's bookings older than a cursor position (keyset, newest first)
+     *
+     * seeks on (createdAt, id) instead of OFFSET and skips the COUNT query
+     */
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.userId = :userId " +
+            "AND b.createdAt <= :beforeCreatedAt " +
+            "AND (b.createdAt < :beforeCreatedAt OR b.id < :beforeId) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Booking> findByUserIdBefore(
+            @Param("userId") String userId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
     @Query("SELECT b.id FROM Booking b " +
             "WHERE b.status = 'PENDING' " +
             "AND b.expiresAt < :now")
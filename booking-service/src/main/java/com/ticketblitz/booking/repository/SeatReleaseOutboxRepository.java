@@ -0,0 +1,28 @@
+package com.ticketblitz.booking.repository;
+
+import com.ticketblitz.booking.entity.SeatReleaseOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SeatReleaseOutboxRepository extends JpaRepository<SeatReleaseOutboxEntry, Long> {
+
+    List<SeatReleaseOutboxEntry> findTop100ByCreatedAtBeforeOrderByIdAsc(LocalDateTime createdBefore);
+
+    /**
+     * Own transaction: also called from afterCommit, when the booking
+     * transaction is already committed
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("DELETE FROM SeatReleaseOutboxEntry e WHERE e.id = :id")
+    int deleteDelivered(@Param("id") Long id);
+}
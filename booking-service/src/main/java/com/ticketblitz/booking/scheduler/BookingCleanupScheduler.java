@@ -3,12 +3,17 @@ package com.ticketblitz.booking.scheduler;
 import com.ticketblitz.booking.entity.Booking;
 import com.ticketblitz.booking.repository.BookingRepository;
 import com.ticketblitz.booking.service.BookingExpirationService;
+import com.ticketblitz.booking.service.BookingHoldService;
 import com.ticketblitz.booking.service.DistributedLockService;
+import com.ticketblitz.booking.service.SeatLockingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -23,9 +28,14 @@ public class BookingCleanupScheduler {
     private final BookingRepository bookingRepository;
     private final BookingExpirationService bookingExpirationService;
     private final DistributedLockService lockService;
+    private final ObjectProvider<BookingHoldService> holdService;
+    private final SeatLockingService seatLockingService;
+
+    @Value("${booking.seat-release.redelivery-delay:PT1M}")
+    private Duration redeliveryDelay;
 
     @Scheduled(
-            fixedDelayString = "${booking.reservation.cleanup-interval-minutes:5}",
+            fixedDelayString = "${booking.reservation.cleanup-interval-minutes:1}",
             initialDelay = 1,
             timeUnit = TimeUnit.MINUTES
     )
@@ -75,6 +85,18 @@ public class BookingCleanupScheduler {
                 }
             }
 
+            // Redis holds whose expiry notification was missed
+            BookingHoldService holds = holdService.getIfAvailable();
+            if (holds != null) {
+                cancelledCount += holds.releaseOverdueHolds();
+            }
+
+            // Seat releases left in the outbox by a broker outage or a crash after commit
+            int redelivered = seatLockingService.redeliverPendingReleases(LocalDateTime.now().minus(redeliveryDelay));
+            if (redelivered > 0) {
+                log.warn("Redelivered {} seat releases from the outbox", redelivered);
+            }
+
             long duration = System.currentTimeMillis() - startTime;
             log.info("Cleanup job completed: {} bookings cancelled in {}ms", cancelledCount, duration);
 
@@ -4,14 +4,22 @@ import com.ticketblitz.booking.config.RabbitMQConfig;
 import com.ticketblitz.booking.entity.Booking;
 import com.ticketblitz.booking.entity.BookingItem;
 import com.ticketblitz.common.event.BookingConfirmedEvent;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Publishes domain events to RabbitMQ.
@@ -20,6 +28,9 @@ import java.util.List;
  *   PaymentService confirms booking → this publisher fires
  *   → FulfillmentService picks up the event and generates tickets.
  *
+ *   Booking cancelled / expired / payment failed → SeatsReleasedEvent
+ *   → CatalogService releases the seats.
+ *
  * DESIGN DECISION:
  * ================
  * Event is published AFTER the DB transaction commits (called at the
@@ -27,6 +38,10 @@ import java.util.List;
  * consider using the Transactional Outbox pattern to guarantee
  * exactly-once delivery.
  *
+ * Seat releases already go through one (seat_release_outbox, see
+ * SeatLockingService): they are only delivered once the broker confirms
+ * them, and the outbox row is kept until then.
+ *
  * @author Akhil
  */
 @Slf4j
@@ -36,6 +51,9 @@ public class BookingEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
 
+    @Value("${booking.seat-release.confirm-timeout:PT5S}")
+    private Duration confirmTimeout;
+
     /**
      * Publish a booking-confirmed event with denormalized data
      * so the fulfillment service doesn't need to call back.
@@ -63,6 +81,55 @@ public class BookingEventPublisher {
         log.info("BookingConfirmedEvent published successfully for booking: {}", booking.getId());
     }
 
+    /**
+     * Hand a seat release to catalog-service (see SeatLockingService) and
+     * wait for the broker to confirm it
+     *
+     * @throws AmqpException when the broker rejected or could not route it
+     * @throws IllegalStateException when no confirm arrived in time (it may
+     *         still have been delivered)
+     */
+    public void publishSeatsReleased(SeatsReleasedEvent event) {
+        log.info("Publishing SeatsReleasedEvent ({}) for booking: {}", event.getReason(), event.getBookingId());
+
+        CorrelationData correlation = new CorrelationData(event.getBookingId().toString());
+        rabbitTemplate.convertAndSend(
+                RabbitMQConfig.EXCHANGE_NAME,
+                event.getReason().routingKey(),
+                event,
+                message -> {
+                    message.getMessageProperties()
+                            .setCorrelationId(event.getBookingId().toString());
+
+                    message.getMessageProperties()
+                            .setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+
+                    return message;
+                },
+                correlation
+        );
+
+        CorrelationData.Confirm confirm = awaitConfirm(correlation);
+        if (!confirm.isAck()) {
+            throw new AmqpException("Broker rejected seat release of booking "
+                    + event.getBookingId() + ": " + confirm.getReason());
+        }
+        if (correlation.getReturned() != null) {
+            throw new AmqpException("Seat release of booking " + event.getBookingId() + " could not be routed");
+        }
+    }
+
+    private CorrelationData.Confirm awaitConfirm(CorrelationData correlation) {
+        try {
+            return correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for broker confirm " + correlation.getId(), ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("No broker confirm for " + correlation.getId(), ex);
+        }
+    }
+
     private BookingConfirmedEvent buildEvent(Booking booking) {
         List<BookingConfirmedEvent.SeatInfo> seatInfos = booking.getItems().stream()
                 .map(this::toSeatInfo)
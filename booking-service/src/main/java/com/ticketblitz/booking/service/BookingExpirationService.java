@@ -4,6 +4,7 @@ import com.ticketblitz.booking.entity.Booking;
 import com.ticketblitz.booking.entity.BookingItem;
 import com.ticketblitz.booking.repository.BookingRepository;
 import com.ticketblitz.common.constant.BookingStatus;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,7 +37,8 @@ public class BookingExpirationService {
                 .map(BookingItem::getSeatId)
                 .toList();
 
-        seatLockingService.releaseSeatsInCatalog(booking.getEventId(), seatIds);
+        seatLockingService.releaseSeatsForBooking(
+                bookingId, booking.getEventId(), seatIds, SeatsReleasedEvent.Reason.EXPIRED);
         log.info("Expired booking cancelled: {}, seats released: {}", bookingId, seatIds.size());
 
         return true;
@@ -0,0 +1,319 @@
+package com.ticketblitz.booking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.booking.config.BookingMetrics;
+import com.ticketblitz.booking.dto.BookingDto;
+import com.ticketblitz.booking.dto.BookingHold;
+import com.ticketblitz.booking.mapper.BookingMapper;
+import com.ticketblitz.common.constant.BookingStatus;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisKeyExpiredEvent;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lightweight holds - pending bookings kept in Redis only
+ *
+ * WHY:
+ * ====
+ * Most PENDING bookings are abandoned: each one cost a bookings row, its
+ * booking_items rows and a later cancel update. With booking.hold.store=redis
+ * a hold is written to Redis only, and the bookings row is created when
+ * payment starts. An abandoned cart never touches the bookings database.
+ *
+ * REDIS KEYS:
+ * ===========
+ * booking:hold:{id}          hold JSON        TTL = hold + grace
+ * booking:hold:{id}:expiry   expiry marker    TTL = hold
+ * booking:hold:idem:{key}    idempotency key  TTL = hold + grace
+ * booking:holds:expiring     ZSET id -> expiresAt
+ *
+ * The marker's expiry (keyspace notification) triggers the seat release.
+ * The data key outlives it so the release still knows the seats.
+ *
+ * ONE OWNER PER HOLD:
+ * ===================
+ * Every path that ends a hold (payment, cancel, expiry) first removes the id
+ * from the ZSET. Only the caller whose ZREM returns 1 goes on, so the
+ * seats are released or paid exactly once, even with many instances
+ * receiving the same notification. Notifications are fire-and-forget; the
+ * cleanup scheduler sweeps the ZSET for holds whose notification was missed.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.hold.store", havingValue = "redis")
+public class BookingHoldService {
+
+    private static final String HOLD_KEY_PREFIX = "booking:hold:";
+    private static final String EXPIRY_KEY_SUFFIX = ":expiry";
+    private static final String IDEMPOTENCY_KEY_PREFIX = "booking:hold:idem:";
+    private static final String EXPIRING_HOLDS_KEY = "booking:holds:expiring";
+
+    private static final Duration DATA_GRACE = Duration.ofMinutes(30);
+    // Give the keyspace notification a head start before the sweep takes over
+    private static final Duration SWEEP_DELAY = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final SeatLockingService seatLockingService;
+    private final BookingMapper bookingMapper;
+    private final BookingMetrics metrics;
+
+    /**
+     * Hold ids come from the bookings sequence, so the row written at payment
+     * time keeps the id the client already has
+     */
+    public Long nextId() {
+        return jdbcTemplate.queryForObject("SELECT nextval(pg_get_serial_sequence('bookings', 'id'))", Long.class);
+    }
+
+    public BookingDto save(BookingHold hold) {
+        String json = toJson(hold);
+        String id = hold.id().toString();
+        Duration ttl = Duration.between(LocalDateTime.now(), hold.expiresAt());
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.multi();
+                redis.opsForValue().set(holdKey(hold.id()), json, ttl.plus(DATA_GRACE));
+                redis.opsForValue().set(expiryKey(hold.id()), id, ttl);
+                redis.opsForValue().set(IDEMPOTENCY_KEY_PREFIX + hold.idempotencyKey(), id, ttl.plus(DATA_GRACE));
+                redis.opsForZSet().add(EXPIRING_HOLDS_KEY, id, epochMillis(hold.expiresAt()));
+                return redis.exec();
+            }
+        });
+
+        log.info("Booking hold created in Redis: {}, expires at: {}", hold.id(), hold.expiresAt());
+        return bookingMapper.toDto(hold);
+    }
+
+    public Optional<BookingDto> findById(Long id) {
+        return findHold(id).map(bookingMapper::toDto);
+    }
+
+    public Optional<BookingDto> findByIdempotencyKey(String idempotencyKey) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(IDEMPOTENCY_KEY_PREFIX + idempotencyKey))
+                .flatMap(id -> findById(Long.valueOf(id)));
+    }
+
+    /**
+     * @return the cancelled hold, or empty if id is not a hold (it may be a bookings row)
+     */
+    public Optional<BookingDto> cancel(Long id, String userId) {
+        Optional<BookingHold> found = findHold(id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BookingHold hold = found.get();
+        if (!hold.userId().equals(userId)) {
+            throw new IllegalArgumentException("Unauthorized to cancel this booking");
+        }
+        if (!claim(hold)) {
+            throw new IllegalStateException("Booking is no longer pending and cannot be cancelled.");
+        }
+
+        try {
+            seatLockingService.releaseSeatsForBooking(
+                    hold.id(), hold.eventId(), hold.seatIds(), SeatsReleasedEvent.Reason.CANCELLED);
+        } catch (RuntimeException ex) {
+            unclaim(hold, hold.expiresAt());
+            throw ex;
+        }
+        delete(hold);
+        log.info("Booking hold cancelled: {}", id);
+
+        BookingDto cancelled = bookingMapper.toDto(hold);
+        cancelled.setStatus(BookingStatus.CANCELLED);
+        cancelled.setCancelledAt(LocalDateTime.now());
+        return Optional.of(cancelled);
+    }
+
+    /**
+     * Payment start: turns the hold into a PENDING bookings row inside the
+     * caller's transaction. The Redis keys go once that transaction commits;
+     * on rollback the hold is handed back to the expiry path.
+     *
+     * No-op if id is not a hold (already a bookings row, or unknown).
+     */
+    public void materialize(Long id) {
+        Optional<BookingHold> found = findHold(id);
+        if (found.isEmpty()) {
+            return;
+        }
+
+        BookingHold hold = found.get();
+        if (hold.isExpired() || !claim(hold)) {
+            throw new IllegalStateException("Booking has expired. Cannot process payment.");
+        }
+
+        insertBooking(hold);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    delete(hold);
+                } else {
+                    unclaim(hold, hold.expiresAt());
+                }
+            }
+        });
+        log.info("Booking hold {} persisted for payment", id);
+    }
+
+    @EventListener
+    public void onKeyExpired(RedisKeyExpiredEvent<?> event) {
+        String key = new String((byte[]) event.getSource(), StandardCharsets.UTF_8);
+        if (key.startsWith(HOLD_KEY_PREFIX) && key.endsWith(EXPIRY_KEY_SUFFIX)) {
+            String id = key.substring(HOLD_KEY_PREFIX.length(), key.length() - EXPIRY_KEY_SUFFIX.length());
+            releaseExpired(Long.valueOf(id));
+        }
+    }
+
+    /**
+     * Backstop for expiry notifications lost while no instance was listening
+     */
+    public int releaseOverdueHolds() {
+        double overdue = epochMillis(LocalDateTime.now().minus(SWEEP_DELAY));
+        Set<String> ids = redisTemplate.opsForZSet().rangeByScore(EXPIRING_HOLDS_KEY, 0, overdue);
+        if (ids == null) {
+            return 0;
+        }
+
+        int released = 0;
+        for (String id : ids) {
+            if (releaseExpired(Long.valueOf(id))) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private boolean releaseExpired(Long id) {
+        Optional<BookingHold> found = findHold(id);
+        if (found.isEmpty()) {
+            // Data key gone before anyone released it: nothing left to act on
+            redisTemplate.opsForZSet().remove(EXPIRING_HOLDS_KEY, id.toString());
+            log.warn("Expired booking hold {} has no data left, seats must be released manually", id);
+            return false;
+        }
+
+        BookingHold hold = found.get();
+        if (!claim(hold)) {
+            return false;
+        }
+
+        try {
+            seatLockingService.releaseSeatsForBooking(
+                    hold.id(), hold.eventId(), hold.seatIds(), SeatsReleasedEvent.Reason.EXPIRED);
+        } catch (RuntimeException ex) {
+            // Back into the ZSET as overdue, the next sweep retries
+            unclaim(hold, LocalDateTime.now().minus(SWEEP_DELAY));
+            log.error("Failed to release seats of expired booking hold {}, will retry", id, ex);
+            return false;
+        }
+
+        delete(hold);
+        metrics.incrementHoldsExpired();
+        log.info("Expired booking hold released: {}, seats released: {}", id, hold.seatIds().size());
+        return true;
+    }
+
+    private void insertBooking(BookingHold hold) {
+        jdbcTemplate.update(
+                "INSERT INTO bookings (id, user_id, event_id, event_name, venue_name, event_date, status, " +
+                        "total_amount, total_seats, idempotency_key, reserved_at, expires_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                hold.id(), hold.userId(), hold.eventId(), hold.eventName(), hold.venueName(), hold.eventDate(),
+                BookingStatus.PENDING.name(), hold.amount(), hold.totalSeats(), hold.idempotencyKey(),
+                hold.reservedAt(), hold.expiresAt());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO booking_items (booking_id, seat_id, section, row_label, seat_number, price) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                hold.items(),
+                hold.items().size(),
+                (ps, item) -> {
+                    ps.setLong(1, hold.id());
+                    ps.setLong(2, item.getSeatId());
+                    ps.setString(3, item.getSection());
+                    ps.setString(4, item.getRowLabel());
+                    ps.setInt(5, item.getSeatNumber());
+                    ps.setBigDecimal(6, item.getPrice());
+                });
+    }
+
+    private Optional<BookingHold> findHold(Long id) {
+        String json = redisTemplate.opsForValue().get(holdKey(id));
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, BookingHold.class));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt booking hold " + id, ex);
+        }
+    }
+
+    private boolean claim(BookingHold hold) {
+        Long removed = redisTemplate.opsForZSet().remove(EXPIRING_HOLDS_KEY, hold.id().toString());
+        return removed != null && removed > 0;
+    }
+
+    private void unclaim(BookingHold hold, LocalDateTime releaseAt) {
+        redisTemplate.opsForZSet().add(EXPIRING_HOLDS_KEY, hold.id().toString(), epochMillis(releaseAt));
+    }
+
+    private void delete(BookingHold hold) {
+        redisTemplate.delete(List.of(
+                holdKey(hold.id()),
+                expiryKey(hold.id()),
+                IDEMPOTENCY_KEY_PREFIX + hold.idempotencyKey()));
+    }
+
+    private String toJson(BookingHold hold) {
+        try {
+            return objectMapper.writeValueAsString(hold);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize booking hold " + hold.id(), ex);
+        }
+    }
+
+    private static String holdKey(Long id) {
+        return HOLD_KEY_PREFIX + id;
+    }
+
+    private static String expiryKey(Long id) {
+        return HOLD_KEY_PREFIX + id + EXPIRY_KEY_SUFFIX;
+    }
+
+    private static double epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
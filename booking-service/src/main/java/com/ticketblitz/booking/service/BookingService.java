@@ -1,8 +1,11 @@
 package com.ticketblitz.booking.service;
 
 import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.client.EventInfoNearCache;
 import com.ticketblitz.booking.config.BookingMetrics;
 import com.ticketblitz.booking.dto.BookingDto;
+import com.ticketblitz.booking.dto.BookingHold;
+import com.ticketblitz.booking.dto.BookingItemDto;
 import com.ticketblitz.booking.dto.BookingListDto;
 import com.ticketblitz.booking.dto.CreateBookingRequest;
 import com.ticketblitz.booking.entity.Booking;
@@ -10,20 +13,28 @@ import com.ticketblitz.booking.entity.BookingItem;
 import com.ticketblitz.booking.mapper.BookingMapper;
 import com.ticketblitz.booking.repository.BookingRepository;
 import com.ticketblitz.common.constant.BookingStatus;
-import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.dto.CursorPage;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import com.ticketblitz.common.pagination.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
@@ -32,20 +43,34 @@ public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final DistributedLockService lockService;
-    private final CatalogServiceClient catalogClient;
+    private final EventInfoNearCache eventInfoCache;
     private final SeatLockingService seatLockingService;
     private final BookingMapper bookingMapper;
     private final BookingMetrics metrics;
-
-    @Value("${booking.reservation.timeout-minutes:10}")
-    private int reservationTimeoutMinutes;
-
-    @Transactional
+    private final TransactionTemplate transactionTemplate;
+    // Only with booking.hold.store=redis
+    private final ObjectProvider<BookingHoldService> holdService;
+    private final HoldTtlPolicy holdTtlPolicy;
+
+    /**
+     * Create a booking
+     *
+     * CONNECTION USAGE:
+     * =================
+     * No transaction spans the flow. The idempotency lock, catalog calls,
+     * seat-lock waits and the remote seat lock all run without holding a DB
+     * connection; only the idempotency lookup and the final insert borrow
+     * one, each in its own short transaction.
+     *
+     * With booking.hold.store=redis the booking is kept as a Redis hold
+     * instead, and nothing is written to the database until payment starts.
+     */
     public BookingDto createBooking(String userId, CreateBookingRequest request) {
         log.info("Creating booking for user: {}, event: {}, seats: {}",
                 userId, request.getEventId(), request.getSeatIds());
 
         List<Long> requestedSeatIds = normalizeSeatIds(request.getSeatIds());
+        holdTtlPolicy.recordArrival(request.getEventId());
         return lockService.executeWithFairLock(
                 buildBookingLockKey(request.getIdempotencyKey()),
                 () -> {
@@ -57,11 +82,13 @@ public class BookingService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // Read-write so it stays on the primary and sees a booking created a moment ago
+    @Transactional
     public BookingDto getBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        return bookingRepository.findById(bookingId)
+                .map(bookingMapper::toDto)
+                .or(() -> findHold(hold -> hold.findById(bookingId)))
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found: " + bookingId));
-        return bookingMapper.toDto(booking);
     }
 
     @Transactional(readOnly = true)
@@ -70,40 +97,71 @@ public class BookingService {
                 .map(bookingMapper::toListDto);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorPage<BookingListDto> scrollUserBookings(String userId, String cursor, int size) {
+        SeekCursor before = SeekCursor.decodeOrDefault(cursor, SeekCursor.MAX);
+
+        Slice<Booking> slice = bookingRepository.findByUserIdBefore(
+                userId, before.timestamp(), before.id(), PageRequest.of(0, size));
+
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            Booking last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new SeekCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPage.<BookingListDto>builder()
+                .content(slice.getContent().stream().map(bookingMapper::toListDto).toList())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public BookingDto cancelBooking(Long bookingId, String userId) {
         log.info("Cancelling booking: {}, user: {}", bookingId, userId);
 
+        // Lock first, then the transaction: no connection is held while waiting
         return lockService.executeWithLock(
                 buildBookingLockKey(bookingId.toString()),
-                () -> {
-                    Booking booking = bookingRepository.findByIdWithLock(bookingId)
-                            .orElseThrow(() -> new IllegalArgumentException("Booking not found: " + bookingId));
+                () -> findHold(hold -> hold.cancel(bookingId, userId))
+                        .map(cancelled -> {
+                            metrics.incrementBookingsCancelled();
+                            return cancelled;
+                        })
+                        .orElseGet(() -> cancelPersistedBooking(bookingId, userId))
+        );
+    }
 
-                    if (!booking.getUserId().equals(userId)) {
-                        throw new IllegalArgumentException("Unauthorized to cancel this booking");
-                    }
+    private BookingDto cancelPersistedBooking(Long bookingId, String userId) {
+        return transactionTemplate.execute(status -> {
+            Booking booking = bookingRepository.findByIdWithLock(bookingId)
+                    .orElseThrow(() -> new IllegalArgumentException("Booking not found: " + bookingId));
 
-                    if (!booking.canBeCancelled()) {
-                        throw new IllegalStateException(
-                                "Booking cannot be cancelled in current status: " + booking.getStatus()
-                        );
-                    }
+            if (!booking.getUserId().equals(userId)) {
+                throw new IllegalArgumentException("Unauthorized to cancel this booking");
+            }
 
-                    booking.cancel();
-                    bookingRepository.save(booking);
+            if (!booking.canBeCancelled()) {
+                throw new IllegalStateException(
+                        "Booking cannot be cancelled in current status: " + booking.getStatus()
+                );
+            }
 
-                    List<Long> seatIds = booking.getItems().stream()
-                            .map(BookingItem::getSeatId)
-                            .toList();
+            booking.cancel();
+            bookingRepository.save(booking);
 
-                    seatLockingService.releaseSeatsInCatalog(booking.getEventId(), seatIds);
+            List<Long> seatIds = booking.getItems().stream()
+                    .map(BookingItem::getSeatId)
+                    .toList();
 
-                    metrics.incrementBookingsCancelled();
-                    log.info("Booking cancelled: {}", bookingId);
-                    return bookingMapper.toDto(booking);
-                }
-        );
+            seatLockingService.releaseSeatsForBooking(
+                    bookingId, booking.getEventId(), seatIds, SeatsReleasedEvent.Reason.CANCELLED);
+
+            metrics.incrementBookingsCancelled();
+            log.info("Booking cancelled: {}", bookingId);
+            return bookingMapper.toDto(booking);
+        });
     }
 
     private BookingDto createBookingWithinIdempotencyLock(
@@ -111,23 +169,31 @@ public class BookingService {
             CreateBookingRequest request,
             List<Long> requestedSeatIds
     ) {
-        Booking existingBooking = bookingRepository.findByIdempotencyKey(request.getIdempotencyKey())
-                .orElse(null);
-
-        if (existingBooking != null) {
-            log.info("Booking already exists for idempotency key {}: {}",
-                    request.getIdempotencyKey(), existingBooking.getId());
-            return bookingMapper.toDto(existingBooking);
-        }
+        // Both catalog lookups start now and overlap the idempotency check below
+        CatalogServiceClient.EventInfo event;
+        List<CatalogServiceClient.SeatInfo> seats;
+        try (FanOutScope scope = new FanOutScope()) {
+            Supplier<CatalogServiceClient.EventInfo> eventLookup =
+                    scope.fork(() -> getActiveEvent(request.getEventId()));
+            Supplier<List<CatalogServiceClient.SeatInfo>> seatLookup =
+                    scope.fork(() -> seatLockingService.getSeatsForBooking(request.getEventId(), requestedSeatIds));
+
+            // An existing booking wins over whatever the lookups report (closing the scope cancels them)
+            Optional<BookingDto> existingBooking = findHold(hold -> hold.findByIdempotencyKey(request.getIdempotencyKey()))
+                    .or(() -> transactionTemplate.execute(status ->
+                            bookingRepository.findByIdempotencyKey(request.getIdempotencyKey()).map(bookingMapper::toDto)));
+
+            if (existingBooking.isPresent()) {
+                log.info("Booking already exists for idempotency key {}: {}",
+                        request.getIdempotencyKey(), existingBooking.get().getId());
+                return existingBooking.get();
+            }
 
-        CatalogServiceClient.EventInfo event = getActiveEvent(request.getEventId());
-        if (event.availableSeats() != null && event.availableSeats() < requestedSeatIds.size()) {
-            throw new IllegalStateException("Not enough seats are available for this event.");
+            scope.join();
+            event = eventLookup.get();
+            seats = seatLookup.get();
         }
 
-        List<CatalogServiceClient.SeatInfo> seats =
-                seatLockingService.getSeatsForBooking(request.getEventId(), requestedSeatIds);
-
         BigDecimal totalAmount = seats.stream()
                 .map(CatalogServiceClient.SeatInfo::price)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -136,10 +202,15 @@ public class BookingService {
                 .map(seatId -> buildSeatLockKey(request.getEventId(), seatId))
                 .toList();
 
-        return lockService.executeWithLocks(
-                lockKeys,
-                () -> doCreateBooking(userId, request, requestedSeatIds, event, seats, totalAmount)
-        );
+        try {
+            return lockService.executeWithLocks(
+                    lockKeys,
+                    () -> doCreateBooking(userId, request, requestedSeatIds, event, seats, totalAmount)
+            );
+        } catch (DistributedLockService.LockAcquisitionException ex) {
+            holdTtlPolicy.recordConflict(request.getEventId());
+            throw ex;
+        }
     }
 
     private BookingDto doCreateBooking(
@@ -150,40 +221,20 @@ public class BookingService {
             List<CatalogServiceClient.SeatInfo> seats,
             BigDecimal totalAmount
     ) {
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(reservationTimeoutMinutes);
+        // Shorter under load, so abandoned holds return seats to buyers sooner
+        LocalDateTime expiresAt = LocalDateTime.now().plus(holdTtlPolicy.holdTtl(event));
 
         // 1. Lock seats in catalog FIRST (remote call — most likely to fail)
         seatLockingService.lockSeatsInCatalog(request.getEventId(), requestedSeatIds);
 
         try {
-            // 2. Persist booking only after seats are locked
-            Booking booking = Booking.builder()
-                    .userId(userId)
-                    .eventId(request.getEventId())
-                    .eventName(event.name())
-                    .venueName(extractVenueName(event))
-                    .eventDate(event.eventDate())
-                    .status(BookingStatus.PENDING)
-                    .amount(totalAmount)
-                    .totalSeats(seats.size())
-                    .idempotencyKey(request.getIdempotencyKey())
-                    .expiresAt(expiresAt)
-                    .build();
-
-            for (CatalogServiceClient.SeatInfo seat : seats) {
-                booking.addItem(BookingItem.builder()
-                        .seatId(seat.id())
-                        .section(seat.section())
-                        .rowLabel(seat.rowLabel())
-                        .seatNumber(seat.seatNumber())
-                        .price(seat.price())
-                        .build());
+            // 2. Persist booking only after seats are locked (the only step holding a connection)
+            BookingHoldService holds = holdService.getIfAvailable();
+            if (holds != null) {
+                return holds.save(buildHold(holds.nextId(), userId, request, event, seats, totalAmount, expiresAt));
             }
-
-            booking = bookingRepository.save(booking);
-
-            log.info("Booking created: {}, expires at: {}", booking.getId(), expiresAt);
-            return bookingMapper.toDto(booking);
+            return transactionTemplate.execute(status -> persistBooking(
+                    userId, request, event, seats, totalAmount, expiresAt));
         } catch (Exception ex) {
             // Compensation: release the seats we just locked if DB save fails
             log.error("Failed to persist booking after locking seats, releasing seats for event: {}",
@@ -198,13 +249,84 @@ public class BookingService {
         }
     }
 
-    private CatalogServiceClient.EventInfo getActiveEvent(Long eventId) {
-        ApiResponse<CatalogServiceClient.EventInfo> response = catalogClient.getEvent(eventId);
-        if (response == null || !"success".equalsIgnoreCase(response.getStatus()) || response.getData() == null) {
-            throw new IllegalArgumentException("Event not found: " + eventId);
+    private BookingDto persistBooking(
+            String userId,
+            CreateBookingRequest request,
+            CatalogServiceClient.EventInfo event,
+            List<CatalogServiceClient.SeatInfo> seats,
+            BigDecimal totalAmount,
+            LocalDateTime expiresAt
+    ) {
+        Booking booking = Booking.builder()
+                .userId(userId)
+                .eventId(request.getEventId())
+                .eventName(event.name())
+                .venueName(extractVenueName(event))
+                .eventDate(event.eventDate())
+                .status(BookingStatus.PENDING)
+                .amount(totalAmount)
+                .totalSeats(seats.size())
+                .idempotencyKey(request.getIdempotencyKey())
+                .expiresAt(expiresAt)
+                .build();
+
+        for (CatalogServiceClient.SeatInfo seat : seats) {
+            booking.addItem(BookingItem.builder()
+                    .seatId(seat.id())
+                    .section(seat.section())
+                    .rowLabel(seat.rowLabel())
+                    .seatNumber(seat.seatNumber())
+                    .price(seat.price())
+                    .build());
         }
 
-        CatalogServiceClient.EventInfo event = response.getData();
+        booking = bookingRepository.save(booking);
+
+        log.info("Booking created: {}, expires at: {}", booking.getId(), expiresAt);
+        return bookingMapper.toDto(booking);
+    }
+
+    private BookingHold buildHold(
+            Long id,
+            String userId,
+            CreateBookingRequest request,
+            CatalogServiceClient.EventInfo event,
+            List<CatalogServiceClient.SeatInfo> seats,
+            BigDecimal totalAmount,
+            LocalDateTime expiresAt
+    ) {
+        List<BookingItemDto> items = seats.stream()
+                .map(seat -> BookingItemDto.builder()
+                        .seatId(seat.id())
+                        .section(seat.section())
+                        .rowLabel(seat.rowLabel())
+                        .seatNumber(seat.seatNumber())
+                        .price(seat.price())
+                        .build())
+                .toList();
+
+        return new BookingHold(
+                id,
+                userId,
+                request.getEventId(),
+                event.name(),
+                extractVenueName(event),
+                event.eventDate(),
+                totalAmount,
+                request.getIdempotencyKey(),
+                LocalDateTime.now(),
+                expiresAt,
+                items);
+    }
+
+    private Optional<BookingDto> findHold(Function<BookingHoldService, Optional<BookingDto>> lookup) {
+        BookingHoldService holds = holdService.getIfAvailable();
+        return holds == null ? Optional.empty() : lookup.apply(holds);
+    }
+
+    private CatalogServiceClient.EventInfo getActiveEvent(Long eventId) {
+        CatalogServiceClient.EventInfo event = eventInfoCache.get(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
         if (!"ACTIVE".equalsIgnoreCase(event.status())) {
             throw new IllegalStateException("Event is not available for booking.");
         }
@@ -0,0 +1,353 @@
+package com.ticketblitz.booking.service;
+
+import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.client.EventInfoNearCache;
+import com.ticketblitz.booking.config.BookingMetrics;
+import com.ticketblitz.booking.dto.BookingDto;
+import com.ticketblitz.booking.dto.BulkBookingProgress;
+import com.ticketblitz.booking.dto.BulkBookingRequest;
+import com.ticketblitz.booking.entity.Booking;
+import com.ticketblitz.booking.entity.BookingItem;
+import com.ticketblitz.booking.mapper.BookingMapper;
+import com.ticketblitz.booking.repository.BookingRepository;
+import com.ticketblitz.common.constant.BookingStatus;
+import com.ticketblitz.common.constant.SeatStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Group bookings (hundreds to thousands of seats)
+ *
+ * WHY:
+ * ====
+ * The regular flow takes one distributed lock per seat and sends the seat
+ * IDs as query params; at 500+ seats it times out or hits URL limits.
+ *
+ * FLOW:
+ * =====
+ * 1. Claim the idempotency key (progress record in Redis, no long lock)
+ * 2. Resolve seat IDs: explicit IDs + AVAILABLE seats of the sections,
+ *    as a sorted long[] (no boxing, ascending lock order)
+ * 3. Per chunk of booking.bulk.chunk-size seats, under the event lock:
+ *    fetch (POST body) -> check AVAILABLE -> lock in catalog
+ *    The event lock is released between chunks, so two group orders for
+ *    the same event interleave instead of one holding it for the whole order.
+ * 4. One PENDING booking with every seat; payment works as usual
+ *
+ * Any chunk failing releases the chunks already locked.
+ *
+ * CONCURRENCY:
+ * ============
+ * The event lock only orders group bookings of one event among themselves;
+ * it does not exclude the per-seat locks (booking:seat:{eventId}:{seatId})
+ * of regular bookings. Catalog's lock call is the real guard: it locks a
+ * chunk all or nothing and answers 409 if any seat is no longer AVAILABLE,
+ * so when a regular booking races a chunk one of them fails, never both
+ * succeed. Taking every seat key instead would cost one Redis lock per seat.
+ *
+ * PROGRESS:
+ * =========
+ * booking:bulk:{idempotencyKey} (hash, 1h) - status, chunks locked / total,
+ * booking ID once done. Read by GET /bookings/bulk/{idempotencyKey}.
+ *
+ * The claim is one conditional transition in a Lua script: the key is taken
+ * only if it has no status yet or its last attempt FAILED, so of two retries
+ * of a failed key exactly one gets to lock chunks.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+public class BulkBookingService {
+
+    private static final String PROGRESS_KEY_PREFIX = "booking:bulk:";
+    private static final Duration PROGRESS_TTL = Duration.ofHours(1);
+
+    /**
+     * KEYS[1] progress hash, ARGV[1] FAILED, ARGV[2] new status, ARGV[3] TTL ms.
+     * Returns 1 when claimed, 0 when another attempt holds the key.
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local status = redis.call('HGET', KEYS[1], 'status') " +
+            "if status and status ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'status', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final BookingRepository bookingRepository;
+    private final DistributedLockService lockService;
+    private final EventInfoNearCache eventInfoCache;
+    private final SeatLockingService seatLockingService;
+    private final HoldTtlPolicy holdTtlPolicy;
+    private final BookingMapper bookingMapper;
+    private final BookingMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private final int maxSeats;
+    private final int chunkSize;
+
+    public BulkBookingService(
+            BookingRepository bookingRepository,
+            DistributedLockService lockService,
+            EventInfoNearCache eventInfoCache,
+            SeatLockingService seatLockingService,
+            HoldTtlPolicy holdTtlPolicy,
+            BookingMapper bookingMapper,
+            BookingMetrics metrics,
+            TransactionTemplate transactionTemplate,
+            StringRedisTemplate redisTemplate,
+            @Value("${booking.bulk.max-seats:5000}") int maxSeats,
+            @Value("${booking.bulk.chunk-size:250}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.lockService = lockService;
+        this.eventInfoCache = eventInfoCache;
+        this.seatLockingService = seatLockingService;
+        this.holdTtlPolicy = holdTtlPolicy;
+        this.bookingMapper = bookingMapper;
+        this.metrics = metrics;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.maxSeats = maxSeats;
+        this.chunkSize = chunkSize;
+    }
+
+    public BookingDto createBulkBooking(String userId, BulkBookingRequest request) {
+        String idempotencyKey = request.getIdempotencyKey();
+        log.info("Creating group booking for user: {}, event: {}, key: {}",
+                userId, request.getEventId(), idempotencyKey);
+
+        Optional<BookingDto> existing = transactionTemplate.execute(status ->
+                bookingRepository.findByIdempotencyKey(idempotencyKey).map(bookingMapper::toDto));
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        claim(idempotencyKey);
+
+        try {
+            CatalogServiceClient.EventInfo event = getActiveEvent(request.getEventId());
+            long[] seatIds = resolveSeatIds(request);
+            BookingDto booking = lockAndPersist(userId, request, event, seatIds);
+
+            updateProgress(idempotencyKey, Map.of(
+                    "status", BulkBookingProgress.Status.COMPLETED.name(),
+                    "bookingId", booking.getId().toString()));
+            metrics.incrementBookingsCreated();
+            metrics.incrementSeatsLocked(seatIds.length);
+            return booking;
+        } catch (RuntimeException ex) {
+            updateProgress(idempotencyKey, Map.of(
+                    "status", BulkBookingProgress.Status.FAILED.name(),
+                    "error", String.valueOf(ex.getMessage())));
+            throw ex;
+        }
+    }
+
+    public BulkBookingProgress getProgress(String idempotencyKey) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(progressKey(idempotencyKey));
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No group booking found for key: " + idempotencyKey);
+        }
+
+        return BulkBookingProgress.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(BulkBookingProgress.Status.valueOf((String) fields.get("status")))
+                .totalSeats(intField(fields, "totalSeats"))
+                .totalChunks(intField(fields, "totalChunks"))
+                .chunksLocked(intField(fields, "chunksLocked"))
+                .bookingId(fields.containsKey("bookingId") ? Long.valueOf((String) fields.get("bookingId")) : null)
+                .error((String) fields.get("error"))
+                .build();
+    }
+
+    private BookingDto lockAndPersist(
+            String userId,
+            BulkBookingRequest request,
+            CatalogServiceClient.EventInfo event,
+            long[] seatIds
+    ) {
+        Long eventId = request.getEventId();
+        int totalChunks = (seatIds.length + chunkSize - 1) / chunkSize;
+        updateProgress(request.getIdempotencyKey(), Map.of(
+                "status", BulkBookingProgress.Status.LOCKING.name(),
+                "totalSeats", String.valueOf(seatIds.length),
+                "totalChunks", String.valueOf(totalChunks),
+                "chunksLocked", "0"));
+
+        List<long[]> lockedChunks = new ArrayList<>(totalChunks);
+        List<CatalogServiceClient.SeatInfo> seats = new ArrayList<>(seatIds.length);
+        try {
+            for (int from = 0; from < seatIds.length; from += chunkSize) {
+                long[] chunk = Arrays.copyOfRange(seatIds, from, Math.min(seatIds.length, from + chunkSize));
+                // Serializes group orders only; catalog's atomic lock excludes regular bookings
+                seats.addAll(lockService.executeWithLock(
+                        buildEventLockKey(eventId),
+                        () -> seatLockingService.lockSeatChunk(eventId, chunk)));
+                lockedChunks.add(chunk);
+                redisTemplate.opsForHash().increment(progressKey(request.getIdempotencyKey()), "chunksLocked", 1);
+            }
+
+            LocalDateTime expiresAt = LocalDateTime.now().plus(holdTtlPolicy.holdTtl(event));
+            return transactionTemplate.execute(status -> persistBooking(userId, request, event, seats, expiresAt));
+        } catch (RuntimeException ex) {
+            log.error("Group booking {} failed after {} of {} chunks, releasing locked seats",
+                    request.getIdempotencyKey(), lockedChunks.size(), totalChunks, ex);
+            release(eventId, lockedChunks);
+            throw ex;
+        }
+    }
+
+    private void release(Long eventId, List<long[]> lockedChunks) {
+        for (long[] chunk : lockedChunks) {
+            try {
+                seatLockingService.releaseSeatChunk(eventId, chunk);
+            } catch (Exception releaseEx) {
+                log.error("CRITICAL: Failed to release {} seats during group booking compensation for event: {}. " +
+                        "Manual intervention required.", chunk.length, eventId, releaseEx);
+            }
+        }
+    }
+
+    private BookingDto persistBooking(
+            String userId,
+            BulkBookingRequest request,
+            CatalogServiceClient.EventInfo event,
+            List<CatalogServiceClient.SeatInfo> seats,
+            LocalDateTime expiresAt
+    ) {
+        BigDecimal totalAmount = seats.stream()
+                .map(CatalogServiceClient.SeatInfo::price)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        Booking booking = Booking.builder()
+                .userId(userId)
+                .eventId(request.getEventId())
+                .eventName(event.name())
+                .venueName(event.venue().name())
+                .eventDate(event.eventDate())
+                .status(BookingStatus.PENDING)
+                .amount(totalAmount)
+                .totalSeats(seats.size())
+                .idempotencyKey(request.getIdempotencyKey())
+                .expiresAt(expiresAt)
+                .build();
+
+        for (CatalogServiceClient.SeatInfo seat : seats) {
+            booking.addItem(BookingItem.builder()
+                    .seatId(seat.id())
+                    .section(seat.section())
+                    .rowLabel(seat.rowLabel())
+                    .seatNumber(seat.seatNumber())
+                    .price(seat.price())
+                    .build());
+        }
+
+        booking = bookingRepository.save(booking);
+        log.info("Group booking created: {}, {} seats, expires at: {}", booking.getId(), seats.size(), expiresAt);
+        return bookingMapper.toDto(booking);
+    }
+
+    /**
+     * @return sorted, duplicate-free seat IDs
+     */
+    private long[] resolveSeatIds(BulkBookingRequest request) {
+        long[] explicit = request.getSeatIds() == null
+                ? new long[0]
+                : request.getSeatIds().stream().mapToLong(Long::longValue).sorted().toArray();
+        for (int i = 1; i < explicit.length; i++) {
+            if (explicit[i] == explicit[i - 1]) {
+                throw new IllegalArgumentException("Duplicate seat IDs are not allowed.");
+            }
+        }
+
+        LongStream fromSections = LongStream.empty();
+        if (request.getSections() != null) {
+            for (BulkBookingRequest.SectionSelection selection : request.getSections()) {
+                fromSections = LongStream.concat(fromSections, availableSeatIds(request.getEventId(), selection));
+            }
+        }
+
+        // A seat named explicitly and also covered by a section is booked once
+        long[] seatIds = LongStream.concat(Arrays.stream(explicit), fromSections).sorted().distinct().toArray();
+        if (seatIds.length == 0) {
+            throw new IllegalArgumentException("At least one seat must be selected.");
+        }
+        if (seatIds.length > maxSeats) {
+            throw new IllegalArgumentException("Maximum " + maxSeats + " seats per group booking");
+        }
+        return seatIds;
+    }
+
+    private LongStream availableSeatIds(Long eventId, BulkBookingRequest.SectionSelection selection) {
+        Set<String> rows = selection.getRows() == null || selection.getRows().isEmpty()
+                ? null
+                : new HashSet<>(selection.getRows());
+
+        return seatLockingService.getSeatsInSection(eventId, selection.getSection()).stream()
+                .filter(seat -> seat.status() == SeatStatus.AVAILABLE)
+                .filter(seat -> rows == null || rows.contains(seat.rowLabel()))
+                .mapToLong(CatalogServiceClient.SeatInfo::id);
+    }
+
+    /**
+     * New key or retry of a FAILED attempt (which starts over); anything else
+     * is still being worked on
+     */
+    private void claim(String idempotencyKey) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(progressKey(idempotencyKey)),
+                BulkBookingProgress.Status.FAILED.name(),
+                BulkBookingProgress.Status.RESOLVING.name(),
+                String.valueOf(PROGRESS_TTL.toMillis()));
+        if (claimed == null || claimed != 1L) {
+            throw new IllegalStateException("Group booking " + idempotencyKey + " is already in progress.");
+        }
+    }
+
+    private void updateProgress(String idempotencyKey, Map<String, String> fields) {
+        redisTemplate.opsForHash().putAll(progressKey(idempotencyKey), fields);
+    }
+
+    private CatalogServiceClient.EventInfo getActiveEvent(Long eventId) {
+        CatalogServiceClient.EventInfo event = eventInfoCache.get(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
+        if (!"ACTIVE".equalsIgnoreCase(event.status())) {
+            throw new IllegalStateException("Event is not available for booking.");
+        }
+        if (event.venue() == null || event.venue().name() == null || event.venue().name().isBlank()) {
+            throw new IllegalStateException("Catalog service returned an event without venue information.");
+        }
+        return event;
+    }
+
+    private static Integer intField(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value == null ? null : Integer.valueOf((String) value);
+    }
+
+    private static String progressKey(String idempotencyKey) {
+        return PROGRESS_KEY_PREFIX + idempotencyKey;
+    }
+
+    private static String buildEventLockKey(Long eventId) {
+        return String.format("booking:event:%d", eventId);
+    }
+}
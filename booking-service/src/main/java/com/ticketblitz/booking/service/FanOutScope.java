@@ -0,0 +1,81 @@
+package com.ticketblitz.booking.service;
+
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Fan-out scope for independent blocking calls
+ *
+ * Same contract as StructuredTaskScope.ShutdownOnFailure (still a preview API
+ * in Java 21):
+ * - fork()  runs each subtask on its own virtual thread
+ * - join()  waits for all of them; the first failure cancels (interrupts)
+ *           the rest and is rethrown as-is
+ * - close() cancels whatever is still running and waits for it, so no
+ *           subtask outlives the try-with-resources block
+ *
+ * Trace context is copied into every subtask, so remote calls stay in the
+ * caller's span.
+ *
+ * @author Akhil
+ */
+final class FanOutScope implements AutoCloseable {
+
+    private static final ContextSnapshotFactory CONTEXT = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+    private final List<Future<Object>> subtasks = new ArrayList<>();
+
+    /**
+     * @return the subtask's result; only valid after join()
+     */
+    @SuppressWarnings("unchecked")
+    <T> Supplier<T> fork(Supplier<T> task) {
+        Callable<Object> callable = task::get;
+        Future<Object> future = completion.submit(CONTEXT.captureAll().wrap(callable));
+        subtasks.add(future);
+        return () -> (T) future.resultNow();
+    }
+
+    void join() {
+        try {
+            for (int i = 0; i < subtasks.size(); i++) {
+                completion.take().get();
+            }
+        } catch (ExecutionException ex) {
+            cancelAll();
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for subtasks", ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        subtasks.forEach(future -> future.cancel(true));
+    }
+}
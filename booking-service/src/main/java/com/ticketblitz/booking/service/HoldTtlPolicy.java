@@ -0,0 +1,201 @@
+package com.ticketblitz.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.config.BookingMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adaptive seat-hold TTL
+ *
+ * WHY:
+ * ====
+ * A fixed 10 minute hold is fine for a quiet show, but during an on-sale it
+ * lets abandoned carts park inventory while real buyers see "sold out".
+ * The hold is shortened per event as demand rises, within [min-ttl, max-ttl].
+ *
+ * SIGNALS (per event, sliding window):
+ * ====================================
+ * - arrival rate   booking attempts per second
+ * - conflict ratio attempts that lost a seat (seat taken, lock busy)
+ * - held share     seats held by open bookings / venue capacity
+ *
+ * Each signal is scaled to [0, 1] against its "high" threshold and the
+ * strongest one wins:
+ *
+ *   ttl = max-ttl - (max-ttl - min-ttl) * pressure
+ *
+ * Expired holds are swept every cleanup-interval-minutes, so min-ttl is
+ * never taken below that interval: a shorter hold would only be released
+ * at the next sweep anyway.
+ *
+ * Signals are local to this instance. The gateway's consistent-hash routing
+ * sends an event's bookings to the same instance, so it sees nearly all of
+ * that event's traffic; elsewhere the TTL errs on the long side.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class HoldTtlPolicy {
+
+    private static final int BUCKETS = 12;
+
+    private final BookingMetrics metrics;
+    private final Cache<Long, EventDemand> demand;
+
+    private final boolean enabled;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final long bucketMillis;
+    private final double arrivalRateHigh;
+    private final double conflictRatioHigh;
+    private final double heldShareHigh;
+
+    public HoldTtlPolicy(
+            BookingMetrics metrics,
+            @Value("${booking.reservation.timeout-minutes:10}") int timeoutMinutes,
+            @Value("${booking.reservation.cleanup-interval-minutes:1}") int cleanupIntervalMinutes,
+            @Value("${booking.reservation.adaptive.enabled:true}") boolean enabled,
+            @Value("${booking.reservation.adaptive.min-ttl:2m}") Duration minTtl,
+            @Value("${booking.reservation.adaptive.window:60s}") Duration window,
+            @Value("${booking.reservation.adaptive.arrival-rate-high:50}") double arrivalRateHigh,
+            @Value("${booking.reservation.adaptive.conflict-ratio-high:0.2}") double conflictRatioHigh,
+            @Value("${booking.reservation.adaptive.held-share-high:0.5}") double heldShareHigh
+    ) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.maxTtl = Duration.ofMinutes(timeoutMinutes);
+        Duration sweepInterval = Duration.ofMinutes(cleanupIntervalMinutes);
+        Duration floor = minTtl.compareTo(sweepInterval) > 0 ? minTtl : sweepInterval;
+        this.minTtl = floor.compareTo(maxTtl) < 0 ? floor : maxTtl;
+        this.bucketMillis = Math.max(1, window.toMillis() / BUCKETS);
+        this.arrivalRateHigh = arrivalRateHigh;
+        this.conflictRatioHigh = conflictRatioHigh;
+        this.heldShareHigh = heldShareHigh;
+
+        // Outlives the longest hold, so held seat counts are not dropped early
+        this.demand = Caffeine.newBuilder()
+                .expireAfterAccess(maxTtl.plus(window).multipliedBy(2))
+                .maximumSize(10_000)
+                .build();
+
+        if (enabled) {
+            log.info("Adaptive hold TTL enabled: {} - {}, window={}", this.minTtl, maxTtl, window);
+        }
+    }
+
+    public void recordArrival(Long eventId) {
+        demandOf(eventId).arrivals.add(now());
+    }
+
+    public void recordConflict(Long eventId) {
+        demandOf(eventId).conflicts.add(now());
+        metrics.incrementLockConflicts();
+    }
+
+    /**
+     * @param delta seats locked (positive) or released/booked (negative)
+     */
+    public void recordSeatsHeld(Long eventId, int delta) {
+        AtomicLong held = demandOf(eventId).heldSeats;
+        // Never below zero: holds taken before a restart are released without having been counted
+        held.accumulateAndGet(delta, (current, change) -> Math.max(0, current + change));
+    }
+
+    public Duration holdTtl(CatalogServiceClient.EventInfo event) {
+        if (!enabled) {
+            return maxTtl;
+        }
+
+        EventDemand eventDemand = demandOf(event.id());
+        long now = now();
+        double windowSeconds = bucketMillis * BUCKETS / 1000.0;
+        long arrivals = eventDemand.arrivals.sum(now);
+        long conflicts = eventDemand.conflicts.sum(now);
+
+        double arrivalPressure = scale(arrivals / windowSeconds, arrivalRateHigh);
+        double conflictPressure = arrivals == 0 ? 0 : scale((double) conflicts / arrivals, conflictRatioHigh);
+        double heldPressure = scale(heldShare(event, eventDemand.heldSeats.get()), heldShareHigh);
+        double pressure = Math.max(arrivalPressure, Math.max(conflictPressure, heldPressure));
+
+        long spreadSeconds = maxTtl.minus(minTtl).toSeconds();
+        Duration ttl = maxTtl.minusSeconds(Math.round(spreadSeconds * pressure));
+        metrics.recordHoldTtl(ttl);
+
+        log.debug("Hold TTL for event {}: {} (arrival={}, conflict={}, held={})",
+                event.id(), ttl, arrivalPressure, conflictPressure, heldPressure);
+        return ttl;
+    }
+
+    private EventDemand demandOf(Long eventId) {
+        return demand.get(eventId, id -> new EventDemand(bucketMillis));
+    }
+
+    private static double heldShare(CatalogServiceClient.EventInfo event, long heldSeats) {
+        if (event.venue() == null || event.venue().capacity() == null || event.venue().capacity() <= 0) {
+            return 0;
+        }
+        return (double) heldSeats / event.venue().capacity();
+    }
+
+    private static double scale(double value, double high) {
+        return high <= 0 ? 0 : Math.min(1.0, value / high);
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static final class EventDemand {
+        final WindowedCounter arrivals;
+        final WindowedCounter conflicts;
+        final AtomicLong heldSeats = new AtomicLong();
+
+        EventDemand(long bucketMillis) {
+            this.arrivals = new WindowedCounter(bucketMillis);
+            this.conflicts = new WindowedCounter(bucketMillis);
+        }
+    }
+
+    /**
+     * Ring of BUCKETS time buckets; a bucket is reset when its slot is reused
+     */
+    private static final class WindowedCounter {
+        private final long bucketMillis;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+
+        WindowedCounter(long bucketMillis) {
+            this.bucketMillis = bucketMillis;
+        }
+
+        void add(long nowMillis) {
+            long epoch = nowMillis / bucketMillis;
+            int slot = (int) (epoch % BUCKETS);
+            long seen = epochs.get(slot);
+            if (seen != epoch && epochs.compareAndSet(slot, seen, epoch)) {
+                counts.set(slot, 0);
+            }
+            counts.incrementAndGet(slot);
+        }
+
+        long sum(long nowMillis) {
+            long oldest = nowMillis / bucketMillis - BUCKETS + 1;
+            long total = 0;
+            for (int slot = 0; slot < BUCKETS; slot++) {
+                if (epochs.get(slot) >= oldest) {
+                    total += counts.get(slot);
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -10,8 +10,10 @@ import com.ticketblitz.booking.mapper.PaymentMapper;
 import com.ticketblitz.booking.repository.BookingRepository;
 import com.ticketblitz.booking.repository.PaymentRepository;
 import com.ticketblitz.common.constant.BookingStatus;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,7 +32,7 @@ import java.util.stream.Collectors;
  *
  * PAYMENT FLOW:
  * =============
- * 1. Validate booking exists and is PENDING
+ * 1. Validate booking exists and is PENDING (a Redis hold is persisted first)
  * 2. Create payment record (PENDING)
  * 3. Call payment gateway (mock delay)
  * 4. Update payment status (SUCCESS/FAILED)
@@ -85,6 +87,8 @@ public class PaymentService {
     private final DistributedLockService lockService;
     private final BookingEventPublisher eventPublisher;
     private final BookingMetrics metrics;
+    // Only with booking.hold.store=redis
+    private final ObjectProvider<BookingHoldService> holdService;
 
     @Value("${booking.payment.mock-enabled:true}")
     private boolean mockEnabled;
@@ -120,6 +124,9 @@ public class PaymentService {
      * Core payment processing logic
      */
     private PaymentDto doProcessPayment(Long bookingId, PaymentRequest request) {
+        // A Redis hold becomes a bookings row here, in this transaction
+        holdService.ifAvailable(holds -> holds.materialize(bookingId));
+
         // Lock booking for update
         Booking booking = bookingRepository.findByIdWithLock(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -208,9 +215,11 @@ public class PaymentService {
                     .map(BookingItem::getSeatId)
                     .collect(Collectors.toList());
 
-            seatLockingService.releaseSeatsInCatalog(
+            seatLockingService.releaseSeatsForBooking(
+                    bookingId,
                     booking.getEventId(),
-                    seatIds
+                    seatIds,
+                    SeatsReleasedEvent.Reason.PAYMENT_FAILED
             );
         }
 
@@ -261,7 +270,8 @@ public class PaymentService {
     /**
      * Get payment for booking
      */
-    @Transactional(readOnly = true)
+    // Read-write so it stays on the primary and sees a booking created a moment ago
+    @Transactional
     public PaymentDto getPaymentForBooking(Long bookingId) {
         Payment payment = paymentRepository.findByBookingId(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException(
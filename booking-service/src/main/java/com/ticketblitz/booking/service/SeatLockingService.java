@@ -1,19 +1,45 @@
 package com.ticketblitz.booking.service;
 
+import com.ticketblitz.booking.client.CatalogBulkClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.entity.SeatReleaseOutboxEntry;
+import com.ticketblitz.booking.repository.SeatReleaseOutboxRepository;
 import com.ticketblitz.common.constant.SeatStatus;
 import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Coordinates authoritative inventory transitions with catalog-service.
  *
  * These calls are intentionally synchronous because seat state is part of the
  * booking correctness boundary, not a best-effort side effect.
+ *
+ * Releasing the seats of a booking that ended unpaid is the exception: it
+ * is published to catalog as a SeatsReleasedEvent once the booking change
+ * commits (booking.seat-release.mode=async), so cancel, expiry and failed
+ * payments no longer wait on catalog while holding the booking row.
+ *
+ * The release is also saved to seat_release_outbox in that transaction and
+ * the row deleted once catalog has it, so a broker outage or a crash right
+ * after commit leaves it for the cleanup job to redeliver instead of losing
+ * it with the seats still locked. Catalog releases a booking at most once,
+ * so a redelivered release is harmless.
  */
 @Service
 @Slf4j
@@ -21,6 +47,14 @@ import java.util.List;
 public class SeatLockingService {
 
     private final CatalogServiceClient catalogClient;
+    private final CatalogBulkClient catalogBulkClient;
+    private final HoldTtlPolicy holdTtlPolicy;
+    private final BookingEventPublisher eventPublisher;
+    private final SeatReleaseOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${booking.seat-release.mode:async}")
+    private String releaseMode;
 
     public List<CatalogServiceClient.SeatInfo> getSeatsForBooking(Long eventId, List<Long> seatIds) {
         ApiResponse<List<CatalogServiceClient.SeatInfo>> response = catalogClient.getSeatsByIds(eventId, seatIds);
@@ -34,6 +68,7 @@ public class SeatLockingService {
                 .anyMatch(seat -> seat.status() != SeatStatus.AVAILABLE);
 
         if (unavailableSeatSelected) {
+            holdTtlPolicy.recordConflict(eventId);
             throw new IllegalStateException("One or more selected seats are no longer available.");
         }
 
@@ -42,11 +77,11 @@ public class SeatLockingService {
 
     public void lockSeatsInCatalog(Long eventId, List<Long> seatIds) {
         log.info("Locking {} seats in catalog for event {}", seatIds.size(), eventId);
-        ApiResponse<List<CatalogServiceClient.SeatInfo>> response = catalogClient.lockSeats(
+        lockInCatalog(eventId, () -> catalogClient.lockSeats(
                 eventId,
                 new CatalogServiceClient.SeatOperationRequest(seatIds)
-        );
-        extractData(response, "lock seats in catalog");
+        ));
+        holdTtlPolicy.recordSeatsHeld(eventId, seatIds.size());
     }
 
     public void bookSeatsInCatalog(Long eventId, List<Long> seatIds, Long bookingId) {
@@ -56,6 +91,108 @@ public class SeatLockingService {
                 new CatalogServiceClient.SeatOperationRequest(seatIds)
         );
         extractData(response, "confirm seat booking in catalog");
+        holdTtlPolicy.recordSeatsHeld(eventId, -seatIds.size());
+    }
+
+    /**
+     * Seats of a booking that ended unpaid go back to inventory
+     *
+     * async: saved to the outbox and published after the current
+     * transaction commits (right away, without the outbox, without one);
+     * if RabbitMQ rejects it, released synchronously instead
+     * sync:  released in catalog right away
+     *
+     * @throws RuntimeException only without a transaction, if neither worked
+     */
+    public void releaseSeatsForBooking(
+            Long bookingId,
+            Long eventId,
+            List<Long> seatIds,
+            SeatsReleasedEvent.Reason reason
+    ) {
+        if (!"async".equalsIgnoreCase(releaseMode)) {
+            releaseSeatsInCatalog(eventId, seatIds);
+            return;
+        }
+
+        SeatsReleasedEvent event = SeatsReleasedEvent.builder()
+                .bookingId(bookingId)
+                .eventId(eventId)
+                .seatIds(List.copyOf(seatIds))
+                .reason(reason)
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishOrRelease(event);
+            return;
+        }
+
+        Long outboxId = outboxRepository.save(SeatReleaseOutboxEntry.builder()
+                .bookingId(bookingId)
+                .payload(toJson(event))
+                .build()).getId();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    publishOrRelease(event);
+                    outboxRepository.deleteDelivered(outboxId);
+                } catch (RuntimeException ex) {
+                    log.warn("Seat release of booking {} for event {} not delivered, " +
+                            "the cleanup job will redeliver it", bookingId, eventId, ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * Outbox rows older than createdBefore: their afterCommit delivery
+     * failed or never ran
+     *
+     * @return releases delivered
+     */
+    public int redeliverPendingReleases(LocalDateTime createdBefore) {
+        int delivered = 0;
+        for (SeatReleaseOutboxEntry entry : outboxRepository.findTop100ByCreatedAtBeforeOrderByIdAsc(createdBefore)) {
+            try {
+                publishOrRelease(fromJson(entry.getPayload()));
+                outboxRepository.deleteDelivered(entry.getId());
+                delivered++;
+            } catch (RuntimeException ex) {
+                log.error("CRITICAL: Failed to redeliver seat release of booking {}, will retry.",
+                        entry.getBookingId(), ex);
+            }
+        }
+        return delivered;
+    }
+
+    private void publishOrRelease(SeatsReleasedEvent event) {
+        try {
+            eventPublisher.publishSeatsReleased(event);
+            holdTtlPolicy.recordSeatsHeld(event.getEventId(), -event.getSeatIds().size());
+        } catch (AmqpException ex) {
+            log.warn("Could not publish seat release for booking {}, releasing synchronously",
+                    event.getBookingId(), ex);
+            releaseSeatsInCatalog(event.getEventId(), event.getSeatIds());
+        }
+    }
+
+    private String toJson(SeatsReleasedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize seat release of booking " + event.getBookingId(), ex);
+        }
+    }
+
+    private SeatsReleasedEvent fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, SeatsReleasedEvent.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize seat release", ex);
+        }
     }
 
     public void releaseSeatsInCatalog(Long eventId, List<Long> seatIds) {
@@ -65,6 +202,68 @@ public class SeatLockingService {
                 new CatalogServiceClient.SeatOperationRequest(seatIds)
         );
         extractData(response, "release seats in catalog");
+        holdTtlPolicy.recordSeatsHeld(eventId, -seatIds.size());
+    }
+
+    public List<CatalogServiceClient.SeatInfo> getSeatsInSection(Long eventId, String section) {
+        return extractData(catalogBulkClient.getSeatsBySection(eventId, section), "fetch section " + section);
+    }
+
+    /**
+     * Group booking: validates and locks one chunk of seats
+     *
+     * @return the locked seats, with the prices to charge
+     */
+    public List<CatalogServiceClient.SeatInfo> lockSeatChunk(Long eventId, long[] seatIds) {
+        CatalogBulkClient.SeatChunk chunk = new CatalogBulkClient.SeatChunk(seatIds);
+        List<CatalogServiceClient.SeatInfo> seats =
+                extractData(catalogBulkClient.getSeatsByIds(eventId, chunk), "fetch seat information");
+
+        if (seats.size() != seatIds.length) {
+            throw new IllegalArgumentException("One or more selected seats do not exist for this event.");
+        }
+        if (seats.stream().anyMatch(seat -> seat.status() != SeatStatus.AVAILABLE)) {
+            holdTtlPolicy.recordConflict(eventId);
+            throw new IllegalStateException("One or more selected seats are no longer available.");
+        }
+
+        lockInCatalog(eventId, () -> catalogBulkClient.lockSeats(eventId, chunk));
+        holdTtlPolicy.recordSeatsHeld(eventId, seatIds.length);
+        return seats;
+    }
+
+    public void releaseSeatChunk(Long eventId, long[] seatIds) {
+        log.info("Releasing chunk of {} seats for event {}", seatIds.length, eventId);
+        extractData(catalogBulkClient.releaseSeats(eventId, new CatalogBulkClient.SeatChunk(seatIds)),
+                "release seats in catalog");
+        holdTtlPolicy.recordSeatsHeld(eventId, -seatIds.length);
+    }
+
+    /**
+     * Only a seat another booking got first counts as a conflict for the hold
+     * TTL: a 409 over REST, FAILED_PRECONDITION over gRPC. Catalog outages
+     * and circuit-breaker fallbacks fail the lock without counting.
+     */
+    private <T> T lockInCatalog(Long eventId, Supplier<ApiResponse<T>> lockCall) {
+        ApiResponse<T> response;
+        try {
+            response = lockCall.get();
+        } catch (FeignException.Conflict ex) {
+            holdTtlPolicy.recordConflict(eventId);
+            throw ex;
+        }
+        if (isSeatConflict(response)) {
+            holdTtlPolicy.recordConflict(eventId);
+        }
+        return extractData(response, "lock seats in catalog");
+    }
+
+    private static boolean isSeatConflict(ApiResponse<?> response) {
+        if (response == null || response.getError() == null || response.getError().getCode() == null) {
+            return false;
+        }
+        String code = response.getError().getCode();
+        return code.startsWith(String.valueOf(HttpStatus.CONFLICT.value())) || "FAILED_PRECONDITION".equals(code);
     }
 
     private <T> T extractData(ApiResponse<T> response, String operation) {
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of a user's bookings (newest first)
+CREATE INDEX idx_bookings_user_created_id ON bookings(user_id, created_at DESC, id DESC);
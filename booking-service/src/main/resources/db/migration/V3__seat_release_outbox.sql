@@ -0,0 +1,10 @@
+-- Seat releases written in the same transaction that ends the booking and
+-- deleted once delivered; the cleanup job redelivers whatever is left
+CREATE TABLE IF NOT EXISTS seat_release_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    booking_id BIGINT NOT NULL,
+    payload TEXT NOT NULL, -- SeatsReleasedEvent JSON
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_seat_release_outbox_created ON seat_release_outbox(created_at);
@@ -0,0 +1,260 @@
+package com.ticketblitz.booking.service;
+
+import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.client.EventInfoNearCache;
+import com.ticketblitz.booking.config.BookingMetrics;
+import com.ticketblitz.booking.dto.BookingDto;
+import com.ticketblitz.booking.dto.BulkBookingProgress;
+import com.ticketblitz.booking.dto.BulkBookingRequest;
+import com.ticketblitz.booking.entity.Booking;
+import com.ticketblitz.booking.mapper.BookingMapper;
+import com.ticketblitz.booking.repository.BookingRepository;
+import com.ticketblitz.common.constant.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Group booking flow with catalog, Redis and the database mocked: the
+ * idempotency claim, restarting a FAILED attempt, and releasing the chunks
+ * already locked when a later chunk fails.
+ */
+class BulkBookingServiceTest {
+
+    private static final long EVENT_ID = 7L;
+    private static final int CHUNK_SIZE = 2;
+
+    private final Map<String, Map<Object, Object>> redisHashes = new HashMap<>();
+    private final Map<String, Long> redisTtls = new HashMap<>();
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final DistributedLockService lockService = mock(DistributedLockService.class);
+    private final EventInfoNearCache eventInfoCache = mock(EventInfoNearCache.class);
+    private final SeatLockingService seatLockingService = mock(SeatLockingService.class);
+    private final HoldTtlPolicy holdTtlPolicy = mock(HoldTtlPolicy.class);
+    private final BookingMapper bookingMapper = mock(BookingMapper.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private BulkBookingService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(lockService.executeWithLock(anyString(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
+        when(eventInfoCache.get(EVENT_ID)).thenReturn(Optional.of(event()));
+        when(holdTtlPolicy.holdTtl(any())).thenReturn(Duration.ofMinutes(10));
+        when(bookingRepository.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookingMapper.toDto(any(Booking.class))).thenReturn(BookingDto.builder().id(42L).build());
+        when(seatLockingService.lockSeatChunk(eq(EVENT_ID), any())).thenAnswer(invocation ->
+                seats(invocation.getArgument(1)));
+
+        HashOperations<String, Object, Object> hashes = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashes);
+        // The claim script, run atomically like Redis would
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            Object status = hash(key).get("status");
+            if (status != null && !status.equals(invocation.getArgument(2))) {
+                return 0L;
+            }
+            redisHashes.remove(key);
+            hash(key).put("status", invocation.getArgument(3));
+            redisTtls.put(key, Long.valueOf(invocation.getArgument(4)));
+            return 1L;
+        });
+        when(hashes.entries(anyString())).thenAnswer(invocation -> Map.copyOf(hash(invocation.getArgument(0))));
+        when(hashes.increment(anyString(), any(), anyLong())).thenAnswer(invocation -> {
+            Map<Object, Object> hash = hash(invocation.getArgument(0));
+            long value = Long.parseLong((String) hash.getOrDefault(invocation.getArgument(1), "0"))
+                    + invocation.<Long>getArgument(2);
+            hash.put(invocation.getArgument(1), String.valueOf(value));
+            return value;
+        });
+        doAnswer(invocation -> {
+            hash(invocation.getArgument(0)).putAll(invocation.getArgument(1));
+            return null;
+        }).when(hashes).putAll(anyString(), anyMap());
+
+        service = new BulkBookingService(bookingRepository, lockService, eventInfoCache, seatLockingService,
+                holdTtlPolicy, bookingMapper, mock(BookingMetrics.class), transactionTemplate, redisTemplate,
+                5000, CHUNK_SIZE);
+    }
+
+    @Test
+    void shouldLockInChunksAndRecordProgress() {
+        BulkBookingRequest request = request(5, 1, 3, 2, 4);
+
+        BookingDto booking = service.createBulkBooking("user-1", request);
+
+        assertThat(booking.getId()).isEqualTo(42L);
+        verify(seatLockingService).lockSeatChunk(EVENT_ID, new long[]{1, 2});
+        verify(seatLockingService).lockSeatChunk(EVENT_ID, new long[]{3, 4});
+        verify(seatLockingService).lockSeatChunk(EVENT_ID, new long[]{5});
+
+        BulkBookingProgress progress = service.getProgress(request.getIdempotencyKey());
+        assertThat(progress.getStatus()).isEqualTo(BulkBookingProgress.Status.COMPLETED);
+        assertThat(progress.getChunksLocked()).isEqualTo(3);
+        assertThat(progress.getTotalChunks()).isEqualTo(3);
+        assertThat(progress.getBookingId()).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldRejectAKeyThatIsStillInProgress() {
+        BulkBookingRequest request = request(1, 2);
+        hash(progressKey(request)).put("status", BulkBookingProgress.Status.LOCKING.name());
+
+        assertThatThrownBy(() -> service.createBulkBooking("user-1", request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already in progress");
+        verify(seatLockingService, never()).lockSeatChunk(anyLong(), any());
+    }
+
+    @Test
+    void shouldReturnTheBookingOfACompletedKey() {
+        BulkBookingRequest request = request(1, 2);
+        Booking existing = Booking.builder().idempotencyKey(request.getIdempotencyKey()).build();
+        when(bookingRepository.findByIdempotencyKey(request.getIdempotencyKey())).thenReturn(Optional.of(existing));
+
+        assertThat(service.createBulkBooking("user-1", request).getId()).isEqualTo(42L);
+        verify(seatLockingService, never()).lockSeatChunk(anyLong(), any());
+        assertThat(redisHashes).isEmpty();
+    }
+
+    @Test
+    void shouldStartOverWhenThePreviousAttemptFailed() {
+        BulkBookingRequest request = request(1, 2, 3);
+        Map<Object, Object> previous = hash(progressKey(request));
+        previous.put("status", BulkBookingProgress.Status.FAILED.name());
+        previous.put("chunksLocked", "1");
+        previous.put("error", "catalog down");
+
+        service.createBulkBooking("user-1", request);
+
+        BulkBookingProgress progress = service.getProgress(request.getIdempotencyKey());
+        assertThat(progress.getStatus()).isEqualTo(BulkBookingProgress.Status.COMPLETED);
+        assertThat(progress.getChunksLocked()).isEqualTo(2);
+        assertThat(progress.getError()).isNull();
+        assertThat(redisTtls).containsEntry(progressKey(request), Duration.ofHours(1).toMillis());
+    }
+
+    @Test
+    void shouldLetOnlyOneRetryOfAFailedAttemptThrough() {
+        BulkBookingRequest request = request(1, 2, 3);
+        hash(progressKey(request)).put("status", BulkBookingProgress.Status.FAILED.name());
+
+        // A second retry of the same key arrives while the first is locking chunks
+        AtomicReference<Throwable> secondRetry = new AtomicReference<>();
+        when(seatLockingService.lockSeatChunk(EVENT_ID, new long[]{1, 2})).thenAnswer(invocation -> {
+            secondRetry.set(catchThrowable(() -> service.createBulkBooking("user-1", request)));
+            return seats(invocation.getArgument(1));
+        });
+
+        service.createBulkBooking("user-1", request);
+
+        assertThat(secondRetry.get())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already in progress");
+        verify(seatLockingService).lockSeatChunk(EVENT_ID, new long[]{1, 2});
+        assertThat(service.getProgress(request.getIdempotencyKey()).getStatus())
+                .isEqualTo(BulkBookingProgress.Status.COMPLETED);
+    }
+
+    @Test
+    void shouldReleaseLockedChunksWhenALaterChunkFails() {
+        BulkBookingRequest request = request(1, 2, 3, 4, 5);
+        when(seatLockingService.lockSeatChunk(EVENT_ID, new long[]{3, 4}))
+                .thenThrow(new IllegalStateException("One or more selected seats are no longer available."));
+
+        assertThatThrownBy(() -> service.createBulkBooking("user-1", request))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(seatLockingService).releaseSeatChunk(EVENT_ID, new long[]{1, 2});
+        verify(seatLockingService, never()).releaseSeatChunk(EVENT_ID, new long[]{3, 4});
+        verify(seatLockingService, never()).lockSeatChunk(EVENT_ID, new long[]{5});
+        verify(bookingRepository, never()).save(any());
+
+        BulkBookingProgress progress = service.getProgress(request.getIdempotencyKey());
+        assertThat(progress.getStatus()).isEqualTo(BulkBookingProgress.Status.FAILED);
+        assertThat(progress.getError()).contains("no longer available");
+    }
+
+    @Test
+    void shouldKeepCompensatingWhenOneReleaseFails() {
+        BulkBookingRequest request = request(1, 2, 3, 4, 5);
+        when(seatLockingService.lockSeatChunk(EVENT_ID, new long[]{5}))
+                .thenThrow(new IllegalStateException("Failed to lock seats in catalog"));
+        doThrow(new IllegalStateException("catalog down"))
+                .when(seatLockingService).releaseSeatChunk(EVENT_ID, new long[]{1, 2});
+
+        assertThatThrownBy(() -> service.createBulkBooking("user-1", request))
+                .hasMessageContaining("Failed to lock seats");
+
+        verify(seatLockingService).releaseSeatChunk(EVENT_ID, new long[]{3, 4});
+    }
+
+    private Map<Object, Object> hash(String key) {
+        return redisHashes.computeIfAbsent(key, k -> new HashMap<>());
+    }
+
+    private static String progressKey(BulkBookingRequest request) {
+        return "booking:bulk:" + request.getIdempotencyKey();
+    }
+
+    private static BulkBookingRequest request(long... seatIds) {
+        return BulkBookingRequest.builder()
+                .eventId(EVENT_ID)
+                .seatIds(LongStream.of(seatIds).boxed().toList())
+                .idempotencyKey(UUID.randomUUID().toString())
+                .build();
+    }
+
+    private static List<CatalogServiceClient.SeatInfo> seats(long[] seatIds) {
+        return LongStream.of(seatIds)
+                .mapToObj(id -> new CatalogServiceClient.SeatInfo(
+                        id, "A", "1", (int) id, new BigDecimal("50.00"), SeatStatus.AVAILABLE))
+                .toList();
+    }
+
+    private static CatalogServiceClient.EventInfo event() {
+        return new CatalogServiceClient.EventInfo(EVENT_ID, "Finals", LocalDateTime.now().plusDays(30), 1000,
+                "ACTIVE", new CatalogServiceClient.VenueInfo(
+                        1L, "Arena", null, "Boston", null, null, null, 20_000, null));
+    }
+}
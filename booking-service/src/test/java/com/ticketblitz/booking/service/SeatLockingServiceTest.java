@@ -0,0 +1,117 @@
+package com.ticketblitz.booking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.booking.client.CatalogBulkClient;
+import com.ticketblitz.booking.client.CatalogServiceClient;
+import com.ticketblitz.booking.entity.SeatReleaseOutboxEntry;
+import com.ticketblitz.booking.repository.SeatReleaseOutboxRepository;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Async seat releases through the outbox: the row is written with the
+ * booking change, deleted only once the release is delivered, and
+ * redelivered by the cleanup job otherwise.
+ */
+class SeatLockingServiceTest {
+
+    private static final long BOOKING_ID = 11L;
+    private static final long EVENT_ID = 7L;
+
+    private final BookingEventPublisher eventPublisher = mock(BookingEventPublisher.class);
+    private final SeatReleaseOutboxRepository outboxRepository = mock(SeatReleaseOutboxRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SeatLockingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SeatLockingService(mock(CatalogServiceClient.class), mock(CatalogBulkClient.class),
+                mock(HoldTtlPolicy.class), eventPublisher, outboxRepository, objectMapper);
+        ReflectionTestUtils.setField(service, "releaseMode", "async");
+        when(outboxRepository.save(any(SeatReleaseOutboxEntry.class))).thenAnswer(invocation -> {
+            SeatReleaseOutboxEntry entry = invocation.getArgument(0);
+            entry.setId(99L);
+            return entry;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldDeleteTheOutboxRowOnceDelivered() throws Exception {
+        service.releaseSeatsForBooking(BOOKING_ID, EVENT_ID, List.of(1L, 2L), SeatsReleasedEvent.Reason.EXPIRED);
+
+        ArgumentCaptor<SeatReleaseOutboxEntry> saved = ArgumentCaptor.forClass(SeatReleaseOutboxEntry.class);
+        verify(outboxRepository).save(saved.capture());
+        SeatsReleasedEvent payload = objectMapper.readValue(saved.getValue().getPayload(), SeatsReleasedEvent.class);
+        assertThat(payload.getBookingId()).isEqualTo(BOOKING_ID);
+        assertThat(payload.getSeatIds()).containsExactly(1L, 2L);
+        verify(eventPublisher, never()).publishSeatsReleased(any());
+
+        commit();
+
+        verify(eventPublisher).publishSeatsReleased(payload);
+        verify(outboxRepository).deleteDelivered(99L);
+    }
+
+    @Test
+    void shouldKeepTheOutboxRowWhenDeliveryFails() {
+        doThrow(new IllegalStateException("No broker confirm for 11"))
+                .when(eventPublisher).publishSeatsReleased(any());
+
+        service.releaseSeatsForBooking(BOOKING_ID, EVENT_ID, List.of(1L), SeatsReleasedEvent.Reason.CANCELLED);
+        commit();
+
+        verify(outboxRepository, never()).deleteDelivered(anyLong());
+    }
+
+    @Test
+    void shouldRedeliverWhatIsLeftInTheOutbox() throws Exception {
+        SeatsReleasedEvent event = SeatsReleasedEvent.builder()
+                .bookingId(BOOKING_ID)
+                .eventId(EVENT_ID)
+                .seatIds(List.of(3L, 4L))
+                .reason(SeatsReleasedEvent.Reason.PAYMENT_FAILED)
+                .occurredAt(LocalDateTime.now().withNano(0))
+                .build();
+        SeatReleaseOutboxEntry delivered = SeatReleaseOutboxEntry.builder()
+                .id(1L).bookingId(BOOKING_ID).payload(objectMapper.writeValueAsString(event)).build();
+        SeatReleaseOutboxEntry corrupt = SeatReleaseOutboxEntry.builder()
+                .id(2L).bookingId(12L).payload("{").build();
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(1);
+        when(outboxRepository.findTop100ByCreatedAtBeforeOrderByIdAsc(cutoff)).thenReturn(List.of(corrupt, delivered));
+
+        assertThat(service.redeliverPendingReleases(cutoff)).isEqualTo(1);
+
+        verify(eventPublisher).publishSeatsReleased(event);
+        verify(outboxRepository).deleteDelivered(1L);
+        verify(outboxRepository, never()).deleteDelivered(2L);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
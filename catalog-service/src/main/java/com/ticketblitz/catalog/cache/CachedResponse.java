@@ -0,0 +1,29 @@
+package com.ticketblitz.catalog.cache;
+
+/**
+ * Fully serialized HTTP response body kept by {@link ResponseBodyCache}.
+ *
+ * gzipBody is only present when the identity body was large enough for
+ * compression to pay off; clients without gzip support get the plain bytes.
+ *
+ * @author Akhil
+ */
+public record CachedResponse(
+        String contentType,
+        byte[] body,
+        byte[] gzipBody,
+        String etag
+) {
+
+    public boolean hasGzipVariant() {
+        return gzipBody != null;
+    }
+
+    /**
+     * Approximate heap cost, used as the Caffeine weight
+     */
+    public int weight() {
+        int gzipLength = gzipBody != null ? gzipBody.length : 0;
+        return body.length + gzipLength + etag.length() + 64;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ticketblitz.catalog.cache;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import com.ticketblitz.common.event.CatalogChannels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Event Change Broadcaster
+ *
+ * Tells other services (booking's EventInfo near-cache) which events changed,
+ * on {@link CatalogChannels#EVENT_CHANGED}.
+ *
+ * WHAT COUNTS AS A CHANGE:
+ * ========================
+ * Only the fields other services cache: name, date, status, venue.
+ * Seat counts change on every booking and are deliberately not broadcast.
+ *
+ * Changes come from the upcoming event store: seat-write refreshes and the
+ * periodic full reload, which catches rows edited outside the service. Every
+ * catalog instance broadcasts what it sees; duplicates are harmless.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class EventChangeBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+
+    // Listeners run one at a time on the store's scheduler thread
+    private final Map<Long, Fingerprint> fingerprints = new HashMap<>();
+    private boolean baselineLoaded;
+
+    public EventChangeBroadcaster(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @EventListener
+    public void onUpcomingEventsChanged(UpcomingEventsChangedEvent change) {
+        Set<Long> changed = new HashSet<>();
+
+        if (change.fullReload()) {
+            Map<Long, Fingerprint> loaded = new HashMap<>();
+            change.events().forEach(event -> loaded.put(event.getId(), Fingerprint.of(event)));
+
+            // Nothing to compare against on the first load. Otherwise both sides:
+            // events gone or edited, and events that newly became upcoming
+            if (baselineLoaded) {
+                Set<Long> ids = new HashSet<>(fingerprints.keySet());
+                ids.addAll(loaded.keySet());
+                ids.forEach(id -> {
+                    if (!Objects.equals(fingerprints.get(id), loaded.get(id))) {
+                        changed.add(id);
+                    }
+                });
+            }
+            fingerprints.clear();
+            fingerprints.putAll(loaded);
+            baselineLoaded = true;
+        } else {
+            change.current().forEach((id, event) -> {
+                Fingerprint after = event == null ? null : Fingerprint.of(event);
+                Fingerprint before = after == null ? fingerprints.remove(id) : fingerprints.put(id, after);
+                if (!Objects.equals(before, after)) {
+                    changed.add(id);
+                }
+            });
+        }
+
+        changed.forEach(this::broadcast);
+    }
+
+    private void broadcast(Long eventId) {
+        try {
+            redisTemplate.convertAndSend(CatalogChannels.EVENT_CHANGED, eventId.toString());
+        } catch (Exception ex) {
+            // Subscribers fall back to their TTL
+            log.warn("Failed to broadcast change of event {}: {}", eventId, ex.getMessage());
+        }
+    }
+
+    private record Fingerprint(String name, LocalDateTime eventDate, Event.EventStatus status, String venueName) {
+
+        static Fingerprint of(EventListDto event) {
+            return new Fingerprint(event.getName(), event.getEventDate(), event.getStatus(), event.getVenueName());
+        }
+    }
+}
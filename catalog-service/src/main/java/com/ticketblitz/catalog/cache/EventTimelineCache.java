@@ -0,0 +1,394 @@
+package com.ticketblitz.catalog.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.repository.EventRepository;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Event Timeline Cache
+ *
+ * Upcoming ACTIVE events as Redis sorted sets scored by eventDate, so a
+ * date-ordered page is a range read at any depth instead of a sorted,
+ * counted Postgres query cached per page.
+ *
+ * KEYS:
+ * =====
+ * catalog:timeline:all                 ZSET  event id -> eventDate (epoch s)
+ * catalog:timeline:city:{city}         ZSET  same, one per city (trimmed, lowercase)
+ * catalog:timeline:category:{category} ZSET  same, one per category
+ * catalog:timeline:rows                HASH  event id -> EventListDto JSON
+ * catalog:timeline:keys                SET   every timeline key above
+ * catalog:timeline:changes             ZSET  event id -> last refresh (epoch ms)
+ * catalog:timeline:built               marker, expires if no instance rebuilds
+ *
+ * READ:
+ * =====
+ * ZCOUNT + ZRANGEBYSCORE [now, +inf] LIMIT offset size (pipelined), then one
+ * HMGET for the rows. Started events fall out by score, no cleanup needed.
+ *
+ * WRITE:
+ * ======
+ * Driven by the upcoming event store on every instance:
+ * - full reload -> rebuild into temp keys and RENAME over (one instance per
+ *   half interval, guarded by a SET NX lock)
+ * - refresh     -> ZREM/ZADD/HSET only the changed events (idempotent), and
+ *   note the ids in the changes journal
+ *
+ * REBUILD RACE:
+ * =============
+ * A rebuild renames a snapshot read before it started over the live keys,
+ * so a refresh that another instance applied in between is overwritten.
+ * After the swap the rebuilding instance re-reads every id in the journal
+ * and applies it on top (a refresh landing before the RENAME has its journal
+ * entry written first, so it is always seen), then drops the entries older
+ * than the rebuild.
+ *
+ * Any Redis failure or missing build returns empty and callers fall back to
+ * Postgres.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class EventTimelineCache {
+
+    static final String KEY_PREFIX = "catalog:timeline:";
+    static final String ALL_KEY = KEY_PREFIX + "all";
+    static final String ROWS_KEY = KEY_PREFIX + "rows";
+    static final String KEYS_KEY = KEY_PREFIX + "keys";
+    static final String CHANGES_KEY = KEY_PREFIX + "changes";
+    static final String BUILT_KEY = KEY_PREFIX + "built";
+    static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+
+    private static final String TEMP_SUFFIX = ":building";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final Duration rebuildInterval;
+
+    public EventTimelineCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            EventRepository eventRepository,
+            @Value("${catalog.timeline.enabled:true}") boolean enabled,
+            @Value("${catalog.in-memory-index.full-rebuild-interval:PT10M}") Duration rebuildInterval
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * Same normalization as the LOWER(TRIM(city)) database lookups, so the
+     * timeline and its fallback agree on which events are in a city
+     */
+    public static String cityKey(String city) {
+        return KEY_PREFIX + "city:" + city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String categoryKey(Event.EventCategory category) {
+        return KEY_PREFIX + "category:" + category.name();
+    }
+
+    public static String allKey() {
+        return ALL_KEY;
+    }
+
+    /**
+     * One page of a timeline in eventDate order
+     *
+     * @return empty when the timeline is unavailable - use the database
+     */
+    public Optional<Page<EventListDto>> page(String timelineKey, Pageable pageable, boolean descending) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            double min = score(LocalDateTime.now());
+            double max = Double.POSITIVE_INFINITY;
+            long offset = pageable.getOffset();
+            int size = pageable.getPageSize();
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.exists(BUILT_KEY);
+                redis.zCount(timelineKey, min, max);
+                if (descending) {
+                    redis.zRevRangeByScore(timelineKey, min, max, offset, size);
+                } else {
+                    redis.zRangeByScore(timelineKey, min, max, offset, size);
+                }
+                return null;
+            });
+
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return Optional.empty();
+            }
+
+            long total = ((Number) results.get(1)).longValue();
+            @SuppressWarnings("unchecked")
+            Collection<String> ids = (Collection<String>) results.get(2);
+
+            return Optional.of(new PageImpl<>(loadRows(new ArrayList<>(ids)), pageable, total));
+        } catch (Exception ex) {
+            log.warn("Event timeline read failed, using database: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @EventListener
+    public void onUpcomingEventsChanged(UpcomingEventsChangedEvent change) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (change.fullReload()) {
+                rebuild(change.events());
+            } else {
+                apply(change.changedIds(), change.previous(), change.current(), true);
+            }
+        } catch (Exception ex) {
+            // The next full reload repairs whatever was missed
+            log.warn("Event timeline update failed: {}", ex.getMessage());
+        }
+    }
+
+    private void rebuild(Collection<EventListDto> events) {
+        Duration lockTtl = rebuildInterval.dividedBy(2);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", lockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Event timeline rebuilt recently by another instance, skipping");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, Map<String, Double>> timelines = new HashMap<>();
+        Map<String, String> rows = new HashMap<>();
+        for (EventListDto event : events) {
+            if (!isListed(event)) {
+                continue;
+            }
+            String id = event.getId().toString();
+            double score = score(event.getEventDate());
+            for (String key : timelineKeys(event)) {
+                timelines.computeIfAbsent(key, k -> new HashMap<>()).put(id, score);
+            }
+            rows.put(id, toJson(event));
+        }
+
+        Set<String> previousKeys = redisTemplate.opsForSet().members(KEYS_KEY);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+
+            // Rows first: a timeline never points at a row that is not there yet
+            writeRenamed(redis, ROWS_KEY, () -> {
+                if (!rows.isEmpty()) {
+                    redis.hMSet(ROWS_KEY + TEMP_SUFFIX, rows);
+                }
+            }, rows.isEmpty());
+
+            timelines.forEach((key, members) -> writeRenamed(redis, key, () ->
+                    members.forEach((id, score) -> redis.zAdd(key + TEMP_SUFFIX, score, id)), false));
+
+            if (previousKeys != null) {
+                previousKeys.stream()
+                        .filter(key -> !timelines.containsKey(key))
+                        .forEach(redis::del);
+            }
+
+            redis.del(KEYS_KEY);
+            if (!timelines.isEmpty()) {
+                redis.sAdd(KEYS_KEY, timelines.keySet().toArray(new String[0]));
+            }
+            redis.setEx(BUILT_KEY, rebuildInterval.multipliedBy(3).toSeconds(), "1");
+            return null;
+        });
+
+        int reapplied = reapplyRecentChanges(events, startedAt);
+
+        log.info("Event timeline rebuilt: {} events, {} timelines, {} recent changes re-applied",
+                rows.size(), timelines.size(), reapplied);
+    }
+
+    /**
+     * Re-read every journaled id and apply it over the swapped-in snapshot,
+     * then forget the entries the snapshot could not have missed
+     */
+    private int reapplyRecentChanges(Collection<EventListDto> snapshot, long startedAt) {
+        Set<String> journaled = redisTemplate.opsForZSet().range(CHANGES_KEY, 0, -1);
+        if (journaled == null || journaled.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> ids = new HashSet<>();
+        journaled.forEach(id -> ids.add(Long.valueOf(id)));
+
+        Map<Long, EventListDto> previous = new HashMap<>();
+        for (EventListDto event : snapshot) {
+            if (ids.contains(event.getId())) {
+                previous.put(event.getId(), event);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, EventListDto> current = new HashMap<>();
+        for (EventListDto event : eventRepository.findListRowsByIds(ids)) {
+            if (!event.getEventDate().isBefore(now)) {
+                current.put(event.getId(), event);
+            }
+        }
+
+        apply(ids, previous, current, false);
+        redisTemplate.opsForZSet().removeRangeByScore(CHANGES_KEY, Double.NEGATIVE_INFINITY, startedAt);
+        return ids.size();
+    }
+
+    private void apply(
+            Collection<Long> changedIds,
+            Map<Long, EventListDto> previous,
+            Map<Long, EventListDto> current,
+            boolean journal
+    ) {
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (journal) {
+                // Before the writes, so a rebuild that swaps after them sees the ids
+                changedIds.forEach(id -> redis.zAdd(CHANGES_KEY, now, id.toString()));
+                redis.zRemRangeByScore(CHANGES_KEY, Double.NEGATIVE_INFINITY, now - rebuildInterval.toMillis());
+            }
+            for (Long id : changedIds) {
+                EventListDto before = previous.get(id);
+                EventListDto after = current.get(id);
+                String member = id.toString();
+
+                if (before != null) {
+                    timelineKeys(before).forEach(key -> redis.zRem(key, member));
+                }
+                if (after != null && isListed(after)) {
+                    double score = score(after.getEventDate());
+                    List<String> keys = timelineKeys(after);
+                    keys.forEach(key -> redis.zAdd(key, score, member));
+                    redis.sAdd(KEYS_KEY, keys.toArray(new String[0]));
+                    redis.hSet(ROWS_KEY, member, toJson(after));
+                } else {
+                    redis.hDel(ROWS_KEY, member);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * HMGET the rows; any that are missing are read from the database
+     */
+    private List<EventListDto> loadRows(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> json = redisTemplate.opsForHash().multiGet(ROWS_KEY, new ArrayList<>(ids));
+        Map<Long, EventListDto> rows = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = Long.valueOf(ids.get(i));
+            Object value = json.get(i);
+            if (value != null) {
+                rows.put(id, fromJson((String) value));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            eventRepository.findListRowsByIds(missing).forEach(row -> rows.put(row.getId(), row));
+        }
+
+        List<EventListDto> content = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            EventListDto row = rows.get(Long.valueOf(id));
+            if (row != null) {
+                content.add(row);
+            }
+        }
+        return content;
+    }
+
+    private void writeRenamed(StringRedisConnection redis, String key, Runnable fill, boolean empty) {
+        String temp = key + TEMP_SUFFIX;
+        redis.del(temp);
+        fill.run();
+        if (empty) {
+            redis.del(key);
+        } else {
+            redis.rename(temp, key);
+        }
+    }
+
+    private static List<String> timelineKeys(EventListDto event) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(ALL_KEY);
+        if (event.getVenueCity() != null && !event.getVenueCity().isBlank()) {
+            keys.add(cityKey(event.getVenueCity()));
+        }
+        keys.add(categoryKey(event.getCategory()));
+        return keys;
+    }
+
+    private static boolean isListed(EventListDto event) {
+        return event.getStatus() == Event.EventStatus.ACTIVE;
+    }
+
+    private static long score(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private String toJson(EventListDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize event " + event.getId(), ex);
+        }
+    }
+
+    private EventListDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, EventListDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize timeline row", ex);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.ticketblitz.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response Body Cache
+ *
+ * WHY:
+ * ====
+ * The DTO caches still cost a Redis round trip, a Jackson deserialization of
+ * the DTO graph, the ApiResponse wrapper and a second Jackson serialization
+ * per request. During browsing peaks that is where catalog CPU goes. This
+ * cache keeps the final body bytes, so a hit is a map lookup and a socket
+ * write.
+ *
+ * KEYING:
+ * =======
+ * {tag}|{path}?{sorted query}
+ * - tag "event:{id}" for event details and seat reads of one event
+ * - tag "events" for every event list/search page
+ *
+ * INVALIDATION:
+ * =============
+ * SeatService evicts through the same hook as the DTO caches. Eviction runs
+ * after commit and is broadcast over Redis pub/sub so every catalog instance
+ * drops its copy, not only the one that handled the write.
+ *
+ * A per-tag generation counter guards against a slow miss re-inserting a body
+ * that was rendered before the eviction it raced with.
+ *
+ * With a read replica, a miss rendered just after the eviction can still read
+ * pre-write rows, so every eviction is repeated once the replica's max lag
+ * has passed.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class ResponseBodyCache implements MessageListener {
+
+    public static final String EVENT_LISTS_TAG = "events";
+    public static final String EVENT_TAG_PREFIX = "event:";
+    public static final String INVALIDATION_CHANNEL = "catalog:response-cache:invalidate";
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Cache<String, Entry> cache;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final Executor replicaLagDelay;
+
+    public ResponseBodyCache(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.response-cache.max-size-mb:64}") long maxSizeMb,
+            @Value("${catalog.datasource.replica.url:}") String replicaUrl,
+            @Value("${catalog.datasource.replica.max-lag:1s}") Duration replicaMaxLag
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.replicaLagDelay = StringUtils.hasText(replicaUrl)
+                ? CompletableFuture.delayedExecutor(replicaMaxLag.toMillis(), TimeUnit.MILLISECONDS)
+                : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((String key, Entry entry) -> entry.response().weight())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog_responses");
+        log.info("Response body cache configured with maxSize={}MB", maxSizeMb);
+    }
+
+    public CachedResponse get(String tag, String routeKey) {
+        Entry entry = cache.getIfPresent(key(tag, routeKey));
+        return entry != null ? entry.response() : null;
+    }
+
+    /**
+     * Snapshot taken before rendering a miss; pass it back to {@link #put}
+     */
+    public long generation(String tag) {
+        return generations.computeIfAbsent(tag, ignored -> new AtomicLong()).get();
+    }
+
+    public void put(String tag, String routeKey, CachedResponse response, Duration ttl, long generationAtRender) {
+        if (generation(tag) != generationAtRender) {
+            log.debug("Skipping response cache fill for {} - invalidated while rendering", routeKey);
+            return;
+        }
+        cache.put(key(tag, routeKey), new Entry(response, ttl));
+    }
+
+    /**
+     * Drop everything rendered for one event plus every event list page
+     */
+    public void evictEvent(Long eventId) {
+        afterCommit(() -> {
+            evictLocal(eventTag(eventId));
+            evictLocal(EVENT_LISTS_TAG);
+            broadcast(eventTag(eventId));
+        });
+    }
+
+    public static String eventTag(Long eventId) {
+        return EVENT_TAG_PREFIX + eventId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tag = new String(message.getBody(), StandardCharsets.UTF_8);
+        evictLocal(tag);
+        if (!EVENT_LISTS_TAG.equals(tag)) {
+            evictLocal(EVENT_LISTS_TAG);
+        }
+    }
+
+    private void evictLocal(String tag) {
+        evictLocalNow(tag);
+        if (replicaLagDelay != null) {
+            replicaLagDelay.execute(() -> evictLocalNow(tag));
+        }
+    }
+
+    private void evictLocalNow(String tag) {
+        generations.computeIfAbsent(tag, ignored -> new AtomicLong()).incrementAndGet();
+        String prefix = tag + KEY_SEPARATOR;
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void broadcast(String tag) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, tag);
+        } catch (Exception ex) {
+            // Peers fall back to TTL expiry; never fail the write path over this
+            log.warn("Failed to broadcast response cache invalidation for {}: {}", tag, ex.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(String tag, String routeKey) {
+        return tag + KEY_SEPARATOR + routeKey;
+    }
+
+    private record Entry(CachedResponse response, Duration ttl) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.ticketblitz.catalog.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketblitz.catalog.cache.ResponseBodyCache;
+import com.ticketblitz.catalog.search.UpcomingEventStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,6 +13,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
@@ -49,6 +53,11 @@ import java.util.concurrent.TimeUnit;
  * - Size based eviction
  * - TTL-based expiration
  *
+ * RESPONSE CACHE:
+ * ===============
+ * In front of both levels sits ResponseBodyCache (final JSON bytes per route).
+ * It is per instance, so evictions are fanned out over Redis pub/sub.
+ *
  * @author Akhil
  */
 @Slf4j
@@ -133,4 +142,21 @@ public class CacheConfig {
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * Receives event change broadcasts from every catalog instance: the
+     * response cache drops its bodies, the upcoming event store re-reads the event
+     */
+    @Bean
+    public RedisMessageListenerContainer responseCacheInvalidationContainer(
+            RedisConnectionFactory connectionFactory,
+            ResponseBodyCache responseBodyCache,
+            UpcomingEventStore upcomingEventStore) {
+
+        ChannelTopic topic = new ChannelTopic(ResponseBodyCache.INVALIDATION_CHANNEL);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(responseBodyCache, topic);
+        container.addMessageListener(upcomingEventStore, topic);
+        return container;
+    }
+}
@@ -1,13 +1,24 @@
 package com.ticketblitz.catalog.config;
 
+import com.ticketblitz.common.datasource.ReadReplicaRoutingDataSource;
+import com.ticketblitz.common.datasource.ReplicaLagMonitor;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Database configuration
@@ -31,10 +42,15 @@ import javax.sql.DataSource;
  * - PostgreSQL has limited connections (typically 100-200)
  * - Leave room for other services
  *
- * READ REPLICA READY:
- * - Architecture supports read replica routing
- * - Writes -> Primary
- * - Reads -> Replica (future enhancement)
+ * READ REPLICA ROUTING:
+ * =====================
+ * With catalog.datasource.replica.url set:
+ * - @Transactional(readOnly = true) (browsing) -> replica pool
+ * - writes and seat locking                     -> primary pool
+ * - replica lagging or down                     -> everything on primary
+ * Without it, the primary pool serves everything as before.
+ *
+ * Each pool reports hikaricp_* metrics tagged with its pool name.
  *
  * @author Akhil
  */
@@ -51,21 +67,84 @@ public class DatabaseConfig {
     @Value("${spring.datasource.password}")
     private String password;
 
+    @Value("${catalog.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${catalog.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${catalog.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${catalog.datasource.replica.max-pool-size:20}")
+    private int replicaPoolSize;
+
+    @Value("${catalog.datasource.replica.max-lag:1s}")
+    private Duration replicaMaxLag;
+
+    @Value("${catalog.datasource.replica.lag-check-interval:2s}")
+    private Duration replicaLagCheckInterval;
+
+    // Only set when routing is enabled; Spring closes the router, not the pools behind it
+    private ReplicaLagMonitor lagMonitor;
+    private final List<HikariDataSource> routedPools = new ArrayList<>();
+
     /**
-     * primary datasource with optimized hikariCP settings
+     * Primary pool alone, or primary + replica behind the read-only router
      */
     @Bean
-    public DataSource dataSource() {
+    @Primary
+    public DataSource dataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = createPool("catalog-primary", jdbcUrl, username, password, 20, meterRegistry);
+
+        if (!StringUtils.hasText(replicaUrl)) {
+            return primary;
+        }
+
+        HikariDataSource replica = createPool(
+                "catalog-replica", replicaUrl, replicaUsername, replicaPassword, replicaPoolSize, meterRegistry);
+        // Fail fast so a dead replica does not stall reads for the full timeout
+        replica.setConnectionTimeout(2000);
+
+        routedPools.add(primary);
+        routedPools.add(replica);
+        lagMonitor = new ReplicaLagMonitor(replica, replicaMaxLag, replicaLagCheckInterval);
+        lagMonitor.start();
+        meterRegistry.ifAvailable(registry -> lagMonitor.bindTo(registry, "catalog-replica"));
+
+        log.info("Read replica routing enabled: maxLag={}, checkInterval={}",
+                replicaMaxLag, replicaLagCheckInterval);
+
+        return ReadReplicaRoutingDataSource.create(primary, replica, lagMonitor);
+    }
+
+    @PreDestroy
+    void closeRoutedPools() {
+        if (lagMonitor != null) {
+            lagMonitor.close();
+        }
+        routedPools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(
+            String poolName,
+            String url,
+            String user,
+            String pass,
+            int maxPoolSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
         HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
 
         // Connection settings
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(pass);
         config.setDriverClassName("org.postgresql.Driver");
 
         // pool sizing
-        config.setMaximumPoolSize(20); // based on cores * 2 + spindles
+        config.setMaximumPoolSize(maxPoolSize); // based on cores * 2 + spindles
         config.setMinimumIdle(2);
 
         // connection timeout
@@ -81,16 +160,15 @@ public class DatabaseConfig {
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
         config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("reWriteBatchInserts", "true");
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
 
-        // monitoring
-        config.setMetricRegistry(null); // TODO: add micrometer metrics
-        config.setHealthCheckRegistry(null);
+        // monitoring (hikaricp_connections_* tagged pool=poolName)
+        meterRegistry.ifAvailable(registry ->
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
 
-        log.info("HikariCP configured with maxPoolSize={}, minIdle={}",
-                config.getMaximumPoolSize(), config.getMinimumIdle());
+        log.info("HikariCP pool {} configured with maxPoolSize={}, minIdle={}",
+                poolName, config.getMaximumPoolSize(), config.getMinimumIdle());
 
         return new HikariDataSource(config);
-
     }
-}
\ No newline at end of file
+}
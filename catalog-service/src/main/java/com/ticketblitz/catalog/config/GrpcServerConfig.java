@@ -0,0 +1,25 @@
+package com.ticketblitz.catalog.config;
+
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * gRPC server configuration
+ *
+ * Calls are served on virtual threads, like the HTTP side
+ * (spring.threads.virtual.enabled), instead of grpc-java's cached pool:
+ * handlers block on JDBC and seat locks.
+ *
+ * @author Akhil
+ */
+@Configuration
+public class GrpcServerConfig {
+
+    @Bean
+    public GrpcServerConfigurer virtualThreadGrpcExecutor() {
+        return serverBuilder -> serverBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
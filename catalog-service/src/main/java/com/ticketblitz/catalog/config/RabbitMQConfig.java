@@ -0,0 +1,145 @@
+package com.ticketblitz.catalog.config;
+
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * RabbitMQ Configuration — Catalog Service (Consumer Side)
+ *
+ * TOPOLOGY (mirrors booking-service publisher):
+ * =============================================
+ * ticketblitz.exchange
+ *   └─ booking.cancelled / booking.expired / payment.failed
+ *        └─ Seat release queue
+ *              └─ (fail) -> Seat release retry queue (30s) -> back
+ *              └─ (max retries) -> DLQ
+ *
+ * BATCHED CONSUMER:
+ * =================
+ * The listener gets up to batch-size messages at once (or whatever arrived
+ * within receive-timeout), so a burst of expiries becomes one seat update
+ * per event instead of one per booking.
+ *
+ * @author Akhil
+ */
+@Configuration
+public class RabbitMQConfig {
+
+    public static final String EXCHANGE_NAME = "ticketblitz.exchange";
+    public static final String DLX_EXCHANGE = "ticketblitz.dlx.exchange";
+
+    public static final String SEAT_RELEASE_QUEUE = "ticketblitz.catalog.seat-release.queue";
+    public static final String SEAT_RELEASE_RETRY_QUEUE = "ticketblitz.catalog.seat-release.retry.queue";
+    public static final String SEAT_RELEASE_RETRY_ROUTING_KEY = "catalog.seat-release.retry";
+    public static final String SEAT_RELEASE_DLQ = "ticketblitz.catalog.seat-release.dlq";
+    public static final String SEAT_RELEASE_DLQ_ROUTING_KEY = "catalog.seat-release.dlq";
+
+    @Bean
+    public TopicExchange ticketblitzExchange() {
+        return ExchangeBuilder
+                .topicExchange(EXCHANGE_NAME)
+                .durable(true)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange dlxExchange() {
+        return ExchangeBuilder
+                .directExchange(DLX_EXCHANGE)
+                .durable(true)
+                .build();
+    }
+
+    @Bean
+    public Queue seatReleaseQueue() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_QUEUE)
+                .deadLetterExchange(EXCHANGE_NAME)
+                .deadLetterRoutingKey(SEAT_RELEASE_RETRY_ROUTING_KEY)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Declarables seatReleaseBindings() {
+        return new Declarables(Arrays.stream(SeatsReleasedEvent.Reason.values())
+                .map(reason -> BindingBuilder
+                        .bind(seatReleaseQueue())
+                        .to(ticketblitzExchange())
+                        .with(reason.routingKey()))
+                .toList());
+    }
+
+    // retry queue (30 sec delay)
+    @Bean
+    public Queue seatReleaseRetryQueue() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_RETRY_QUEUE)
+                // Default exchange: back to the release queue only, not to every booking.* subscriber
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(SEAT_RELEASE_QUEUE)
+                .ttl(30000)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Binding seatReleaseRetryBinding() {
+        return BindingBuilder
+                .bind(seatReleaseRetryQueue())
+                .to(ticketblitzExchange())
+                .with(SEAT_RELEASE_RETRY_ROUTING_KEY);
+    }
+
+    // dead letter queue
+    @Bean
+    public Queue seatReleaseDlq() {
+        return QueueBuilder
+                .durable(SEAT_RELEASE_DLQ)
+                .withArgument("x-queue-mode", "lazy")
+                .build();
+    }
+
+    @Bean
+    public Binding seatReleaseDlqBinding() {
+        return BindingBuilder
+                .bind(seatReleaseDlq())
+                .to(dlxExchange())
+                .with(SEAT_RELEASE_DLQ_ROUTING_KEY);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory seatReleaseContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${catalog.seat-release.batch-size:100}") int batchSize,
+            @Value("${catalog.seat-release.receive-timeout:200ms}") Duration receiveTimeout) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        // A failed batch goes to the retry queue instead of being redelivered at once
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    @Bean
+    public MessageConverter jsonMessageConverter(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
+    }
+}
@@ -2,10 +2,16 @@ package com.ticketblitz.catalog.controller;
 
 import com.ticketblitz.catalog.dto.EventDto;
 import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.dto.FacetedPageResponse;
 import com.ticketblitz.catalog.dto.PageResponse;
+import com.ticketblitz.catalog.dto.SuggestionDto;
 import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.service.AutocompleteService;
+import com.ticketblitz.catalog.service.CatalogVersionService;
 import com.ticketblitz.catalog.service.EventService;
 import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.dto.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,10 +21,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +50,12 @@ import java.util.Set;
  * Public endpoints - No authentication required
  * Catalog service is read-only for browsing
  *
+ * CONDITIONAL GET:
+ * ================
+ * Every read emits a strong ETag and answers If-None-Match with a bare 304.
+ * The validator comes from CatalogVersionService and is checked before the
+ * service call, so a revalidation never builds or serializes the body.
+ *
  * @author Akhil
  */
 @Slf4j
@@ -48,11 +66,16 @@ import java.util.Set;
 public class EventController {
 
     private final EventService eventService;
+    private final CatalogVersionService catalogVersionService;
+    private final AutocompleteService autocompleteService;
 
     // Default pagination values
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final Duration SUGGEST_MAX_AGE = Duration.ofSeconds(30);
+
     private static final Map<String, String> SORT_FIELD_MAPPING = Map.of(
             "eventDate", "eventDate",
             "name", "name",
@@ -71,15 +94,21 @@ public class EventController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EventDto>> getEventById(
             @Parameter(description = "Event ID")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/{}", id);
 
+        String etag = catalogVersionService.eventEtag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         EventDto event = eventService.getEventById(id);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(event)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(event));
     }
 
     /**
@@ -97,10 +126,16 @@ public class EventController {
             @Parameter(description = "Sort field (e.g., eventDate, name)")
             @RequestParam(defaultValue = "eventDate") String sortBy,
             @Parameter(description = "Sort direction (ASC or DESC)")
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/upcoming?page={}&size={}", page, size);
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         // Validate and cap page size
         page = normalizePage(page);
         size = normalizeSize(size);
@@ -118,15 +153,18 @@ public class EventController {
                 events.getSize(),
                 events.getTotalElements());
 
-        return ResponseEntity.ok(
-                ApiResponse.success(events)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
     }
 
     /**
      * Search events with multiple filters
      *
      * GET /api/v1/events/search?category=CONCERT&city=New York&searchTerm=Taylor
+     *
+     * With a searchTerm and no explicit sortBy (or sortBy=relevance) results
+     * come back ranked by full-text relevance
      */
     @Operation(summary = "Search events", description = "Search events with multiple filters")
     @GetMapping("/search")
@@ -151,14 +189,34 @@ public class EventController {
             LocalDateTime endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "eventDate") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @Parameter(description = "Sort field; defaults to relevance when searchTerm is set, else eventDate")
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/search?category={}&city={}&term={}",
                 category, city, searchTerm);
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         page = normalizePage(page);
         size = normalizeSize(size);
+
+        if (StringUtils.hasText(searchTerm) && (sortBy == null || RELEVANCE_SORT.equals(sortBy))) {
+            EventSearchFilter filter = new EventSearchFilter(
+                    searchTerm, category, status, city, minSeats, startDate, endDate
+            );
+            PageResponse<EventListDto> ranked = eventService.searchEventsRanked(
+                    filter, PageRequest.of(page, size)
+            );
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .body(ApiResponse.success(ranked));
+        }
+
         sortBy = resolveSortField(sortBy);
         Sort sort = sortDir.equalsIgnoreCase("DESC")
                 ? Sort.by(sortBy).descending()
@@ -171,9 +229,105 @@ public class EventController {
         );
 
         log.info("Search events found: {}", events);
-        return ResponseEntity.ok(
-                ApiResponse.success(events)
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
+    }
+
+    /**
+     * Filter upcoming events and get facet counts in one call
+     *
+     * GET /api/v1/events/search/faceted?category=CONCERT&city=Boston
+     *
+     * Served from the in-memory facet index; counts per category / status /
+     * city ignore that facet's own filter
+     */
+    @Operation(summary = "Faceted event search",
+            description = "Filter upcoming events and return counts per category, status and city")
+    @GetMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<FacetedPageResponse<EventListDto>>> searchEventsFaceted(
+            @Parameter(description = "Event category")
+            @RequestParam(required = false) Event.EventCategory category,
+            @Parameter(description = "Event status")
+            @RequestParam(required = false) Event.EventStatus status,
+            @Parameter(description = "City name")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Minimum available seats")
+            @RequestParam(required = false) Integer minSeats,
+            @Parameter(description = "Start date (ISO format), not in the past")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDate,
+            @Parameter(description = "End date (ISO format)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "eventDate") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDir) {
+
+        log.info("GET /api/v1/events/search/faceted?category={}&status={}&city={}",
+                category, status, city);
+
+        sortBy = resolveSortField(sortBy);
+        Sort sort = sortDir.equalsIgnoreCase("DESC")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(normalizePage(page), normalizeSize(size), sort);
+
+        EventSearchFilter filter = new EventSearchFilter(
+                null, category, status, city, minSeats, startDate, endDate
         );
+        FacetedPageResponse<EventListDto> events = eventService.searchEventsFaceted(filter, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(events));
+    }
+
+    /**
+     * Upcoming events at venues near a point, soonest first
+     *
+     * GET /api/v1/events/nearby?lat=40.75&lon=-73.99&radiusKm=25
+     */
+    @Operation(summary = "Find nearby events", description = "Upcoming events at venues within radiusKm of a point")
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<PageResponse<EventListDto>>> getEventsNearby(
+            @Parameter(description = "Latitude") @RequestParam double lat,
+            @Parameter(description = "Longitude") @RequestParam double lon,
+            @Parameter(description = "Radius in km") @RequestParam(defaultValue = "25") double radiusKm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("GET /api/v1/events/nearby?lat={}&lon={}&radiusKm={}", lat, lon, radiusKm);
+
+        Pageable pageable = PageRequest.of(
+                normalizePage(page), normalizeSize(size), Sort.by("eventDate").ascending()
+        );
+        PageResponse<EventListDto> events = eventService.getEventsNearby(lat, lon, radiusKm, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(events));
+    }
+
+    /**
+     * Typeahead suggestions (events and venues) from the in-memory index
+     *
+     * GET /api/v1/events/suggest?q=tay&limit=8
+     *
+     * Never touches the database; logged at debug because it fires per keystroke
+     */
+    @Operation(summary = "Autocomplete", description = "Event and venue name suggestions for a prefix")
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDto>>> suggest(
+            @Parameter(description = "Prefix typed so far")
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "8") int limit) {
+
+        log.debug("GET /api/v1/events/suggest?q={}", query);
+
+        List<SuggestionDto> suggestions = autocompleteService.suggest(query, Math.max(limit, 1));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(SUGGEST_MAX_AGE).cachePublic())
+                .body(ApiResponse.success(suggestions));
     }
 
     /**
@@ -187,10 +341,16 @@ public class EventController {
             @Parameter(description = "Event category")
             @PathVariable Event.EventCategory category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/category/{}", category);
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         page = normalizePage(page);
         size = normalizeSize(size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
@@ -198,9 +358,9 @@ public class EventController {
         PageResponse<EventListDto> events = eventService.getEventsByCategory(category, pageable);
 
         log.info("Get events by category found: {}", events);
-        return ResponseEntity.ok(
-                ApiResponse.success(events)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
     }
 
     /**
@@ -214,10 +374,16 @@ public class EventController {
             @Parameter(description = "Venue ID")
             @PathVariable Long venueId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/venue/{}", venueId);
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         page = normalizePage(page);
         size = normalizeSize(size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
@@ -225,9 +391,9 @@ public class EventController {
         PageResponse<EventListDto> events = eventService.getEventsByVenue(venueId, pageable);
 
         log.info("Get events by venue found: {}", events);
-        return ResponseEntity.ok(
-                ApiResponse.success(events)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
     }
 
     /**
@@ -241,10 +407,16 @@ public class EventController {
             @Parameter(description = "City name")
             @PathVariable String city,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/events/city/{}", city);
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         page = normalizePage(page);
         size = normalizeSize(size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
@@ -252,9 +424,116 @@ public class EventController {
         PageResponse<EventListDto> events = eventService.getEventsByCity(city, pageable);
 
         log.info("Get events by city found: {}", events);
-        return ResponseEntity.ok(
-                ApiResponse.success(events)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
+    }
+
+    /**
+     * Upcoming events with keyset pagination (infinite scroll)
+     *
+     * GET /api/v1/events/upcoming/scroll?size=20&cursor=...
+     *
+     * Pass nextCursor from the previous page; omit it for the first page.
+     */
+    @Operation(summary = "Scroll upcoming events", description = "Cursor-paginated upcoming events without totals")
+    @GetMapping("/upcoming/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<EventListDto>>> scrollUpcomingEvents(
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/events/upcoming/scroll?size={}", size);
+
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        CursorPage<EventListDto> events = eventService.scrollUpcomingEvents(cursor, normalizeSize(size));
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
+    }
+
+    /**
+     * GET /api/v1/events/category/CONCERT/scroll?size=20&cursor=...
+     */
+    @Operation(summary = "Scroll events by category", description = "Cursor-paginated events in a category")
+    @GetMapping("/category/{category}/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<EventListDto>>> scrollEventsByCategory(
+            @PathVariable Event.EventCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/events/category/{}/scroll", category);
+
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        CursorPage<EventListDto> events = eventService.scrollEventsByCategory(
+                category, cursor, normalizeSize(size));
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
+    }
+
+    /**
+     * GET /api/v1/events/venue/1/scroll?size=20&cursor=...
+     */
+    @Operation(summary = "Scroll events by venue", description = "Cursor-paginated events at a venue")
+    @GetMapping("/venue/{venueId}/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<EventListDto>>> scrollEventsByVenue(
+            @PathVariable Long venueId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/events/venue/{}/scroll", venueId);
+
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        CursorPage<EventListDto> events = eventService.scrollEventsByVenue(
+                venueId, cursor, normalizeSize(size));
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
+    }
+
+    /**
+     * GET /api/v1/events/city/New York/scroll?size=20&cursor=...
+     */
+    @Operation(summary = "Scroll events by city", description = "Cursor-paginated events in a city")
+    @GetMapping("/city/{city}/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<EventListDto>>> scrollEventsByCity(
+            @PathVariable String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/events/city/{}/scroll", city);
+
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        CursorPage<EventListDto> events = eventService.scrollEventsByCity(
+                city, cursor, normalizeSize(size));
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(events));
     }
 
     /**
@@ -264,15 +543,26 @@ public class EventController {
      */
     @Operation(summary = "Get active event count", description = "Get total number of active events")
     @GetMapping("/count")
-    public ResponseEntity<ApiResponse<Long>> getActiveEventCount() {
+    public ResponseEntity<ApiResponse<Long>> getActiveEventCount(WebRequest webRequest) {
         log.info("GET /api/v1/events/count");
 
+        String etag = catalogVersionService.eventListEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         long count = eventService.getActiveEventCount();
 
         log.info("Get active event count found: {}", count);
-        return ResponseEntity.ok(
-                ApiResponse.success(count)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(count));
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build();
     }
 
     private int normalizePage(int page) {
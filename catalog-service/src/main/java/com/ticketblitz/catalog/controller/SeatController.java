@@ -2,6 +2,7 @@ package com.ticketblitz.catalog.controller;
 
 import com.ticketblitz.catalog.dto.SeatDto;
 import com.ticketblitz.catalog.dto.SeatOperationRequest;
+import com.ticketblitz.catalog.service.CatalogVersionService;
 import com.ticketblitz.catalog.service.SeatService;
 import com.ticketblitz.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -26,6 +29,12 @@ import java.util.Map;
  * - Short cache TTL (30 seconds)
  * - Actual seat locking done by Booking Service
  *
+ * CONDITIONAL GET:
+ * ================
+ * Seat reads carry a strong ETag built from the event's inventory version.
+ * Clients polling during a sale revalidate with If-None-Match and get a 304
+ * until a seat actually changes state.
+ *
  * @author Akhil
  */
 @Slf4j
@@ -36,6 +45,7 @@ import java.util.Map;
 public class SeatController {
 
     private final SeatService seatService;
+    private final CatalogVersionService catalogVersionService;
 
     /**
      * Get all seats for an event
@@ -46,15 +56,21 @@ public class SeatController {
     @GetMapping("/event/{eventId}")
     public ResponseEntity<ApiResponse<List<SeatDto>>> getSeatsByEvent(
             @Parameter(description = "Event ID")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}", eventId);
 
+        String etag = catalogVersionService.seatEtag(eventId, "all");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         List<SeatDto> seats = seatService.getSeatsByEvent(eventId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(seats)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(seats));
     }
 
     /**
@@ -68,15 +84,21 @@ public class SeatController {
     @GetMapping("/event/{eventId}/available")
     public ResponseEntity<ApiResponse<List<SeatDto>>> getAvailableSeats(
             @Parameter(description = "Event ID")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}/available", eventId);
 
+        String etag = catalogVersionService.seatEtag(eventId, "available");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         List<SeatDto> seats = seatService.getAvailableSeats(eventId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(seats)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(seats));
     }
 
     /**
@@ -90,15 +112,21 @@ public class SeatController {
             @Parameter(description = "Event ID")
             @PathVariable Long eventId,
             @Parameter(description = "Section name")
-            @PathVariable String section) {
+            @PathVariable String section,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}/section/{}", eventId, section);
 
+        String etag = catalogVersionService.seatEtag(eventId, "section:" + section);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         List<SeatDto> seats = seatService.getSeatsBySection(eventId, section);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(seats)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(seats));
     }
 
     /**
@@ -113,15 +141,21 @@ public class SeatController {
     @GetMapping("/event/{eventId}/seatmap")
     public ResponseEntity<ApiResponse<Map<String, List<SeatDto>>>> getSeatMap(
             @Parameter(description = "Event ID")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}/seatmap", eventId);
 
+        String etag = catalogVersionService.seatEtag(eventId, "seatmap");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         Map<String, List<SeatDto>> seatMap = seatService.getSeatMap(eventId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(seatMap)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(seatMap));
     }
 
     /**
@@ -133,15 +167,21 @@ public class SeatController {
     @GetMapping("/event/{eventId}/count")
     public ResponseEntity<ApiResponse<Integer>> getAvailableSeatCount(
             @Parameter(description = "Event ID")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}/count", eventId);
 
+        String etag = catalogVersionService.seatEtag(eventId, "count");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         int count = seatService.getAvailableSeatCount(eventId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(count)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(count));
     }
 
     /**
@@ -153,15 +193,21 @@ public class SeatController {
     @GetMapping("/event/{eventId}/sections")
     public ResponseEntity<ApiResponse<List<String>>> getSections(
             @Parameter(description = "Event ID")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/seats/event/{}/sections", eventId);
 
+        String etag = catalogVersionService.seatEtag(eventId, "sections");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
         List<String> sections = seatService.getSections(eventId);
 
-        return ResponseEntity.ok(
-                ApiResponse.success(sections)
-        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(sections));
     }
 
     @Operation(summary = "Get selected seats", description = "Retrieve a specific seat set for booking validation")
@@ -178,6 +224,26 @@ public class SeatController {
         );
     }
 
+    /**
+     * Same lookup with the seat IDs in the body, for group bookings whose
+     * seat lists would not fit in a URL
+     *
+     * POST /api/v1/seats/event/{eventId}/selected
+     */
+    @Operation(summary = "Get selected seats (bulk)", description = "Retrieve a large seat set for booking validation")
+    @PostMapping("/event/{eventId}/selected")
+    public ResponseEntity<ApiResponse<List<SeatDto>>> getSeatsByIdsInBody(
+            @Parameter(description = "Event ID")
+            @PathVariable Long eventId,
+            @Valid @RequestBody SeatOperationRequest request) {
+
+        log.info("POST /api/v1/seats/event/{}/selected - {} seats", eventId, request.getSeatIds().size());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(seatService.getSeatsByEventAndIds(eventId, request.getSeatIds()))
+        );
+    }
+
     @Operation(summary = "Lock seats", description = "Internal endpoint to reserve seats before payment")
     @PostMapping("/event/{eventId}/lock")
     public ResponseEntity<ApiResponse<List<SeatDto>>> lockSeats(
@@ -216,4 +282,10 @@ public class SeatController {
                 ApiResponse.success(seatService.releaseSeats(eventId, request.getSeatIds()))
         );
     }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build();
+    }
 }
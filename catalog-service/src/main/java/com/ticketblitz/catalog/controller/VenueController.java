@@ -1,6 +1,7 @@
 package com.ticketblitz.catalog.controller;
 
 import com.ticketblitz.catalog.dto.VenueDto;
+import com.ticketblitz.catalog.service.GeoSearchService;
 import com.ticketblitz.catalog.service.VenueService;
 import com.ticketblitz.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,7 +31,10 @@ import java.util.List;
 @Tag(name = "Venues", description = "Venue management API")
 public class VenueController {
 
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final VenueService venueService;
+    private final GeoSearchService geoSearchService;
 
     /**
      * Get venue by ID
@@ -89,6 +93,30 @@ public class VenueController {
         );
     }
 
+    /**
+     * Venues near a point, closest first
+     *
+     * GET /api/v1/venues/nearby?lat=40.75&lon=-73.99&radiusKm=10
+     */
+    @Operation(summary = "Find nearby venues", description = "Venues within radiusKm of a point, closest first")
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<VenueDto>>> getVenuesNearby(
+            @Parameter(description = "Latitude") @RequestParam double lat,
+            @Parameter(description = "Longitude") @RequestParam double lon,
+            @Parameter(description = "Radius in km") @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("GET /api/v1/venues/nearby?lat={}&lon={}&radiusKm={}", lat, lon, radiusKm);
+
+        List<VenueDto> venues = geoSearchService.findVenuesNearby(
+                lat, lon, radiusKm, Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT))
+        );
+
+        return ResponseEntity.ok(
+                ApiResponse.success(venues)
+        );
+    }
+
     /**
      * Search venues by name
      *
@@ -0,0 +1,25 @@
+package com.ticketblitz.catalog.dto;
+
+import com.ticketblitz.catalog.entity.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for ranked full-text search. Every field except term is optional.
+ *
+ * @author Akhil
+ */
+public record EventSearchFilter(
+        String term,
+        Event.EventCategory category,
+        Event.EventStatus status,
+        String city,
+        Integer minSeats,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+
+    public static EventSearchFilter forTerm(String term) {
+        return new EventSearchFilter(term, null, Event.EventStatus.ACTIVE, null, null, null, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ticketblitz.catalog.dto;
+
+/**
+ * Version columns of an event, loaded without the event itself.
+ * Source of the strong ETags on event and seat reads.
+ */
+public record EventVersion(
+        Integer version,
+        Long inventoryVersion
+) {
+}
@@ -0,0 +1,24 @@
+package com.ticketblitz.catalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Page of results plus facet counts for the same filters
+ *
+ * facets: facet name -> value -> count, highest count first, e.g.
+ * {"category": {"CONCERT": 120, "SPORTS": 43}, "city": {...}}
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetedPageResponse<T> {
+
+    private PageResponse<T> page;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,30 @@
+package com.ticketblitz.catalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Typeahead suggestion - just enough to render a dropdown row and link to
+ * the event or venue page
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDto implements Serializable {
+
+    public enum Type {
+        EVENT, VENUE
+    }
+
+    private Type type;
+    private Long id;
+    private String text;
+    private String detail;
+    private LocalDateTime eventDate;
+}
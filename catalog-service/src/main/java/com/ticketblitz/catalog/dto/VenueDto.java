@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.io.Serializable;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class VenueDto implements Serializable {
@@ -22,4 +22,9 @@ public class VenueDto implements Serializable {
     private String postalCode;
     private Integer capacity;
     private String description;
+    private Double latitude;
+    private Double longitude;
+
+    // Only set on proximity results
+    private Double distanceKm;
 }
\ No newline at end of file
@@ -61,6 +61,13 @@ public class Event {
     @Version
     private Integer version;
 
+    /**
+     * Incremented on every seat transition, even ones that leave
+     * availableSeats unchanged (LOCKED -> BOOKED)
+     */
+    @Column(name = "inventory_version", nullable = false)
+    private Long inventoryVersion;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -68,6 +75,9 @@ public class Event {
         if (this.status == null) {
             status = EventStatus.ACTIVE;
         }
+        if (this.inventoryVersion == null) {
+            inventoryVersion = 0L;
+        }
     }
 
     @PreUpdate
@@ -39,6 +39,10 @@ public class Venue {
     @Column(nullable = false)
     private int capacity;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -0,0 +1,227 @@
+package com.ticketblitz.catalog.filter;
+
+import com.ticketblitz.catalog.cache.CachedResponse;
+import com.ticketblitz.catalog.cache.ResponseBodyCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves hot catalog GETs straight from {@link ResponseBodyCache}.
+ *
+ * FLOW:
+ * =====
+ * hit  -> 304 if If-None-Match matches, otherwise write cached bytes
+ *         (gzip variant when the client accepts it) - no controller, no Jackson
+ * miss -> run the controller into a buffering wrapper, keep the 200 body
+ *
+ * An ETag already set by the controller is kept; otherwise the entry gets a
+ * content hash, same scheme as Spring's ShallowEtagHeaderFilter.
+ *
+ * Only the routes below are cached. Booking-time reads (/selected, /count)
+ * stay live on purpose.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern EVENT_DETAILS = Pattern.compile("^/api/v1/events/(\\d+)$");
+    private static final Pattern EVENT_LISTS = Pattern.compile(
+            "^/api/v1/events/(upcoming|search|count|category/[^/]+|venue/\\d+|city/[^/]+)(/scroll)?$");
+    private static final Pattern SEAT_READS = Pattern.compile(
+            "^/api/v1/seats/event/(\\d+)(/available|/seatmap|/sections|/section/[^/]+)?$");
+
+    private static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final ResponseBodyCache responseBodyCache;
+    private final boolean enabled;
+    private final Duration eventTtl;
+    private final Duration seatTtl;
+    private final int gzipMinBytes;
+
+    public ResponseCacheFilter(
+            ResponseBodyCache responseBodyCache,
+            @Value("${catalog.response-cache.enabled:true}") boolean enabled,
+            @Value("${catalog.response-cache.event-ttl:5m}") Duration eventTtl,
+            @Value("${catalog.response-cache.seat-ttl:30s}") Duration seatTtl,
+            @Value("${catalog.response-cache.gzip-min-bytes:1024}") int gzipMinBytes
+    ) {
+        this.responseBodyCache = responseBodyCache;
+        this.enabled = enabled;
+        this.eventTtl = eventTtl;
+        this.seatTtl = seatTtl;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.GET.matches(request.getMethod())
+                || resolveRoute(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Route route = resolveRoute(request.getRequestURI());
+        String routeKey = buildRouteKey(request);
+
+        CachedResponse cached = responseBodyCache.get(route.tag(), routeKey);
+        if (cached != null) {
+            writeCached(cached, request, response);
+            return;
+        }
+
+        long generation = responseBodyCache.generation(route.tag());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentSize() > 0) {
+            CachedResponse entry = toCachedResponse(wrapper);
+            responseBodyCache.put(route.tag(), routeKey, entry, route.ttl(), generation);
+
+            if (wrapper.getHeader(HttpHeaders.ETAG) == null) {
+                wrapper.setHeader(HttpHeaders.ETAG, entry.etag());
+            }
+            wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            wrapper.setHeader(CACHE_STATUS_HEADER, "MISS");
+        }
+
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeCached(
+            CachedResponse cached,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+
+        if (matchesIfNoneMatch(request, cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.body();
+        if (cached.hasGzipVariant() && acceptsGzip(request)) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private CachedResponse toCachedResponse(ContentCachingResponseWrapper wrapper) throws IOException {
+        byte[] body = wrapper.getContentAsByteArray();
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (etag == null) {
+            etag = "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+
+        byte[] gzipBody = body.length >= gzipMinBytes ? gzip(body) : null;
+        return new CachedResponse(wrapper.getContentType(), body, gzipBody, etag);
+    }
+
+    private Route resolveRoute(String path) {
+        Matcher eventDetails = EVENT_DETAILS.matcher(path);
+        if (eventDetails.matches()) {
+            return new Route(ResponseBodyCache.eventTag(Long.valueOf(eventDetails.group(1))), eventTtl);
+        }
+
+        if (EVENT_LISTS.matcher(path).matches()) {
+            return new Route(ResponseBodyCache.EVENT_LISTS_TAG, eventTtl);
+        }
+
+        Matcher seatReads = SEAT_READS.matcher(path);
+        if (seatReads.matches()) {
+            return new Route(ResponseBodyCache.eventTag(Long.valueOf(seatReads.group(1))), seatTtl);
+        }
+
+        return null;
+    }
+
+    /**
+     * Path plus parameters in a stable order, so ?page=1&size=20 and
+     * ?size=20&page=1 share an entry
+     */
+    private String buildRouteKey(HttpServletRequest request) {
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        if (parameters.isEmpty()) {
+            return request.getRequestURI();
+        }
+
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        parameters.forEach((name, values) ->
+                key.append(name).append('=').append(String.join(",", Arrays.asList(values))).append('&'));
+        return key.toString();
+    }
+
+    private boolean matchesIfNoneMatch(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        String trimmed = ifNoneMatch.trim();
+        if ("*".equals(trimmed)) {
+            return true;
+        }
+
+        for (String candidate : trimmed.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record Route(String tag, Duration ttl) {
+    }
+}
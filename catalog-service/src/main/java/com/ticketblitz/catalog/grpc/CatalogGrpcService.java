@@ -0,0 +1,132 @@
+package com.ticketblitz.catalog.grpc;
+
+import com.ticketblitz.catalog.dto.EventDto;
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.catalog.dto.VenueDto;
+import com.ticketblitz.catalog.service.EventService;
+import com.ticketblitz.catalog.service.SeatService;
+import com.ticketblitz.common.grpc.catalog.CatalogInternalGrpc;
+import com.ticketblitz.common.grpc.catalog.EventInfo;
+import com.ticketblitz.common.grpc.catalog.GetEventRequest;
+import com.ticketblitz.common.grpc.catalog.Seat;
+import com.ticketblitz.common.grpc.catalog.SeatList;
+import com.ticketblitz.common.grpc.catalog.SeatsRequest;
+import com.ticketblitz.common.grpc.catalog.Venue;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.ticketblitz.common.grpc.ProtoConversions.nullToEmpty;
+import static com.ticketblitz.common.grpc.ProtoConversions.toProto;
+
+/**
+ * gRPC Catalog Service (internal)
+ *
+ * The booking-service side of the seat endpoints in SeatController and the
+ * event lookup in EventController, over HTTP/2 + protobuf. Same services,
+ * same transactions; only the encoding differs. REST stays for everyone else.
+ *
+ * Exceptions become status codes in {@link GrpcExceptionAdvice}.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class CatalogGrpcService extends CatalogInternalGrpc.CatalogInternalImplBase {
+
+    private final EventService eventService;
+    private final SeatService seatService;
+
+    @Override
+    public void getEvent(GetEventRequest request, StreamObserver<EventInfo> responseObserver) {
+        respond(responseObserver, () -> toEventInfo(eventService.getEventById(request.getEventId())));
+    }
+
+    @Override
+    public void getSeatsForEvent(GetEventRequest request, StreamObserver<SeatList> responseObserver) {
+        respond(responseObserver, () -> toSeatList(seatService.getSeatsByEvent(request.getEventId())));
+    }
+
+    @Override
+    public void getSeats(SeatsRequest request, StreamObserver<SeatList> responseObserver) {
+        respond(responseObserver, () -> toSeatList(
+                seatService.getSeatsByEventAndIds(request.getEventId(), request.getSeatIdsList())));
+    }
+
+    @Override
+    public void lockSeats(SeatsRequest request, StreamObserver<SeatList> responseObserver) {
+        log.info("gRPC LockSeats - event {}, {} seats", request.getEventId(), request.getSeatIdsCount());
+        respond(responseObserver, () -> toSeatList(
+                seatService.lockSeats(request.getEventId(), request.getSeatIdsList())));
+    }
+
+    @Override
+    public void bookSeats(SeatsRequest request, StreamObserver<SeatList> responseObserver) {
+        log.info("gRPC BookSeats - event {}, {} seats", request.getEventId(), request.getSeatIdsCount());
+        respond(responseObserver, () -> toSeatList(
+                seatService.bookSeats(request.getEventId(), request.getSeatIdsList())));
+    }
+
+    @Override
+    public void releaseSeats(SeatsRequest request, StreamObserver<SeatList> responseObserver) {
+        log.info("gRPC ReleaseSeats - event {}, {} seats", request.getEventId(), request.getSeatIdsCount());
+        respond(responseObserver, () -> toSeatList(
+                seatService.releaseSeats(request.getEventId(), request.getSeatIdsList())));
+    }
+
+    /**
+     * Exceptions thrown here reach GrpcExceptionAdvice
+     */
+    private static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> call) {
+        responseObserver.onNext(call.get());
+        responseObserver.onCompleted();
+    }
+
+    static EventInfo toEventInfo(EventDto event) {
+        EventInfo.Builder builder = EventInfo.newBuilder()
+                .setId(event.getId())
+                .setName(nullToEmpty(event.getName()))
+                .setEventDate(toProto(event.getEventDate()))
+                .setStatus(event.getStatus().name());
+        if (event.getAvailableSeats() != null) {
+            builder.setAvailableSeats(event.getAvailableSeats());
+        }
+        if (event.getVenue() != null) {
+            builder.setVenue(toVenue(event.getVenue()));
+        }
+        return builder.build();
+    }
+
+    static SeatList toSeatList(List<SeatDto> seats) {
+        SeatList.Builder builder = SeatList.newBuilder();
+        for (SeatDto seat : seats) {
+            builder.addSeats(Seat.newBuilder()
+                    .setId(seat.getId())
+                    .setSection(nullToEmpty(seat.getSection()))
+                    .setRowLabel(nullToEmpty(seat.getRowLabel()))
+                    .setSeatNumber(seat.getSeatNumber())
+                    .setPrice(toProto(seat.getPrice()))
+                    .setStatus(toProto(seat.getStatus())));
+        }
+        return builder.build();
+    }
+
+    private static Venue toVenue(VenueDto venue) {
+        return Venue.newBuilder()
+                .setId(venue.getId())
+                .setName(nullToEmpty(venue.getName()))
+                .setAddress(nullToEmpty(venue.getAddress()))
+                .setCity(nullToEmpty(venue.getCity()))
+                .setState(nullToEmpty(venue.getState()))
+                .setCountry(nullToEmpty(venue.getCountry()))
+                .setPostalCode(nullToEmpty(venue.getPostalCode()))
+                .setCapacity(venue.getCapacity() == null ? 0 : venue.getCapacity())
+                .setDescription(nullToEmpty(venue.getDescription()))
+                .build();
+    }
+}
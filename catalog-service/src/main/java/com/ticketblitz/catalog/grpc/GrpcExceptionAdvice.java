@@ -0,0 +1,57 @@
+package com.ticketblitz.catalog.grpc;
+
+import com.ticketblitz.common.exception.BusinessException;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+
+/**
+ * gRPC counterpart of GlobalExceptionHandler
+ *
+ * HTTP status      -> gRPC status
+ * ===========      =============
+ * 404              -> NOT_FOUND
+ * 400 / other 4xx  -> INVALID_ARGUMENT
+ * 409              -> FAILED_PRECONDITION
+ * 503              -> UNAVAILABLE
+ * anything else    -> INTERNAL
+ *
+ * @author Akhil
+ */
+@Slf4j
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(BusinessException.class)
+    public Status handleBusinessException(BusinessException ex) {
+        log.warn("gRPC business exception: {} - {}", ex.getErrorCode(), ex.getMessage());
+        Status status = switch (ex.getHttpStatus()) {
+            case 404 -> Status.NOT_FOUND;
+            case 409 -> Status.FAILED_PRECONDITION;
+            case 503 -> Status.UNAVAILABLE;
+            default -> ex.getHttpStatus() >= 400 && ex.getHttpStatus() < 500
+                    ? Status.INVALID_ARGUMENT
+                    : Status.INTERNAL;
+        };
+        return status.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(IllegalArgumentException.class)
+    public Status handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.warn("gRPC invalid argument: {}", ex.getMessage());
+        return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(IllegalStateException.class)
+    public Status handleIllegalStateException(IllegalStateException ex) {
+        log.warn("gRPC illegal state: {}", ex.getMessage());
+        return Status.FAILED_PRECONDITION.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(Exception.class)
+    public Status handleGenericException(Exception ex) {
+        log.error("Unexpected gRPC error", ex);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+}
@@ -0,0 +1,107 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.common.constant.SeatStatus;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seats of one event, in memory
+ *
+ * Only ever touched by the event's actor thread, so there is no locking.
+ * A transition is checked against every requested seat before any seat
+ * changes: an operation applies completely or not at all.
+ *
+ * Changed seats are collected in {@link #dirty()} until the actor writes
+ * them behind to the seats table.
+ *
+ * @author Akhil
+ */
+final class EventInventory {
+
+    private final Long eventId;
+    private final Map<Long, SeatDto> seats = new LinkedHashMap<>();
+    private final Map<Long, SeatStatus> dirty = new HashMap<>();
+    private int availableSeats;
+
+    EventInventory(Long eventId, Collection<SeatDto> seats) {
+        this.eventId = eventId;
+        seats.forEach(seat -> this.seats.put(seat.getId(), seat));
+        this.availableSeats = (int) seats.stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                .count();
+    }
+
+    /**
+     * @param seatIds already normalized (non-empty, no duplicates)
+     * @return the requested seats after the transition, ordered by seat id
+     */
+    List<SeatDto> apply(SeatOperation operation, List<Long> seatIds) {
+        List<SeatDto> requested = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            SeatDto seat = seats.get(seatId);
+            if (seat == null) {
+                throw new ResourceNotFoundException("Seat", "Some seats were not found for event " + eventId);
+            }
+            requested.add(seat);
+        }
+        requested.forEach(seat -> operation.check(seat.getStatus()));
+
+        requested.forEach(seat -> setStatus(seat, operation.targetStatus()));
+
+        return requested.stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .map(EventInventory::copy)
+                .toList();
+    }
+
+    /**
+     * Journal replay: the entry was valid when it was written
+     */
+    void replay(List<Long> seatIds, SeatStatus status) {
+        for (Long seatId : seatIds) {
+            SeatDto seat = seats.get(seatId);
+            if (seat != null) {
+                setStatus(seat, status);
+            }
+        }
+    }
+
+    Map<Long, SeatStatus> dirty() {
+        return dirty;
+    }
+
+    int availableSeats() {
+        return availableSeats;
+    }
+
+    private void setStatus(SeatDto seat, SeatStatus status) {
+        if (seat.getStatus() == status) {
+            return;
+        }
+        if (seat.getStatus() == SeatStatus.AVAILABLE) {
+            availableSeats--;
+        } else if (status == SeatStatus.AVAILABLE) {
+            availableSeats++;
+        }
+        seat.setStatus(status);
+        dirty.put(seat.getId(), status);
+    }
+
+    private static SeatDto copy(SeatDto seat) {
+        return SeatDto.builder()
+                .id(seat.getId())
+                .section(seat.getSection())
+                .rowLabel(seat.getRowLabel())
+                .seatNumber(seat.getSeatNumber())
+                .price(seat.getPrice())
+                .status(seat.getStatus())
+                .build();
+    }
+}
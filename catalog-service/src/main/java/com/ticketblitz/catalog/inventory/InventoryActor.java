@@ -0,0 +1,405 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Single writer for the seats of one event
+ *
+ * One virtual thread drains a bounded mailbox:
+ *
+ *   take up to maxBatch commands
+ *     -> apply each to the in-memory EventInventory (no locks, one thread)
+ *     -> append the accepted ones to the journal in one transaction
+ *     -> reply to every caller
+ *   every flushInterval (or when idle)
+ *     -> write changed seats + availability behind to Postgres
+ *
+ * Callers only get an answer once their transition is journaled, so a
+ * crash loses nothing that was acknowledged; the next owner replays it.
+ *
+ * Claimed releases (asynchronous seat releases per booking) are checked
+ * against processed_seat_releases on this thread and claimed in the journal
+ * transaction, so a release and its claim commit or roll back together.
+ *
+ * If the journal append finds that another owner moved the sequence, the
+ * actor reloads from Postgres and re-applies the batch against the fresh
+ * state. A batch that journals nothing is not fenced by the append, so
+ * before rejecting anything the actor compares last_sequence with its own
+ * and reloads on a mismatch: a caller is never turned down on stale state.
+ *
+ * After idleTimeout without commands (and nothing left to flush) the actor
+ * closes and frees its memory; the next command loads it again. An event
+ * without seats is not kept at all: the batch fails with "not found" and
+ * the actor closes right away.
+ *
+ * @author Akhil
+ */
+@Slf4j
+final class InventoryActor implements Runnable {
+
+    /**
+     * @param claims null for plain operations; for claimed releases the seats
+     *               are those of the claims not processed yet (seatIds unused)
+     */
+    record Command(SeatOperation operation, List<Long> seatIds,
+                   List<ProcessedSeatReleaseRepository.Claim> claims,
+                   CompletableFuture<List<SeatDto>> reply) {
+    }
+
+    enum Offer {
+        ACCEPTED, FULL, CLOSED
+    }
+
+    private static final int MAX_STALE_RETRIES = 3;
+
+    private final Long eventId;
+    private final InventoryJournal journal;
+    private final BlockingQueue<Command> mailbox;
+    private final int maxBatch;
+    private final long flushIntervalNanos;
+    private final long idleTimeoutNanos;
+    private final Consumer<Long> onFlushed;
+    private final Consumer<InventoryActor> onClosed;
+    private final DistributionSummary batchSize;
+
+    // Actor thread only
+    private EventInventory inventory;
+    private long sequence;
+    private long appliedSequence;
+    private long lastFlushNanos = System.nanoTime();
+    private boolean unknownEvent;
+
+    private boolean closed; // guarded by this
+    private volatile boolean stopping;
+    private Thread thread;
+
+    InventoryActor(
+            Long eventId,
+            InventoryJournal journal,
+            int queueCapacity,
+            int maxBatch,
+            Duration flushInterval,
+            Duration idleTimeout,
+            Consumer<Long> onFlushed,
+            Consumer<InventoryActor> onClosed,
+            DistributionSummary batchSize) {
+        this.eventId = eventId;
+        this.journal = journal;
+        this.mailbox = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.onFlushed = onFlushed;
+        this.onClosed = onClosed;
+        this.batchSize = batchSize;
+    }
+
+    Long eventId() {
+        return eventId;
+    }
+
+    InventoryActor start() {
+        thread = Thread.ofVirtual().name("inventory-" + eventId).start(this);
+        return this;
+    }
+
+    synchronized Offer offer(Command command) {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+        return mailbox.offer(command) ? Offer.ACCEPTED : Offer.FULL;
+    }
+
+    /**
+     * Answers what is already queued, flushes, then exits
+     */
+    void stop(Duration timeout) throws InterruptedException {
+        stopping = true;
+        thread.join(timeout);
+    }
+
+    @Override
+    public void run() {
+        long idleSince = System.nanoTime();
+        try {
+            while (!stopping) {
+                Command first = mailbox.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    flush();
+                    if (System.nanoTime() - idleSince > idleTimeoutNanos && isFlushed() && tryClose()) {
+                        log.debug("Inventory actor for event {} closed after idle timeout", eventId);
+                        return;
+                    }
+                    continue;
+                }
+
+                List<Command> batch = new ArrayList<>(Math.min(maxBatch, mailbox.size() + 1));
+                batch.add(first);
+                mailbox.drainTo(batch, maxBatch - 1);
+                process(batch);
+                if (unknownEvent && tryClose()) {
+                    log.debug("Inventory actor for event {} closed: event has no seats", eventId);
+                    return;
+                }
+                idleSince = System.nanoTime();
+
+                if (System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+                    flush();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                closed = true;
+            }
+            drainOnExit();
+            onClosed.accept(this);
+        }
+    }
+
+    private void drainOnExit() {
+        List<Command> remaining = new ArrayList<>();
+        mailbox.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += maxBatch) {
+            process(remaining.subList(from, Math.min(remaining.size(), from + maxBatch)));
+        }
+        flush();
+    }
+
+    private synchronized boolean tryClose() {
+        if (!mailbox.isEmpty()) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    private void process(List<Command> batch) {
+        for (int attempt = 1; ; attempt++) {
+            if (inventory == null && !load(batch)) {
+                return;
+            }
+
+            Set<Long> processed = processedClaims(batch);
+            if (processed == null) {
+                return;
+            }
+
+            Object[] outcomes = new Object[batch.size()];
+            List<InventoryJournal.Entry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                Command command = batch.get(i);
+                List<ProcessedSeatReleaseRepository.Claim> claims = List.of();
+                List<Long> seatIds = command.seatIds();
+                if (command.claims() != null) {
+                    claims = command.claims().stream()
+                            .filter(claim -> !processed.contains(claim.bookingId()))
+                            .toList();
+                    seatIds = claims.stream()
+                            .flatMap(claim -> claim.seatIds().stream())
+                            .distinct()
+                            .sorted()
+                            .toList();
+                    if (seatIds.isEmpty()) {
+                        outcomes[i] = List.of();
+                        continue;
+                    }
+                }
+                try {
+                    outcomes[i] = inventory.apply(command.operation(), seatIds);
+                    entries.add(new InventoryJournal.Entry(
+                            sequence + entries.size() + 1, command.operation(), seatIds, claims));
+                    // A second command claiming the same booking in this batch is a duplicate
+                    claims.forEach(claim -> processed.add(claim.bookingId()));
+                } catch (RuntimeException ex) {
+                    outcomes[i] = ex;
+                }
+            }
+
+            if (entries.isEmpty()) {
+                Boolean current = hasRejection(outcomes) ? isCurrent(batch) : Boolean.TRUE;
+                if (current == null) {
+                    return;
+                }
+                if (!current) {
+                    // Rejected against state another owner has moved on from: reload and re-run
+                    if (reloadForRetry(batch, attempt)) {
+                        continue;
+                    }
+                    return;
+                }
+            } else {
+                try {
+                    journal.append(eventId, sequence, entries);
+                    sequence += entries.size();
+                    batchSize.record(entries.size());
+                } catch (InventoryJournal.StaleInventoryException ex) {
+                    // In-memory state is behind another owner: reload and re-run the batch
+                    if (reloadForRetry(batch, attempt)) {
+                        continue;
+                    }
+                    return;
+                } catch (RuntimeException ex) {
+                    // Nothing was journaled, so the in-memory changes must go too
+                    log.error("Journal append failed for event {}", eventId, ex);
+                    inventory = null;
+                    failAll(batch, ex);
+                    return;
+                }
+            }
+
+            reply(batch, outcomes);
+            return;
+        }
+    }
+
+    /**
+     * Drops the stale inventory so the next attempt reloads it
+     *
+     * @return false if the batch was failed after the last attempt
+     */
+    private boolean reloadForRetry(List<Command> batch, int attempt) {
+        log.warn("Inventory of event {} is stale (attempt {}), reloading", eventId, attempt);
+        inventory = null;
+        if (attempt == MAX_STALE_RETRIES) {
+            failAll(batch, new IllegalStateException(
+                    "Seat inventory is busy for event " + eventId + ", please retry."));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean load(List<Command> batch) {
+        try {
+            InventoryJournal.Snapshot snapshot = journal.load(eventId);
+            if (snapshot.seats().isEmpty()) {
+                unknownEvent = true;
+                failAll(batch, new ResourceNotFoundException("Seat", "Some seats were not found for event " + eventId));
+                return false;
+            }
+            unknownEvent = false;
+            EventInventory loaded = new EventInventory(eventId, snapshot.seats());
+            snapshot.unapplied().forEach(entry -> loaded.replay(entry.seatIds(), entry.operation().targetStatus()));
+
+            inventory = loaded;
+            sequence = snapshot.lastSequence();
+            appliedSequence = snapshot.appliedSequence();
+            log.debug("Loaded inventory of event {}: {} seats, {} journal entries replayed",
+                    eventId, snapshot.seats().size(), snapshot.unapplied().size());
+            return true;
+        } catch (RuntimeException ex) {
+            log.error("Failed to load inventory of event {}", eventId, ex);
+            failAll(batch, ex);
+            return false;
+        }
+    }
+
+    /**
+     * @return whether the in-memory state is still at the journal's last
+     *         sequence, or null if the check failed and the batch was failed
+     */
+    private Boolean isCurrent(List<Command> batch) {
+        try {
+            return journal.lastSequence(eventId) == sequence;
+        } catch (RuntimeException ex) {
+            log.error("Failed to check the journal sequence of event {}", eventId, ex);
+            failAll(batch, ex);
+            return null;
+        }
+    }
+
+    private static boolean hasRejection(Object[] outcomes) {
+        for (Object outcome : outcomes) {
+            if (outcome instanceof RuntimeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return bookings of the batch's claims that were already processed
+     *         (mutable), or null if the check failed and the batch was failed
+     */
+    private Set<Long> processedClaims(List<Command> batch) {
+        List<Long> bookingIds = batch.stream()
+                .filter(command -> command.claims() != null)
+                .flatMap(command -> command.claims().stream())
+                .map(ProcessedSeatReleaseRepository.Claim::bookingId)
+                .toList();
+        if (bookingIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        try {
+            return new HashSet<>(journal.processedClaims(bookingIds));
+        } catch (RuntimeException ex) {
+            log.error("Failed to check seat release claims of event {}", eventId, ex);
+            failAll(batch, ex);
+            return null;
+        }
+    }
+
+    private boolean isFlushed() {
+        return inventory == null || (inventory.dirty().isEmpty() && appliedSequence == sequence);
+    }
+
+    private void flush() {
+        lastFlushNanos = System.nanoTime();
+        if (isFlushed()) {
+            return;
+        }
+        boolean flushed;
+        try {
+            flushed = journal.flush(eventId, sequence, inventory.dirty(), inventory.availableSeats());
+        } catch (RuntimeException ex) {
+            // Journaled already; keep the changes and retry on the next flush
+            log.error("Write-behind of event {} failed, will retry", eventId, ex);
+            return;
+        }
+
+        if (!flushed) {
+            log.warn("Inventory of event {} was taken over by another owner, reloading on next command", eventId);
+            inventory = null;
+            return;
+        }
+
+        inventory.dirty().clear();
+        appliedSequence = sequence;
+        try {
+            onFlushed.accept(eventId);
+        } catch (RuntimeException ex) {
+            log.warn("Cache eviction after write-behind of event {} failed", eventId, ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void reply(List<Command> batch, Object[] outcomes) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (outcomes[i] instanceof RuntimeException ex) {
+                batch.get(i).reply().completeExceptionally(ex);
+            } else {
+                batch.get(i).reply().complete((List<SeatDto>) outcomes[i]);
+            }
+        }
+    }
+
+    private static void failAll(List<Command> batch, RuntimeException ex) {
+        batch.forEach(command -> command.reply().completeExceptionally(ex));
+    }
+}
@@ -0,0 +1,206 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-memory inventory engine
+ *
+ * WHY:
+ * ====
+ * The row-locking path pays a SELECT ... FOR UPDATE, an availability count
+ * and a commit for every lock/book/release, and contended bookings of an
+ * on-sale event queue on those row locks. Here every event gets one
+ * {@link InventoryActor} that owns its seats in memory: transitions are
+ * applied by a single thread without locks, and Postgres only sees one
+ * journal insert per batch plus a periodic write-behind of the seat rows.
+ *
+ * FLOW:
+ * =====
+ * caller -> bounded mailbox of the event's actor -> batch applied in memory
+ *        -> batch journaled (group commit) -> caller answered
+ *
+ * A full mailbox is rejected right away (503) instead of queueing without
+ * bound; callers already retry catalog calls.
+ *
+ * ONE WRITER PER EVENT:
+ * =====================
+ * Several catalog instances may own the same event; the journal fence
+ * keeps them correct: appends from a stale owner are refused, and a stale
+ * owner re-reads last_sequence before rejecting anything. They do not keep
+ * it fast: every write on one instance invalidates the other's memory, and
+ * after three reloads in a row a batch fails with "busy". The throughput
+ * this engine is built for assumes one active writer per event, so run it
+ * with a single catalog writer instance (or route seat writes by event)
+ * and treat extra instances as standbys that take over on failure.
+ *
+ * Enabled with catalog.inventory.engine=actor; SeatService keeps the
+ * row-locking path otherwise.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "catalog.inventory.engine", havingValue = "actor")
+public class InventoryEngine {
+
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final InventoryJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, InventoryActor> actors = new ConcurrentHashMap<>();
+
+    private final int queueCapacity;
+    private final int maxBatch;
+    private final Duration flushInterval;
+    private final Duration idleTimeout;
+    private final Duration replyTimeout;
+
+    private final DistributionSummary batchSize;
+    private final Counter rejected;
+    private volatile boolean shuttingDown;
+
+    public InventoryEngine(
+            InventoryJournal journal,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.inventory.queue-capacity:4096}") int queueCapacity,
+            @Value("${catalog.inventory.max-batch:256}") int maxBatch,
+            @Value("${catalog.inventory.flush-interval:100ms}") Duration flushInterval,
+            @Value("${catalog.inventory.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${catalog.inventory.reply-timeout:5s}") Duration replyTimeout) {
+        this.journal = journal;
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+        this.maxBatch = maxBatch;
+        this.flushInterval = flushInterval;
+        this.idleTimeout = idleTimeout;
+        this.replyTimeout = replyTimeout;
+
+        this.batchSize = DistributionSummary.builder("ticketblitz.inventory.batch.size")
+                .description("Seat operations journaled per actor batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ticketblitz.inventory.rejected")
+                .description("Seat operations rejected because the event's mailbox was full")
+                .register(meterRegistry);
+        Gauge.builder("ticketblitz.inventory.actors", actors, Map::size)
+                .description("Events currently owned in memory")
+                .register(meterRegistry);
+
+        log.info("Inventory engine enabled: queueCapacity={}, maxBatch={}, flushInterval={}",
+                queueCapacity, maxBatch, flushInterval);
+    }
+
+    /**
+     * @param seatIds normalized: non-empty, no duplicates
+     */
+    public List<SeatDto> lockSeats(Long eventId, List<Long> seatIds) {
+        return submit(eventId, SeatOperation.LOCK, List.copyOf(seatIds), null);
+    }
+
+    public List<SeatDto> bookSeats(Long eventId, List<Long> seatIds) {
+        return submit(eventId, SeatOperation.BOOK, List.copyOf(seatIds), null);
+    }
+
+    public List<SeatDto> releaseSeats(Long eventId, List<Long> seatIds) {
+        return submit(eventId, SeatOperation.RELEASE, List.copyOf(seatIds), null);
+    }
+
+    /**
+     * Releases the seats of the claims not processed before and records the
+     * claims in the same journal commit. Already processed claims are skipped.
+     *
+     * @return the seats released
+     */
+    public List<SeatDto> releaseClaimedSeats(Long eventId, List<ProcessedSeatReleaseRepository.Claim> claims) {
+        return submit(eventId, SeatOperation.RELEASE, List.of(), List.copyOf(claims));
+    }
+
+    private List<SeatDto> submit(Long eventId, SeatOperation operation, List<Long> seatIds,
+                                 List<ProcessedSeatReleaseRepository.Claim> claims) {
+        CompletableFuture<List<SeatDto>> reply = new CompletableFuture<>();
+        InventoryActor.Command command = new InventoryActor.Command(operation, seatIds, claims, reply);
+
+        while (true) {
+            if (shuttingDown) {
+                throw new BusinessException("INVENTORY_UNAVAILABLE",
+                        "Seat inventory is shutting down, please retry.", 503);
+            }
+            InventoryActor actor = actors.computeIfAbsent(eventId, this::startActor);
+            switch (actor.offer(command)) {
+                case ACCEPTED -> {
+                    return await(eventId, reply);
+                }
+                case FULL -> {
+                    rejected.increment();
+                    throw new BusinessException("INVENTORY_BUSY",
+                            "Too many seat operations for event " + eventId + ", please retry.", 503);
+                }
+                // Closed after idling: drop it and start a fresh one
+                case CLOSED -> actors.remove(eventId, actor);
+            }
+        }
+    }
+
+    private List<SeatDto> await(Long eventId, CompletableFuture<List<SeatDto>> reply) {
+        try {
+            return reply.get(replyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // The operation may still be applied, like a lost response on the row-locking path
+            throw new BusinessException("INVENTORY_TIMEOUT",
+                    "Seat inventory for event " + eventId + " did not answer in time.", 503);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for seat inventory", ex);
+        }
+    }
+
+    private InventoryActor startActor(Long eventId) {
+        return new InventoryActor(
+                eventId,
+                journal,
+                queueCapacity,
+                maxBatch,
+                flushInterval,
+                idleTimeout,
+                flushedEventId -> eventPublisher.publishEvent(new InventoryFlushedEvent(flushedEventId)),
+                closed -> actors.remove(closed.eventId(), closed),
+                batchSize
+        ).start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        shuttingDown = true;
+        for (InventoryActor actor : List.copyOf(actors.values())) {
+            actor.stop(STOP_TIMEOUT);
+        }
+        log.info("Inventory engine stopped");
+    }
+}
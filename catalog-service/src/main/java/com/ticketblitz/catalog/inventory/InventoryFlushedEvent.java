@@ -0,0 +1,10 @@
+package com.ticketblitz.catalog.inventory;
+
+/**
+ * Published by the inventory engine after seat changes of an event reached
+ * the seats table; cached seat reads of that event are stale from here on.
+ *
+ * @author Akhil
+ */
+public record InventoryFlushedEvent(Long eventId) {
+}
@@ -0,0 +1,215 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.constant.SeatStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Postgres side of the inventory engine
+ *
+ * - load()   seats + unapplied journal entries, in one snapshot
+ * - lastSequence() journal head, checked before a batch is rejected
+ * - append() journal entries of one actor batch (group commit), fenced on
+ *            inventory_streams.last_sequence, plus the seat-release claims
+ *            of those entries (processed_seat_releases) in the same commit
+ * - flush()  write-behind of seat statuses and event availability, then
+ *            truncate the journal up to the flushed sequence
+ *
+ * All of it runs read-write, so it always hits the primary.
+ *
+ * @author Akhil
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.inventory.engine", havingValue = "actor")
+public class InventoryJournal {
+
+    /**
+     * @param claims bookings whose release this entry is (empty for plain operations)
+     */
+    record Entry(long sequence, SeatOperation operation, List<Long> seatIds,
+                 List<ProcessedSeatReleaseRepository.Claim> claims) {
+    }
+
+    record Snapshot(long lastSequence, long appliedSequence, List<SeatDto> seats, List<Entry> unapplied) {
+    }
+
+    /**
+     * Another owner appended to this event since it was loaded
+     */
+    static class StaleInventoryException extends RuntimeException {
+        StaleInventoryException(Long eventId) {
+            super("Inventory of event " + eventId + " was changed by another owner");
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProcessedSeatReleaseRepository processedSeatReleases;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate snapshotTransaction;
+
+    public InventoryJournal(
+            JdbcTemplate jdbcTemplate,
+            ProcessedSeatReleaseRepository processedSeatReleases,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.processedSeatReleases = processedSeatReleases;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    Snapshot load(Long eventId) {
+        return snapshotTransaction.execute(status -> {
+            List<SeatDto> seats = jdbcTemplate.query(
+                    "SELECT id, section, row_label, seat_number, price, status FROM seats " +
+                            "WHERE event_id = ? ORDER BY id",
+                    (rs, rowNum) -> SeatDto.builder()
+                            .id(rs.getLong("id"))
+                            .section(rs.getString("section"))
+                            .rowLabel(rs.getString("row_label"))
+                            .seatNumber(rs.getInt("seat_number"))
+                            .price(rs.getBigDecimal("price"))
+                            .status(SeatStatus.valueOf(rs.getString("status")))
+                            .build(),
+                    eventId);
+
+            if (seats.isEmpty()) {
+                // Unknown event: nothing to own, the actor fails the batch and closes
+                return new Snapshot(0, 0, seats, List.of());
+            }
+
+            jdbcTemplate.update(
+                    "INSERT INTO inventory_streams (event_id) VALUES (?) ON CONFLICT (event_id) DO NOTHING",
+                    eventId);
+            long[] sequences = jdbcTemplate.queryForObject(
+                    "SELECT last_sequence, applied_sequence FROM inventory_streams WHERE event_id = ?",
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                    eventId);
+
+            List<Entry> unapplied = jdbcTemplate.query(
+                    "SELECT sequence, operation, seat_ids FROM inventory_journal " +
+                            "WHERE event_id = ? AND sequence > ? ORDER BY sequence",
+                    (rs, rowNum) -> new Entry(
+                            rs.getLong("sequence"),
+                            SeatOperation.valueOf(rs.getString("operation")),
+                            Arrays.asList((Long[]) rs.getArray("seat_ids").getArray()),
+                            List.of()),
+                    eventId, sequences[1]);
+
+            return new Snapshot(sequences[0], sequences[1], seats, unapplied);
+        });
+    }
+
+    /**
+     * Current journal head of the event; 0 if nothing was ever journaled
+     */
+    long lastSequence(Long eventId) {
+        List<Long> sequences = jdbcTemplate.queryForList(
+                "SELECT last_sequence FROM inventory_streams WHERE event_id = ?", Long.class, eventId);
+        return sequences.isEmpty() ? 0 : sequences.get(0);
+    }
+
+    /**
+     * Bookings whose seats were already given back (claimed earlier)
+     */
+    Set<Long> processedClaims(Collection<Long> bookingIds) {
+        return processedSeatReleases.findProcessed(bookingIds);
+    }
+
+    /**
+     * @throws StaleInventoryException if last_sequence moved past expectedSequence,
+     *         or a claim was taken since the actor checked it; nothing is written then
+     */
+    void append(Long eventId, long expectedSequence, List<Entry> entries) {
+        long newSequence = entries.get(entries.size() - 1).sequence();
+        writeTransaction.executeWithoutResult(status -> {
+            int fenced = jdbcTemplate.update(
+                    "UPDATE inventory_streams SET last_sequence = ?, updated_at = CURRENT_TIMESTAMP " +
+                            "WHERE event_id = ? AND last_sequence = ?",
+                    newSequence, eventId, expectedSequence);
+            if (fenced == 0) {
+                throw new StaleInventoryException(eventId);
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO inventory_journal (event_id, sequence, operation, seat_ids, target_status) " +
+                            "VALUES (?, ?, ?, ?, ?)",
+                    entries,
+                    entries.size(),
+                    (ps, entry) -> {
+                        Array seatIds = ps.getConnection().createArrayOf("bigint", entry.seatIds().toArray());
+                        ps.setLong(1, eventId);
+                        ps.setLong(2, entry.sequence());
+                        ps.setString(3, entry.operation().name());
+                        ps.setArray(4, seatIds);
+                        ps.setString(5, entry.operation().targetStatus().name());
+                    });
+
+            List<ProcessedSeatReleaseRepository.Claim> claims = entries.stream()
+                    .flatMap(entry -> entry.claims().stream())
+                    .toList();
+            Set<Long> claimed = processedSeatReleases.claim(
+                    eventId, claims, ProcessedSeatReleaseRepository.OUTCOME_RELEASED);
+            if (claimed.size() < claims.size()) {
+                // Claimed concurrently (e.g. rejected on another node): roll back, reload, re-check
+                throw new StaleInventoryException(eventId);
+            }
+        });
+    }
+
+    /**
+     * @return false if another owner appended since sequence; nothing is written then
+     */
+    boolean flush(Long eventId, long sequence, Map<Long, SeatStatus> seats, int availableSeats) {
+        Boolean flushed = writeTransaction.execute(status -> {
+            Long lastSequence = jdbcTemplate.queryForObject(
+                    "SELECT last_sequence FROM inventory_streams WHERE event_id = ? FOR UPDATE",
+                    Long.class, eventId);
+            if (lastSequence == null || lastSequence != sequence) {
+                return false;
+            }
+
+            List<Object[]> updates = new ArrayList<>(seats.size());
+            seats.forEach((seatId, seatStatus) -> updates.add(new Object[]{seatStatus.name(), seatId, eventId}));
+            jdbcTemplate.batchUpdate(
+                    "UPDATE seats SET status = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                            "WHERE id = ? AND event_id = ?",
+                    updates);
+
+            jdbcTemplate.update(
+                    "UPDATE events SET available_seats = ?, " +
+                            "status = CASE " +
+                            "  WHEN ? = 0 AND status = 'ACTIVE' THEN 'SOLD_OUT' " +
+                            "  WHEN ? > 0 AND status = 'SOLD_OUT' THEN 'ACTIVE' " +
+                            "  ELSE status END, " +
+                            "inventory_version = inventory_version + 1, version = version + 1, " +
+                            "updated_at = CURRENT_TIMESTAMP " +
+                            "WHERE id = ?",
+                    availableSeats, availableSeats, availableSeats, eventId);
+
+            jdbcTemplate.update(
+                    "UPDATE inventory_streams SET applied_sequence = ?, updated_at = CURRENT_TIMESTAMP " +
+                            "WHERE event_id = ?",
+                    sequence, eventId);
+            jdbcTemplate.update(
+                    "DELETE FROM inventory_journal WHERE event_id = ? AND sequence <= ?",
+                    eventId, sequence);
+            return true;
+        });
+        return Boolean.TRUE.equals(flushed);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.common.constant.SeatStatus;
+
+/**
+ * Seat transitions the inventory engine accepts
+ *
+ * Same rules as the row-locking path in SeatService:
+ * - LOCK    AVAILABLE -> LOCKED (all seats must be AVAILABLE)
+ * - BOOK    LOCKED    -> BOOKED (BOOKED seats are left as-is)
+ * - RELEASE LOCKED    -> AVAILABLE (AVAILABLE seats are left as-is)
+ *
+ * @author Akhil
+ */
+public enum SeatOperation {
+
+    LOCK(SeatStatus.LOCKED),
+    BOOK(SeatStatus.BOOKED),
+    RELEASE(SeatStatus.AVAILABLE);
+
+    private final SeatStatus targetStatus;
+
+    SeatOperation(SeatStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    public SeatStatus targetStatus() {
+        return targetStatus;
+    }
+
+    /**
+     * @throws IllegalStateException if the seat cannot take this transition
+     */
+    void check(SeatStatus current) {
+        switch (this) {
+            case LOCK -> {
+                if (current != SeatStatus.AVAILABLE) {
+                    throw new IllegalStateException("One or more seats are no longer available for booking.");
+                }
+            }
+            case BOOK -> {
+                if (current != SeatStatus.LOCKED && current != SeatStatus.BOOKED) {
+                    throw new IllegalStateException("Only locked seats can be confirmed as booked.");
+                }
+            }
+            case RELEASE -> {
+                if (current == SeatStatus.BOOKED) {
+                    throw new SeatReleaseRejectedException();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketblitz.catalog.inventory;
+
+/**
+ * A release that can never succeed: one of the seats is already BOOKED.
+ *
+ * Unlike other IllegalStateExceptions (inventory busy, interrupted) retrying
+ * does not help, so asynchronous releases record it instead of retrying.
+ * Still an IllegalStateException, so REST and gRPC keep answering 409.
+ *
+ * @author Akhil
+ */
+public class SeatReleaseRejectedException extends IllegalStateException {
+
+    public SeatReleaseRejectedException() {
+        super("Booked seats cannot be released back to inventory.");
+    }
+}
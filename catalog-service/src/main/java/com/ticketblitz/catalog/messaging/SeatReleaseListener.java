@@ -0,0 +1,82 @@
+package com.ticketblitz.catalog.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.catalog.config.RabbitMQConfig;
+import com.ticketblitz.catalog.service.SeatReleaseService;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RabbitMQ Consumer — seat releases from booking-service (batched)
+ *
+ * CONSUMER GUARANTEES:
+ * ====================
+ * 1. IDEMPOTENT: SeatReleaseService records every booking it released
+ * 2. RETRY: a failed batch is dead-lettered to the retry queue (30s)
+ * 3. DLQ: messages that already failed MAX_RETRIES times, and unreadable
+ *    messages, go to the dead-letter queue instead of into the batch
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatReleaseListener {
+
+    private static final long MAX_RETRIES = 10;
+
+    private final SeatReleaseService seatReleaseService;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = RabbitMQConfig.SEAT_RELEASE_QUEUE,
+            containerFactory = "seatReleaseContainerFactory"
+    )
+    public void handleSeatReleases(List<Message> messages) {
+        List<SeatsReleasedEvent> releases = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            if (retryCount(message) >= MAX_RETRIES) {
+                log.warn("Max retries reached for seat release {}. Sending to DLQ",
+                        message.getMessageProperties().getCorrelationId());
+                deadLetter(message);
+                continue;
+            }
+            try {
+                releases.add(objectMapper.readValue(message.getBody(), SeatsReleasedEvent.class));
+            } catch (IOException ex) {
+                log.error("Unreadable seat release message, sending to DLQ", ex);
+                deadLetter(message);
+            }
+        }
+
+        if (!releases.isEmpty()) {
+            log.info("Received {} seat releases", releases.size());
+            seatReleaseService.release(releases);
+        }
+    }
+
+    private void deadLetter(Message message) {
+        rabbitTemplate.send(RabbitMQConfig.DLX_EXCHANGE, RabbitMQConfig.SEAT_RELEASE_DLQ_ROUTING_KEY, message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long retryCount(Message message) {
+        Map<String, Object> headers = message.getMessageProperties().getHeaders();
+        List<Map<String, Object>> xDeath = (List<Map<String, Object>>) headers.get("x-death");
+        if (xDeath == null || xDeath.isEmpty()) {
+            return 0;
+        }
+        return (long) xDeath.get(0).get("count");
+    }
+}
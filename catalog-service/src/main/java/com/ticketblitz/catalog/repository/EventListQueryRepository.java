@@ -0,0 +1,30 @@
+package com.ticketblitz.catalog.repository;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.entity.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment: Specification filters + EventListDto projection.
+ *
+ * JpaSpecificationExecutor can only return entities, which is what caused the
+ * venue N+1 on the search endpoint. This fragment applies the same
+ * Specifications to a constructor-projection criteria query instead.
+ *
+ * Ranked search lives here too: it needs Postgres full-text operators that
+ * JPQL cannot express, so it is a native query mapped to the same DTO.
+ *
+ * @author Akhil
+ */
+public interface EventListQueryRepository {
+
+    Page<EventListDto> findListPage(Specification<Event> spec, Pageable pageable);
+
+    /**
+     * Full-text + trigram search ordered by relevance (pageable sort is ignored)
+     */
+    Page<EventListDto> searchRanked(EventSearchFilter filter, Pageable pageable);
+}
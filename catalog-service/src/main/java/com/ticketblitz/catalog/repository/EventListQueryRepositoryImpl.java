@@ -0,0 +1,238 @@
+package com.ticketblitz.catalog.repository;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.entity.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Criteria implementation of {@link EventListQueryRepository}.
+ *
+ * QUERIES:
+ * ========
+ * 1. SELECT new EventListDto(...) FROM events JOIN venues WHERE spec ORDER BY sort
+ * 2. SELECT COUNT(*) ... WHERE spec - skipped by PageableExecutionUtils when
+ *    the first page is already short
+ *
+ * The venue join is created before the Specification runs, so
+ * EventSpecification.inCity reuses it instead of joining a second time.
+ *
+ * RANKED SEARCH:
+ * ==============
+ * A row matches when either of these hits (both are GIN indexes, so the
+ * planner combines them with a BitmapOr instead of scanning events):
+ * - search_vector @@ websearch_to_tsquery  (stemmed words, name and description)
+ * - LOWER(name) LIKE '%term%'               (substrings, partial words)
+ *
+ * Only when that finds nothing is the term retried as a trigram word
+ * similarity match (term <% LOWER(name)) to absorb typos. Running it on every
+ * search would pull in every name sharing a common word and make ranking
+ * cost more than the old sequential scan.
+ *
+ * Rank = ts_rank_cd (name weighted above description) + word similarity,
+ * ties broken by (event_date, id) so paging is stable.
+ */
+public class EventListQueryRepositoryImpl implements EventListQueryRepository {
+
+    private static final String RANKED_SELECT =
+            "SELECT e.id, e.name, e.event_date, e.category, e.available_seats, e.base_price, " +
+            "e.status, e.image_url, v.name AS venue_name, v.city AS venue_city ";
+
+    private static final String RANKED_FROM =
+            "FROM events e JOIN venues v ON v.id = e.venue_id, " +
+            "websearch_to_tsquery('english', :term) q ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventListDto> findListPage(Specification<Event> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EventListDto> query = cb.createQuery(EventListDto.class);
+        Root<Event> root = query.from(Event.class);
+        Join<Event, Venue> venue = root.join("venue", JoinType.INNER);
+
+        query.select(cb.construct(EventListDto.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("eventDate"),
+                root.get("eventCategory"),
+                root.get("availableSeats"),
+                root.get("price"),
+                root.get("status"),
+                root.get("imageUrl"),
+                venue.get("name"),
+                venue.get("city")
+        ));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<EventListDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<EventListDto> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<EventListDto> searchRanked(EventSearchFilter filter, Pageable pageable) {
+        Page<EventListDto> page = searchRanked(filter, pageable, false);
+        if (page.getTotalElements() > 0) {
+            return page;
+        }
+        // Nothing matched the words themselves - retry typo tolerant
+        return searchRanked(filter, pageable, true);
+    }
+
+    private Page<EventListDto> searchRanked(EventSearchFilter filter, Pageable pageable, boolean fuzzy) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = rankedWhereClause(filter, parameters, fuzzy);
+
+        StringBuilder sql = new StringBuilder(RANKED_SELECT)
+                .append(RANKED_FROM)
+                .append(where)
+                .append(" ORDER BY ts_rank_cd(e.search_vector, q) + word_similarity(:lowerTerm, lower(e.name)) DESC, ")
+                .append("e.event_date ASC, e.id ASC");
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("name", String.class)
+                .addScalar("event_date", LocalDateTime.class)
+                .addScalar("category", String.class)
+                .addScalar("available_seats", Integer.class)
+                .addScalar("base_price", BigDecimal.class)
+                .addScalar("status", String.class)
+                .addScalar("image_url", String.class)
+                .addScalar("venue_name", String.class)
+                .addScalar("venue_city", String.class);
+        parameters.forEach(query::setParameter);
+        query.setParameter("lowerTerm", filter.term().trim().toLowerCase(Locale.ROOT));
+        if (pageable.isPaged()) {
+            query.setParameter("limit", pageable.getPageSize());
+            query.setParameter("offset", pageable.getOffset());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<EventListDto> content = rows.stream().map(this::toListDto).toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) " + RANKED_FROM + where);
+            parameters.forEach(countQuery::setParameter);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    private String rankedWhereClause(EventSearchFilter filter, Map<String, Object> parameters, boolean fuzzy) {
+        String lowerTerm = filter.term().trim().toLowerCase(Locale.ROOT);
+        parameters.put("term", filter.term().trim());
+
+        StringBuilder where = new StringBuilder();
+        if (fuzzy) {
+            where.append("WHERE :lowerTerm <% lower(e.name)");
+            parameters.put("lowerTerm", lowerTerm);
+        } else {
+            where.append("WHERE (e.search_vector @@ q OR lower(e.name) LIKE :pattern)");
+            parameters.put("pattern", "%" + escapeLike(lowerTerm) + "%");
+        }
+
+        if (filter.category() != null) {
+            where.append(" AND e.category = :category");
+            parameters.put("category", filter.category().name());
+        }
+        if (filter.status() != null) {
+            where.append(" AND e.status = :status");
+            parameters.put("status", filter.status().name());
+        }
+        if (filter.city() != null && !filter.city().isBlank()) {
+            where.append(" AND lower(trim(v.city)) = :city");
+            parameters.put("city", filter.city().trim().toLowerCase(Locale.ROOT));
+        }
+        if (filter.minSeats() != null) {
+            where.append(" AND e.available_seats >= :minSeats");
+            parameters.put("minSeats", filter.minSeats());
+        }
+        if (filter.startDate() != null && filter.endDate() != null) {
+            where.append(" AND e.event_date BETWEEN :startDate AND :endDate");
+            parameters.put("startDate", filter.startDate());
+            parameters.put("endDate", filter.endDate());
+        }
+        return where.toString();
+    }
+
+    private EventListDto toListDto(Object[] row) {
+        return new EventListDto(
+                (Long) row[0],
+                (String) row[1],
+                (LocalDateTime) row[2],
+                Event.EventCategory.valueOf((String) row[3]),
+                (Integer) row[4],
+                (BigDecimal) row[5],
+                Event.EventStatus.valueOf((String) row[6]),
+                (String) row[7],
+                (String) row[8],
+                (String) row[9]
+        );
+    }
+
+    /**
+     * User input is matched literally; backslash is Postgres' default LIKE escape
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private long count(Specification<Event> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
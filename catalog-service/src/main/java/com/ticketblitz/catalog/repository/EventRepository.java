@@ -1,10 +1,13 @@
 package com.ticketblitz.catalog.repository;
 
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventVersion;
 import com.ticketblitz.catalog.entity.Event;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -14,6 +17,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -37,12 +42,42 @@ import java.util.Optional;
  * - Combine multiple criteria
  * - Type-safe query building
  *
+ * LIST PROJECTIONS:
+ * =================
+ * List queries select the EventListDto columns straight through one venue
+ * join (LIST_PROJECTION). No Event entities are hydrated, nothing enters the
+ * persistence context, and the LAZY venue can no longer fire one extra query
+ * per row from the mapper. Page queries carry an explicit countQuery
+ * without the join where it is not needed.
+ *
+ * SEARCH:
+ * =======
+ * Name search is not here: the old LOWER(name) LIKE '%term%' query could not
+ * use an index. Ranked full-text search is searchRanked() in the
+ * EventListQueryRepository fragment (GIN indexes from V6).
+ *
+ * KEYSET PAGINATION:
+ * ==================
+ * The *After methods seek past the last (eventDate, id) a client has seen
+ * instead of using OFFSET, and return a Slice (no COUNT query). The
+ * redundant "eventDate >= :afterDate" keeps the scan a bounded index range.
+ *
  * @author Akhil
  */
 @Repository
 public interface EventRepository extends
         JpaRepository<Event, Long>,
-        JpaSpecificationExecutor<Event> {
+        JpaSpecificationExecutor<Event>,
+        EventListQueryRepository {
+
+    String LIST_PROJECTION = "SELECT new com.ticketblitz.catalog.dto.EventListDto(" +
+            "e.id, e.name, e.eventDate, e.eventCategory, e.availableSeats, " +
+            "e.price, e.status, e.imageUrl, v.name, v.city) " +
+            "FROM Event e JOIN e.venue v ";
+
+    String SEEK_AFTER = "AND e.eventDate >= :afterDate " +
+            "AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+            "ORDER BY e.eventDate ASC, e.id ASC";
 
     /**
      * Find event with venue (JOIN FETCH prevents N+1)
@@ -61,81 +96,185 @@ public interface EventRepository extends
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdForUpdate(@Param("id") Long id);
 
+    /**
+     * Version columns only (ETag source)
+     *
+     * OPTIMIZATION: primary key lookup, no venue join, no entity in the
+     * persistence context - a 304 never pays for the body
+     */
+    @Query("SELECT new com.ticketblitz.catalog.dto.EventVersion(e.version, e.inventoryVersion) " +
+            "FROM Event e WHERE e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") Long id);
+
     /**
      * Find upcoming events (read only optimization)
      */
-    @Query("SELECT e FROM Event e " +
+    @Query(value = LIST_PROJECTION +
             "WHERE e.eventDate >= :now " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name="org.hibernate.readOnly", value = "true"))
-    Page<Event> findUpcomingEvents(
+            "AND e.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "WHERE e.eventDate >= :now " +
+                    "AND e.status = 'ACTIVE'")
+    Page<EventListDto> findUpcomingEvents(
             @Param("now")LocalDateTime now,
             Pageable pageable
             );
 
 
     /**
-     * Find events by category (with pagination)
+     * Find upcoming events by category (with pagination)
      */
-    @Query("SELECT e from Event e " +
+    @Query(value = LIST_PROJECTION +
             "WHERE e.eventCategory = :category " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name="org.hibernate.readOnly", value = "true"))
-    Page<Event> findByCategory(
+            "AND e.status = 'ACTIVE' " +
+            "AND e.eventDate >= :now",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "WHERE e.eventCategory = :category " +
+                    "AND e.status = 'ACTIVE' " +
+                    "AND e.eventDate >= :now")
+    Page<EventListDto> findByCategory(
             @Param("category") Event.EventCategory category,
+            @Param("now") LocalDateTime now,
             Pageable pageable
     );
 
     /**
      * Find events by venue
      */
-    @Query("SELECT e FROM Event e " +
-            "WHERE e.venue.id = :venueId " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
-    Page<Event> findByVenueId(
+    @Query(value = LIST_PROJECTION +
+            "WHERE v.id = :venueId " +
+            "AND e.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "WHERE e.venue.id = :venueId " +
+                    "AND e.status = 'ACTIVE'")
+    Page<EventListDto> findByVenueId(
             @Param("venueId") Long venueId,
             Pageable pageable
     );
 
     /**
-     * Search events by name (case-insensitive)
+     * Find events by date range
      */
-    @Query("SELECT e from Event e " +
-            "WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
-    Page<Event> searchByName(
-            @Param("searchTerm") String searchTerm,
+    @Query(value = LIST_PROJECTION +
+            "WHERE e.eventDate BETWEEN :startDate AND :endDate " +
+            "AND e.status = 'ACTIVE'",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "WHERE e.eventDate BETWEEN :startDate AND :endDate " +
+                    "AND e.status = 'ACTIVE'")
+    Page<EventListDto> findByDateRange(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
 
     /**
-     * Find events by date range
+     * Find upcoming events by city (through venue), ignoring case and
+     * surrounding spaces like the city timelines in EventTimelineCache
      */
-    @Query("SELECT e from Event e " +
-            "WHERE e.eventDate BETWEEN :startDate AND :endDate " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
-    Page<Event> findByDateRange(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
+    @Query(value = LIST_PROJECTION +
+            "WHERE LOWER(TRIM(v.city)) = LOWER(TRIM(:city)) " +
+            "AND e.status = 'ACTIVE' " +
+            "AND e.eventDate >= :now",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "JOIN e.venue v " +
+                    "WHERE LOWER(TRIM(v.city)) = LOWER(TRIM(:city)) " +
+                    "AND e.status = 'ACTIVE' " +
+                    "AND e.eventDate >= :now")
+    Page<EventListDto> findByCity(
+            @Param("city") String city,
+            @Param("now") LocalDateTime now,
             Pageable pageable
     );
 
     /**
-     * Find events by city (through venue)
+     * Upcoming events after a cursor position (keyset)
      */
-    @Query("SELECT e FROM Event e " +
-            "JOIN e.venue v " +
-            "WHERE v.city = :city " +
-            "AND e.status = 'ACTIVE'")
-    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
-    Page<Event> findByCity(
+    @Query(LIST_PROJECTION +
+            "WHERE e.status = 'ACTIVE' " +
+            "AND e.eventDate >= :now " +
+            SEEK_AFTER)
+    Slice<EventListDto> findUpcomingEventsAfter(
+            @Param("now") LocalDateTime now,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Events by category after a cursor position (keyset)
+     */
+    @Query(LIST_PROJECTION +
+            "WHERE e.eventCategory = :category " +
+            "AND e.status = 'ACTIVE' " +
+            SEEK_AFTER)
+    Slice<EventListDto> findByCategoryAfter(
+            @Param("category") Event.EventCategory category,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Events by venue after a cursor position (keyset)
+     */
+    @Query(LIST_PROJECTION +
+            "WHERE v.id = :venueId " +
+            "AND e.status = 'ACTIVE' " +
+            SEEK_AFTER)
+    Slice<EventListDto> findByVenueIdAfter(
+            @Param("venueId") Long venueId,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Events by city after a cursor position (keyset)
+     */
+    @Query(LIST_PROJECTION +
+            "WHERE LOWER(TRIM(v.city)) = LOWER(TRIM(:city)) " +
+            "AND e.status = 'ACTIVE' " +
+            SEEK_AFTER)
+    Slice<EventListDto> findByCityAfter(
             @Param("city") String city,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
             Pageable pageable
     );
 
+    /**
+     * Upcoming events at any of the given venues (proximity search)
+     *
+     * Served by idx_events_venue_status_date_id, one index range per venue
+     */
+    @Query(value = LIST_PROJECTION +
+            "WHERE v.id IN :venueIds " +
+            "AND e.status = 'ACTIVE' " +
+            "AND e.eventDate >= :now",
+            countQuery = "SELECT COUNT(e) FROM Event e " +
+                    "WHERE e.venue.id IN :venueIds " +
+                    "AND e.status = 'ACTIVE' " +
+                    "AND e.eventDate >= :now")
+    Page<EventListDto> findUpcomingByVenueIds(
+            @Param("venueIds") Collection<Long> venueIds,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * Every upcoming event, any status (source of the in-memory indexes)
+     */
+    @Query(LIST_PROJECTION +
+            "WHERE e.eventDate >= :now " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventListDto> findUpcomingListRows(@Param("now") LocalDateTime now);
+
+    /**
+     * List rows for specific events (incremental in-memory index refresh)
+     */
+    @Query(LIST_PROJECTION + "WHERE e.id IN :ids")
+    List<EventListDto> findListRowsByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Check if event exists and is active
      */
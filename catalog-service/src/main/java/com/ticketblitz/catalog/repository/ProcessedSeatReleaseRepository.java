@@ -0,0 +1,87 @@
+package com.ticketblitz.catalog.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * processed_seat_releases — which bookings already gave their seats back
+ *
+ * Plain JDBC: a claim is one INSERT ... ON CONFLICT DO NOTHING RETURNING
+ * over unnest'ed arrays, so the bookings claimed by this call come straight
+ * back from the database. (Batched update counts cannot be used for that:
+ * with reWriteBatchedInserts the driver reports SUCCESS_NO_INFO per row.)
+ *
+ * @author Akhil
+ */
+@Repository
+public class ProcessedSeatReleaseRepository {
+
+    public static final String OUTCOME_RELEASED = "RELEASED";
+    public static final String OUTCOME_REJECTED = "REJECTED";
+
+    /**
+     * One booking's seats to give back
+     */
+    public record Claim(Long bookingId, String reason, List<Long> seatIds) {
+    }
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO processed_seat_releases (booking_id, event_id, reason, outcome) " +
+            "SELECT c.booking_id, ?, c.reason, ? " +
+            "FROM unnest(?::bigint[], ?::varchar[]) AS c(booking_id, reason) " +
+            "ON CONFLICT (booking_id) DO NOTHING " +
+            "RETURNING booking_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProcessedSeatReleaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return IDs of the bookings this call claimed (first claim wins)
+     */
+    public Set<Long> claim(Long eventId, Collection<Claim> claims, String outcome) {
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> claimStatement(connection, eventId, claims, outcome),
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    public Set<Long> findProcessed(Collection<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "SELECT booking_id FROM processed_seat_releases WHERE booking_id = ANY(?)");
+                    ps.setArray(1, connection.createArrayOf("bigint", bookingIds.toArray()));
+                    return ps;
+                },
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    private static PreparedStatement claimStatement(
+            Connection connection, Long eventId, Collection<Claim> claims, String outcome) throws SQLException {
+        Long[] bookingIds = claims.stream().map(Claim::bookingId).toArray(Long[]::new);
+        String[] reasons = claims.stream().map(Claim::reason).toArray(String[]::new);
+
+        PreparedStatement ps = connection.prepareStatement(CLAIM_SQL);
+        ps.setLong(1, eventId);
+        ps.setString(2, outcome);
+        ps.setArray(3, connection.createArrayOf("bigint", bookingIds));
+        ps.setArray(4, connection.createArrayOf("varchar", reasons));
+        return ps;
+    }
+}
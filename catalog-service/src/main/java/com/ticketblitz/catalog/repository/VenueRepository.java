@@ -24,9 +24,9 @@ import java.util.List;
 public interface VenueRepository extends JpaRepository<Venue, Long> {
 
     /**
-     * Find venues by city
+     * Find venues by city (case-insensitive)
      */
-    @Query("SELECT v FROM Venue v WHERE v.city = :city")
+    @Query("SELECT v FROM Venue v WHERE LOWER(TRIM(v.city)) = LOWER(TRIM(:city))")
     @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
     List<Venue> findByCity(@Param("city") String city);
 
@@ -41,13 +41,26 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
     );
 
     /**
-     * Search venues by name (case-insensitive)
+     * Search venues by name (case-insensitive, typo tolerant)
+     *
+     * Substring and trigram word-similarity matches both use idx_venues_name_trgm;
+     * closest names come first
      */
-    @Query("SELECT v FROM Venue v " +
-            "WHERE LOWER(v.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    @Query(value = "SELECT * FROM venues v " +
+            "WHERE lower(v.name) LIKE CONCAT('%', lower(:searchTerm), '%') " +
+            "OR lower(:searchTerm) <% lower(v.name) " +
+            "ORDER BY word_similarity(lower(:searchTerm), lower(v.name)) DESC, v.name",
+            nativeQuery = true)
     @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
     List<Venue> searchByName(@Param("searchTerm") String searchTerm);
 
+    /**
+     * Venues that have coordinates (source of the in-memory geo grid)
+     */
+    @Query("SELECT v FROM Venue v WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<Venue> findAllWithCoordinates();
+
     /**
      * Find all venues (cached, read-only)
      */
@@ -5,9 +5,11 @@ import com.ticketblitz.catalog.entity.Venue;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 /**
  * Event specification
  *
@@ -109,16 +111,33 @@ public class EventSpecification {
             if (city == null || city.isBlank()) {
                 return cb.conjunction();
             }
-            Join<Event, Venue> venueJoin = root.join("venue", JoinType.INNER);
+            Join<Event, Venue> venueJoin = venueJoin(root);
             return cb.equal(
-                    cb.lower(venueJoin.get("city")),
-                    city.toLowerCase()
+                    cb.lower(cb.trim(venueJoin.get("city"))),
+                    city.trim().toLowerCase(Locale.ROOT)
             );
         };
     }
 
+    /**
+     * Reuse the venue join when the query already has one (list projection),
+     * otherwise add it - avoids joining venues twice
+     */
+    @SuppressWarnings("unchecked")
+    private static Join<Event, Venue> venueJoin(Root<Event> root) {
+        return root.getJoins().stream()
+                .filter(join -> "venue".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Event, Venue>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("venue", JoinType.INNER));
+    }
+
     /**
      * Search by name (case-insensitive LIKE)
+     *
+     * LOWER(name) LIKE '%term%' is served by the idx_events_name_trgm trigram
+     * index (V6) for terms of 3+ characters. Relevance-ordered search goes
+     * through EventRepository.searchRanked instead.
      */
     public static Specification<Event> nameLike(String searchTerm) {
         return (root, query, cb) -> {
@@ -0,0 +1,425 @@
+package com.ticketblitz.catalog.search;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.entity.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Columnar facet index over upcoming events.
+ *
+ * LAYOUT:
+ * =======
+ * Rows are ordered by (eventDate, id), so the date column is sorted and a
+ * date range is two binary searches. Category, status and city each keep one
+ * bitset per value plus a per-row value id; availableSeats is a plain int
+ * column.
+ *
+ * QUERY:
+ * ======
+ * 1. date range -> row range, other filters -> bitsets, AND them together
+ * 2. facet counts are disjunctive: each facet is counted with every filter
+ *    except its own applied, so "CONCERT (120), SPORTS (43)" stays useful
+ *    after picking CONCERT
+ * 3. the page is read off the result bitset in date order, or through a
+ *    presorted permutation for name / price / createdAt
+ *
+ * Everything is word-at-a-time over long[] and only touches the words inside
+ * the date range; no query allocates per row.
+ *
+ * Immutable apart from availability: {@link #updateAvailability} patches the
+ * seat column in place because seat writes are by far the most frequent
+ * change and never move a row between facets.
+ *
+ * @author Akhil
+ */
+public final class FacetIndex {
+
+    public static final String CATEGORY_FACET = "category";
+    public static final String STATUS_FACET = "status";
+    public static final String CITY_FACET = "city";
+
+    private static final Set<String> SORTABLE = Set.of("eventDate", "name", "price", "createdAt", "availableSeats");
+    private static final Event.EventCategory[] CATEGORIES = Event.EventCategory.values();
+    private static final Event.EventStatus[] STATUSES = Event.EventStatus.values();
+
+    private final int size;
+    private final int words;
+    private final EventListDto[] rows;
+    private final long[] dates;
+    private final int[] seats;
+    private final Map<Long, Integer> rowOfId;
+
+    private final int[] categoryOf;
+    private final int[] statusOf;
+    private final int[] cityOf;
+    private final long[][] categoryBits;
+    private final long[][] statusBits;
+    private final long[][] cityBits;
+    private final String[] cityNames;
+    private final Map<String, Integer> cityIds;
+
+    private final int[] byName;
+    private final int[] byPrice;
+    private final int[] byId;
+
+    private FacetIndex(List<EventListDto> sorted) {
+        size = sorted.size();
+        words = (size + 63) >>> 6;
+        rows = sorted.toArray(new EventListDto[0]);
+        dates = new long[size];
+        seats = new int[size];
+        rowOfId = new HashMap<>(size * 2);
+
+        categoryOf = new int[size];
+        statusOf = new int[size];
+        cityOf = new int[size];
+        categoryBits = new long[CATEGORIES.length][words];
+        statusBits = new long[STATUSES.length][words];
+
+        cityIds = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<long[]> cityColumns = new ArrayList<>();
+
+        for (int row = 0; row < size; row++) {
+            EventListDto event = rows[row];
+            dates[row] = epochSecond(event.getEventDate());
+            seats[row] = event.getAvailableSeats() != null ? event.getAvailableSeats() : 0;
+            rowOfId.put(event.getId(), row);
+
+            categoryOf[row] = event.getCategory().ordinal();
+            set(categoryBits[categoryOf[row]], row);
+
+            statusOf[row] = event.getStatus().ordinal();
+            set(statusBits[statusOf[row]], row);
+
+            String city = event.getVenueCity() != null ? event.getVenueCity() : "";
+            Integer cityId = cityIds.get(cityKey(city));
+            if (cityId == null) {
+                cityId = names.size();
+                cityIds.put(cityKey(city), cityId);
+                names.add(city);
+                cityColumns.add(new long[words]);
+            }
+            cityOf[row] = cityId;
+            set(cityColumns.get(cityId), row);
+        }
+
+        cityNames = names.toArray(new String[0]);
+        cityBits = cityColumns.toArray(new long[0][]);
+
+        byName = permutation(Comparator.comparing(EventListDto::getName, Comparator.nullsFirst(String::compareTo)));
+        byPrice = permutation(Comparator.comparing(EventListDto::getBasePrice,
+                Comparator.nullsFirst(BigDecimal::compareTo)));
+        // ids are IDENTITY generated, so they follow creation order
+        byId = permutation(Comparator.comparing(EventListDto::getId));
+    }
+
+    public static FacetIndex build(Collection<EventListDto> events) {
+        List<EventListDto> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparing(EventListDto::getEventDate).thenComparing(EventListDto::getId));
+        return new FacetIndex(sorted);
+    }
+
+    /**
+     * Whether the query can be answered from upcoming events alone
+     */
+    public static boolean supports(EventSearchFilter filter, Sort sort, LocalDateTime now) {
+        if (StringUtils.hasText(filter.term())) {
+            return false;
+        }
+        if (hasDateRange(filter) && filter.startDate().isBefore(now)) {
+            return false;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() || (orders.size() == 1 && SORTABLE.contains(orders.get(0).getProperty()));
+    }
+
+    public Result search(EventSearchFilter filter, Pageable pageable, LocalDateTime now) {
+        long fromDate = epochSecond(now);
+        long toDate = Long.MAX_VALUE;
+        if (hasDateRange(filter)) {
+            fromDate = Math.max(fromDate, epochSecond(filter.startDate()));
+            toDate = epochSecond(filter.endDate());
+        }
+
+        int from = firstRowOnOrAfter(fromDate);
+        int to = Math.max(from, firstRowAfter(toDate));
+        int fromWord = from >>> 6;
+        int toWord = to == 0 ? 0 : ((to - 1) >>> 6) + 1;
+
+        long[] range = rangeMask(from, to);
+        long[] category = filter.category() != null ? categoryBits[filter.category().ordinal()] : null;
+        long[] status = filter.status() != null ? statusBits[filter.status().ordinal()] : null;
+        long[] city = cityMask(filter.city());
+        long[] minSeats = filter.minSeats() != null ? seatsAtLeast(filter.minSeats(), from, to) : null;
+
+        long[] result = and(fromWord, toWord, range, category, status, city, minSeats);
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put(CATEGORY_FACET, count(and(fromWord, toWord, range, status, city, minSeats),
+                fromWord, toWord, categoryOf, CATEGORIES.length, id -> CATEGORIES[id].name()));
+        facets.put(STATUS_FACET, count(and(fromWord, toWord, range, category, city, minSeats),
+                fromWord, toWord, statusOf, STATUSES.length, id -> STATUSES[id].name()));
+        facets.put(CITY_FACET, count(and(fromWord, toWord, range, category, status, minSeats),
+                fromWord, toWord, cityOf, cityNames.length, id -> cityNames[id]));
+
+        long total = cardinality(result, fromWord, toWord);
+        List<EventListDto> content = page(result, from, to, pageable);
+        return new Result(new PageImpl<>(content, pageable, total), facets);
+    }
+
+    /**
+     * Patch availableSeats in place when nothing else about the row changed.
+     *
+     * @return false when the row is unknown or moved facets - rebuild instead
+     */
+    public boolean updateAvailability(EventListDto event) {
+        Integer row = rowOfId.get(event.getId());
+        if (row == null) {
+            return false;
+        }
+
+        EventListDto existing = rows[row];
+        boolean sameFacets = Objects.equals(existing.getName(), event.getName())
+                && Objects.equals(existing.getEventDate(), event.getEventDate())
+                && existing.getCategory() == event.getCategory()
+                && existing.getStatus() == event.getStatus()
+                && Objects.equals(existing.getBasePrice(), event.getBasePrice())
+                && Objects.equals(existing.getVenueCity(), event.getVenueCity());
+        if (!sameFacets) {
+            return false;
+        }
+
+        // Readers may briefly see the old count; never a torn row
+        rows[row] = event;
+        seats[row] = event.getAvailableSeats() != null ? event.getAvailableSeats() : 0;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public record Result(Page<EventListDto> page, Map<String, Map<String, Long>> facets) {
+    }
+
+    private List<EventListDto> page(long[] result, int from, int to, Pageable pageable) {
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        List<EventListDto> content = new ArrayList<>(limit);
+
+        Sort.Order order = pageable.getSort().isSorted() ? pageable.getSort().toList().get(0) : null;
+        String property = order != null ? order.getProperty() : "eventDate";
+        boolean descending = order != null && order.isDescending();
+
+        if ("availableSeats".equals(property)) {
+            return pageBySeats(result, from, to, offset, limit, descending);
+        }
+
+        int[] permutation = switch (property) {
+            case "name" -> byName;
+            case "price" -> byPrice;
+            case "createdAt" -> byId;
+            default -> null;
+        };
+
+        int start = permutation == null ? from : 0;
+        int end = permutation == null ? to : size;
+        long skipped = 0;
+        for (int i = 0; i < end - start && content.size() < limit; i++) {
+            int position = descending ? end - 1 - i : start + i;
+            int row = permutation == null ? position : permutation[position];
+            if (isSet(result, row)) {
+                if (skipped++ >= offset) {
+                    content.add(rows[row]);
+                }
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Availability changes in place, so it has no presorted permutation
+     */
+    private List<EventListDto> pageBySeats(
+            long[] result, int from, int to, long offset, int limit, boolean descending) {
+
+        long[] matches = new long[to - from];
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (isSet(result, row)) {
+                matches[count++] = ((long) seats[row] << 32) | row;
+            }
+        }
+        Arrays.sort(matches, 0, count);
+
+        List<EventListDto> content = new ArrayList<>(limit);
+        for (long i = offset; i < count && content.size() < limit; i++) {
+            int index = (int) (descending ? count - 1 - i : i);
+            content.add(rows[(int) matches[index]]);
+        }
+        return content;
+    }
+
+    private long[] cityMask(String city) {
+        if (city == null || city.isBlank()) {
+            return null;
+        }
+        Integer cityId = cityIds.get(cityKey(city));
+        return cityId != null ? cityBits[cityId] : new long[words];
+    }
+
+    private long[] seatsAtLeast(int minSeats, int from, int to) {
+        long[] mask = new long[words];
+        for (int row = from; row < to; row++) {
+            if (seats[row] >= minSeats) {
+                set(mask, row);
+            }
+        }
+        return mask;
+    }
+
+    private long[] rangeMask(int from, int to) {
+        long[] mask = new long[words];
+        for (int word = from >>> 6; word < words && (word << 6) < to; word++) {
+            long bits = -1L;
+            if (word == from >>> 6) {
+                bits &= -1L << (from & 63);
+            }
+            if (word == (to - 1) >>> 6) {
+                bits &= -1L >>> (63 - ((to - 1) & 63));
+            }
+            mask[word] = bits;
+        }
+        return mask;
+    }
+
+    private long[] and(int fromWord, int toWord, long[] first, long[]... others) {
+        long[] result = new long[words];
+        System.arraycopy(first, fromWord, result, fromWord, toWord - fromWord);
+        for (long[] other : others) {
+            if (other == null) {
+                continue;
+            }
+            for (int word = fromWord; word < toWord; word++) {
+                result[word] &= other[word];
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Long> count(
+            long[] mask, int fromWord, int toWord, int[] valueOf, int values,
+            java.util.function.IntFunction<String> label) {
+
+        long[] counts = new long[values];
+        for (int word = fromWord; word < toWord; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                counts[valueOf[row]]++;
+                bits &= bits - 1;
+            }
+        }
+
+        Integer[] order = new Integer[values];
+        for (int i = 0; i < values; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int id : order) {
+            if (counts[id] > 0) {
+                result.put(label.apply(id), counts[id]);
+            }
+        }
+        return result;
+    }
+
+    private long cardinality(long[] mask, int fromWord, int toWord) {
+        long total = 0;
+        for (int word = fromWord; word < toWord; word++) {
+            total += Long.bitCount(mask[word]);
+        }
+        return total;
+    }
+
+    private int firstRowOnOrAfter(long epochSecond) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dates[mid] < epochSecond) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstRowAfter(long epochSecond) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dates[mid] <= epochSecond) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] permutation(Comparator<EventListDto> comparator) {
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = i;
+        }
+        // Stable sort keeps date order among equal values
+        Arrays.sort(boxed, (a, b) -> comparator.compare(rows[a], rows[b]));
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean hasDateRange(EventSearchFilter filter) {
+        return filter.startDate() != null && filter.endDate() != null;
+    }
+
+    private static String cityKey(String city) {
+        return city.toLowerCase(Locale.ROOT);
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void set(long[] bits, int row) {
+        bits[row >>> 6] |= 1L << row;
+    }
+
+    private static boolean isSet(long[] bits, int row) {
+        return (bits[row >>> 6] & (1L << row)) != 0;
+    }
+}
@@ -0,0 +1,259 @@
+package com.ticketblitz.catalog.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable geohash grid for "within N km of a point" lookups.
+ *
+ * STRUCTURE:
+ * ==========
+ * Every point is bucketed by its geohash at each precision 1..MAX_PRECISION
+ * (precision 1 ~ 5000 km cells, precision 6 ~ 1.2 x 0.6 km). A query picks
+ * the finest precision whose cells still cover the radius' bounding box in a
+ * handful of cells, collects those buckets and keeps the points whose
+ * haversine distance is within the radius.
+ *
+ * Cost follows the number of points near the query, not the number indexed.
+ *
+ * @author Akhil
+ */
+public final class GeoGrid<T> {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    static final int MAX_PRECISION = 6;
+    private static final int MAX_CELLS = 16;
+    // Same sphere as distanceKm, so the bounding box never undershoots the radius
+    private static final double KM_PER_DEGREE_LAT = EARTH_RADIUS_KM * Math.PI / 180;
+    private static final char[] ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final List<T> payloads;
+    // buckets[precision] : geohash -> point indexes
+    private final List<Map<String, int[]>> buckets;
+
+    private GeoGrid(List<Entry<T>> entries) {
+        int size = entries.size();
+        latitudes = new double[size];
+        longitudes = new double[size];
+        payloads = new ArrayList<>(size);
+
+        List<Map<String, List<Integer>>> building = new ArrayList<>();
+        for (int precision = 0; precision <= MAX_PRECISION; precision++) {
+            building.add(new HashMap<>());
+        }
+
+        for (int i = 0; i < size; i++) {
+            Entry<T> entry = entries.get(i);
+            latitudes[i] = entry.latitude();
+            longitudes[i] = entry.longitude();
+            payloads.add(entry.payload());
+
+            String hash = encode(entry.latitude(), entry.longitude(), MAX_PRECISION);
+            for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+                building.get(precision)
+                        .computeIfAbsent(hash.substring(0, precision), k -> new ArrayList<>())
+                        .add(i);
+            }
+        }
+
+        buckets = new ArrayList<>(building.size());
+        for (Map<String, List<Integer>> level : building) {
+            Map<String, int[]> frozen = new HashMap<>(level.size() * 2);
+            level.forEach((hash, points) ->
+                    frozen.put(hash, points.stream().mapToInt(Integer::intValue).toArray()));
+            buckets.add(frozen);
+        }
+    }
+
+    public static <T> GeoGrid<T> build(List<Entry<T>> entries) {
+        for (Entry<T> entry : entries) {
+            validate(entry.latitude(), entry.longitude());
+        }
+        return new GeoGrid<>(entries);
+    }
+
+    public static <T> GeoGrid<T> empty() {
+        return new GeoGrid<>(List.of());
+    }
+
+    /**
+     * Points within radiusKm of (latitude, longitude), closest first
+     */
+    public List<Hit<T>> within(double latitude, double longitude, double radiusKm, int limit) {
+        validate(latitude, longitude);
+        if (radiusKm <= 0 || limit <= 0 || payloads.isEmpty()) {
+            return List.of();
+        }
+
+        List<Hit<T>> hits = new ArrayList<>();
+        for (int point : candidates(latitude, longitude, radiusKm)) {
+            double distance = distanceKm(latitude, longitude, latitudes[point], longitudes[point]);
+            if (distance <= radiusKm) {
+                hits.add(new Hit<>(payloads.get(point), distance));
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    public int size() {
+        return payloads.size();
+    }
+
+    public record Entry<T>(double latitude, double longitude, T payload) {
+    }
+
+    public record Hit<T>(T payload, double distanceKm) {
+    }
+
+    /**
+     * Great-circle distance (haversine)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double latMin = -90;
+        double latMax = 90;
+        double lonMin = -180;
+        double lonMax = 180;
+
+        StringBuilder hash = new StringBuilder(precision);
+        int bits = 0;
+        int bitCount = 0;
+        boolean even = true;
+        while (hash.length() < precision) {
+            if (even) {
+                double mid = (lonMin + lonMax) / 2;
+                if (longitude >= mid) {
+                    bits = bits * 2 + 1;
+                    lonMin = mid;
+                } else {
+                    bits = bits * 2;
+                    lonMax = mid;
+                }
+            } else {
+                double mid = (latMin + latMax) / 2;
+                if (latitude >= mid) {
+                    bits = bits * 2 + 1;
+                    latMin = mid;
+                } else {
+                    bits = bits * 2;
+                    latMax = mid;
+                }
+            }
+            even = !even;
+
+            if (++bitCount == 5) {
+                hash.append(ALPHABET[bits]);
+                bits = 0;
+                bitCount = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Every indexed point in the cells overlapping the radius' bounding box
+     */
+    private int[] candidates(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+
+        // The box widens towards the poles; near them, take every longitude
+        double cosLat = Math.min(Math.cos(Math.toRadians(minLat)), Math.cos(Math.toRadians(maxLat)));
+        double lonDelta = cosLat > 0.01 ? radiusKm / (KM_PER_DEGREE_LAT * cosLat) : 180;
+        if (lonDelta >= 180) {
+            return allPoints();
+        }
+
+        int precision = precisionFor(maxLat - minLat, 2 * lonDelta);
+        if (precision == 0) {
+            return allPoints();
+        }
+
+        double cellLat = cellHeight(precision);
+        double cellLon = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat = Math.min(lat + cellLat, maxLat)) {
+            for (double lon = longitude - lonDelta; ; lon = Math.min(lon + cellLon, longitude + lonDelta)) {
+                cells.add(encode(lat, wrapLongitude(lon), precision));
+                if (lon >= longitude + lonDelta) {
+                    break;
+                }
+            }
+            if (lat >= maxLat) {
+                break;
+            }
+        }
+
+        Map<String, int[]> level = buckets.get(precision);
+        return cells.stream()
+                .map(level::get)
+                .filter(Objects::nonNull)
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+    }
+
+    /**
+     * Finest precision that covers the box in at most MAX_CELLS cells, 0 for none
+     */
+    private static int precisionFor(double latSpan, double lonSpan) {
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            long rows = (long) Math.ceil(latSpan / cellHeight(precision)) + 1;
+            long columns = (long) Math.ceil(lonSpan / cellWidth(precision)) + 1;
+            if (rows * columns <= MAX_CELLS) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    private int[] allPoints() {
+        int[] all = new int[payloads.size()];
+        Arrays.setAll(all, i -> i);
+        return all;
+    }
+
+    private static double cellHeight(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    private static double cellWidth(int precision) {
+        int lonBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        double wrapped = ((longitude + 180) % 360 + 360) % 360 - 180;
+        return wrapped == 180 ? -180 : wrapped;
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || Double.isNaN(latitude)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180 || Double.isNaN(longitude)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+    }
+}
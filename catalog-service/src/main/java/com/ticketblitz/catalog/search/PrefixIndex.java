@@ -0,0 +1,540 @@
+package com.ticketblitz.catalog.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable ranked prefix index.
+ *
+ * STRUCTURE:
+ * ==========
+ * Entries are ranked once (rank 0 = highest score) and their text normalized
+ * (lowercase, accents stripped, punctuation collapsed to single spaces).
+ * Every word start of every entry becomes a key; keys are sorted by the text
+ * from that position on, so all names with a word starting with "swi" sit in
+ * one contiguous range found by two binary searches.
+ *
+ * TOP-K:
+ * ======
+ * - Range of at most SCAN_LIMIT keys: scanned, keeping the K best ranks
+ * - Larger ranges ("t", "the"): top-K precomputed at build time for every
+ *   prefix up to maxDepth characters, so short prefixes cost a map lookup
+ *
+ * Memory is one long per word start plus the normalized names. Keys are
+ * sorted with a three-way radix quicksort; a warm build takes ~50ms for 20k
+ * names and ~1.5s for 300k on a single core.
+ *
+ * INCREMENTAL UPDATES:
+ * ====================
+ * update() derives a new index from an existing one without re-sorting it:
+ * surviving keys keep their order (ranks are only renumbered), the keys of
+ * new entries are sorted on their own and merged in, and only the heavy
+ * prefixes of removed or added words are recomputed. A change of a few
+ * entries is linear copying instead of a full suffix sort.
+ *
+ * Instances are never mutated after build() or update(), so readers need no
+ * locking and a new index is published by swapping a single reference.
+ *
+ * @author Akhil
+ */
+public final class PrefixIndex<T> {
+
+    static final int SCAN_LIMIT = 256;
+
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Entry<T>[] entries;
+    private final String[] texts;
+    private final long[] keys;
+    private final Map<String, int[]> heavyPrefixes;
+    private final int topK;
+    private final int maxDepth;
+
+    private PrefixIndex(Entry<T>[] entries, String[] texts, long[] keys, Map<String, int[]> heavyPrefixes,
+                        int topK, int maxDepth) {
+        this.entries = entries;
+        this.texts = texts;
+        this.keys = keys;
+        this.heavyPrefixes = heavyPrefixes;
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+    }
+
+    public static <T> PrefixIndex<T> empty() {
+        return build(List.of(), 0, 0);
+    }
+
+    /**
+     * @param entries  text + score + payload for everything to index
+     * @param topK     most suggestions a lookup can return
+     * @param maxDepth longest prefix with a precomputed top-K
+     */
+    public static <T> PrefixIndex<T> build(Collection<Entry<T>> entries, int topK, int maxDepth) {
+        Entry<T>[] ranked = entries.toArray(newEntryArray(entries.size()));
+        Arrays.sort(ranked, Comparator.comparingDouble((Entry<T> entry) -> entry.score()).reversed());
+
+        String[] texts = new String[ranked.length];
+        int keyCount = 0;
+        for (int rank = 0; rank < ranked.length; rank++) {
+            texts[rank] = normalize(ranked[rank].text());
+            keyCount += countWordStarts(texts[rank]);
+        }
+
+        long[] keys = new long[keyCount];
+        int next = 0;
+        for (int rank = 0; rank < texts.length; rank++) {
+            next = addWordStarts(keys, next, texts[rank], rank);
+        }
+        sortSuffixes(keys, texts, 0, keyCount - 1, 0);
+
+        PrefixIndex<T> index = new PrefixIndex<>(ranked, texts, keys, new HashMap<>(), topK, maxDepth);
+        index.precomputeHeavyPrefixes();
+        return index;
+    }
+
+    /**
+     * New index without the entries matching removed and with the added ones,
+     * equivalent to building from scratch with the same entries
+     */
+    public PrefixIndex<T> update(Predicate<Entry<T>> removed, Collection<Entry<T>> added) {
+        Entry<T>[] adding = added.toArray(newEntryArray(added.size()));
+        Arrays.sort(adding, Comparator.comparingDouble((Entry<T> entry) -> entry.score()).reversed());
+
+        // Merge by score; old ranks map to new ones in order, removed ones to -1
+        int[] oldToNew = new int[entries.length];
+        int[] addedRanks = new int[adding.length];
+        Set<String> affected = new HashSet<>();
+        List<Entry<T>> merged = new ArrayList<>(entries.length + adding.length);
+        List<String> mergedTexts = new ArrayList<>(entries.length + adding.length);
+
+        int old = 0;
+        int add = 0;
+        while (old < entries.length || add < adding.length) {
+            if (add == adding.length || (old < entries.length && entries[old].score() >= adding[add].score())) {
+                if (removed.test(entries[old])) {
+                    oldToNew[old] = -1;
+                    collectPrefixes(texts[old], affected);
+                } else {
+                    oldToNew[old] = merged.size();
+                    merged.add(entries[old]);
+                    mergedTexts.add(texts[old]);
+                }
+                old++;
+            } else {
+                String text = normalize(adding[add].text());
+                collectPrefixes(text, affected);
+                addedRanks[add] = merged.size();
+                merged.add(adding[add]);
+                mergedTexts.add(text);
+                add++;
+            }
+        }
+        if (merged.size() == entries.length && adding.length == 0) {
+            return this;
+        }
+
+        Entry<T>[] newEntries = merged.toArray(newEntryArray(merged.size()));
+        String[] newTexts = mergedTexts.toArray(new String[0]);
+
+        // Surviving keys are still in suffix order; renumbering ranks keeps it
+        long[] kept = new long[keys.length];
+        int keptCount = 0;
+        for (long key : keys) {
+            int rank = oldToNew[rank(key)];
+            if (rank >= 0) {
+                kept[keptCount++] = key(rank, start(key));
+            }
+        }
+
+        int addedCount = 0;
+        for (int i = 0; i < adding.length; i++) {
+            addedCount += countWordStarts(newTexts[addedRanks[i]]);
+        }
+        long[] addedKeys = new long[addedCount];
+        int next = 0;
+        for (int i = 0; i < adding.length; i++) {
+            next = addWordStarts(addedKeys, next, newTexts[addedRanks[i]], addedRanks[i]);
+        }
+        sortSuffixes(addedKeys, newTexts, 0, addedCount - 1, 0);
+
+        long[] newKeys = new long[keptCount + addedCount];
+        int k = 0;
+        int a = 0;
+        for (int i = 0; i < newKeys.length; i++) {
+            newKeys[i] = a == addedCount || (k < keptCount && compareSuffixes(newTexts, kept[k], addedKeys[a], 0) <= 0)
+                    ? kept[k++]
+                    : addedKeys[a++];
+        }
+
+        // Heavy prefixes without a changed word keep their top-K, renumbered
+        Map<String, int[]> newHeavy = new HashMap<>();
+        heavyPrefixes.forEach((prefix, ranks) -> {
+            if (!affected.contains(prefix)) {
+                int[] renumbered = new int[ranks.length];
+                for (int i = 0; i < ranks.length; i++) {
+                    renumbered[i] = oldToNew[ranks[i]];
+                }
+                newHeavy.put(prefix, renumbered);
+            }
+        });
+
+        PrefixIndex<T> index = new PrefixIndex<>(newEntries, newTexts, newKeys, newHeavy, topK, maxDepth);
+        for (String prefix : affected) {
+            int from = index.lowerBound(prefix);
+            int to = index.upperBound(prefix, from);
+            if (to - from > SCAN_LIMIT) {
+                newHeavy.put(prefix, index.bestRanks(from, to, topK));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Best entries whose text has a word starting with the prefix, highest
+     * score first
+     */
+    public List<T> lookup(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        int k = Math.min(limit, topK);
+        if (normalized.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(normalized);
+        int to = upperBound(normalized, from);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] ranks = to - from > SCAN_LIMIT ? heavyPrefixes.get(normalized) : null;
+        if (ranks == null) {
+            ranks = bestRanks(from, to, k);
+        }
+
+        int size = Math.min(k, ranks.length);
+        Object[] payloads = new Object[size];
+        for (int i = 0; i < size; i++) {
+            payloads[i] = entries[ranks[i]].payload();
+        }
+        @SuppressWarnings("unchecked")
+        List<T> result = (List<T>) List.of(payloads);
+        return result;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        // Fast path: plain ASCII is by far the common case for keystrokes
+        StringBuilder ascii = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 128) {
+                return normalizeUnicode(text);
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                pendingSpace = appendPendingSpace(ascii, pendingSpace);
+                ascii.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                pendingSpace = appendPendingSpace(ascii, pendingSpace);
+                ascii.append((char) (c + ('a' - 'A')));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return ascii.toString();
+    }
+
+    private static String normalizeUnicode(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static boolean appendPendingSpace(StringBuilder builder, boolean pendingSpace) {
+        if (pendingSpace && !builder.isEmpty()) {
+            builder.append(' ');
+        }
+        return false;
+    }
+
+    /**
+     * One pass over the sorted keys: a prefix of length d is "open" while
+     * consecutive keys share it; when it closes and spans more than
+     * SCAN_LIMIT keys its top-K is stored
+     */
+    private void precomputeHeavyPrefixes() {
+        int[] runStart = new int[maxDepth + 1];
+        int previousDepth = 0;
+
+        for (int i = 0; i <= keys.length; i++) {
+            int common = (i == 0 || i == keys.length) ? 0 : commonPrefix(keys[i - 1], keys[i], maxDepth);
+
+            for (int depth = previousDepth; depth > common; depth--) {
+                if (i - runStart[depth] > SCAN_LIMIT) {
+                    heavyPrefixes.put(suffix(keys[i - 1], depth), bestRanks(runStart[depth], i, topK));
+                }
+            }
+
+            if (i < keys.length) {
+                int depth = Math.min(suffixLength(keys[i]), maxDepth);
+                for (int d = common + 1; d <= depth; d++) {
+                    runStart[d] = i;
+                }
+                previousDepth = depth;
+            }
+        }
+    }
+
+    /**
+     * K lowest distinct ranks (= highest scores) among keys[from, to)
+     */
+    private int[] bestRanks(int from, int to, int k) {
+        int[] best = new int[k];
+        int count = 0;
+
+        for (int i = from; i < to; i++) {
+            int rank = rank(keys[i]);
+            if (count == k && rank >= best[count - 1]) {
+                continue;
+            }
+
+            int position = count;
+            boolean duplicate = false;
+            while (position > 0 && best[position - 1] >= rank) {
+                if (best[position - 1] == rank) {
+                    duplicate = true;
+                    break;
+                }
+                position--;
+            }
+            if (duplicate) {
+                continue;
+            }
+
+            int shift = Math.min(count, k - 1) - position;
+            System.arraycopy(best, position, best, position + 1, shift);
+            best[position] = rank;
+            count = Math.min(count + 1, k);
+        }
+        return count == k ? best : Arrays.copyOf(best, count);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToPrefix(keys[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToPrefix(keys[mid], prefix) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 0 when the key's text starts with the prefix
+     */
+    private int compareToPrefix(long key, String prefix) {
+        String text = texts[rank(key)];
+        int start = start(key);
+        int length = Math.min(text.length() - start, prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = text.charAt(start + i) - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length == prefix.length() ? 0 : -1;
+    }
+
+    private int commonPrefix(long a, long b, int maxDepth) {
+        String textA = texts[rank(a)];
+        String textB = texts[rank(b)];
+        int startA = start(a);
+        int startB = start(b);
+        int length = Math.min(maxDepth, Math.min(textA.length() - startA, textB.length() - startB));
+
+        int common = 0;
+        while (common < length && textA.charAt(startA + common) == textB.charAt(startB + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private String suffix(long key, int length) {
+        int start = start(key);
+        return texts[rank(key)].substring(start, start + length);
+    }
+
+    private int suffixLength(long key) {
+        return texts[rank(key)].length() - start(key);
+    }
+
+    /**
+     * Three-way radix quicksort on keys[low..high], all equal in their first
+     * depth characters. Primitive, in place, and cheap on the long shared
+     * prefixes names have ("the ", "live at ...")
+     */
+    private static void sortSuffixes(long[] keys, String[] texts, int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            swap(keys, low, low + (high - low) / 2);
+            int pivot = charAt(texts, keys[low], depth);
+            int lessThan = low;
+            int greaterThan = high;
+            int i = low + 1;
+            while (i <= greaterThan) {
+                int c = charAt(texts, keys[i], depth);
+                if (c < pivot) {
+                    swap(keys, lessThan++, i++);
+                } else if (c > pivot) {
+                    swap(keys, i, greaterThan--);
+                } else {
+                    i++;
+                }
+            }
+
+            sortSuffixes(keys, texts, low, lessThan - 1, depth);
+            sortSuffixes(keys, texts, greaterThan + 1, high, depth);
+            if (pivot < 0) {
+                return;
+            }
+            // Tail call on the equal partition, one character deeper
+            low = lessThan;
+            high = greaterThan;
+            depth++;
+        }
+        insertionSort(keys, texts, low, high, depth);
+    }
+
+    private static void insertionSort(long[] keys, String[] texts, int low, int high, int depth) {
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compareSuffixes(texts, keys[j], keys[j - 1], depth) < 0; j--) {
+                swap(keys, j, j - 1);
+            }
+        }
+    }
+
+    private static int compareSuffixes(String[] texts, long a, long b, int depth) {
+        String textA = texts[rank(a)];
+        String textB = texts[rank(b)];
+        int startA = start(a) + depth;
+        int startB = start(b) + depth;
+        int lengthA = textA.length() - startA;
+        int lengthB = textB.length() - startB;
+
+        int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            int diff = textA.charAt(startA + i) - textB.charAt(startB + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    /**
+     * -1 past the end, so shorter suffixes sort first
+     */
+    private static int charAt(String[] texts, long key, int depth) {
+        String text = texts[rank(key)];
+        int index = start(key) + depth;
+        return index < text.length() ? text.charAt(index) : -1;
+    }
+
+    private static void swap(long[] keys, int a, int b) {
+        long tmp = keys[a];
+        keys[a] = keys[b];
+        keys[b] = tmp;
+    }
+
+    /**
+     * Every prefix up to maxDepth of every word suffix: the heavy prefixes
+     * whose ranges the text belongs to
+     */
+    private void collectPrefixes(String text, Set<String> prefixes) {
+        for (int start = 0; start < text.length(); start++) {
+            if (start == 0 || text.charAt(start - 1) == ' ') {
+                int end = Math.min(text.length(), start + maxDepth);
+                for (int length = start + 1; length <= end; length++) {
+                    prefixes.add(text.substring(start, length));
+                }
+            }
+        }
+    }
+
+    private static int addWordStarts(long[] keys, int next, String text, int rank) {
+        for (int start = 0; start < text.length(); start++) {
+            if (start == 0 || text.charAt(start - 1) == ' ') {
+                keys[next++] = key(rank, start);
+            }
+        }
+        return next;
+    }
+
+    private static int countWordStarts(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (i == 0 || text.charAt(i - 1) == ' ') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long key(int rank, int start) {
+        return ((long) rank << 32) | start;
+    }
+
+    private static int rank(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int start(long key) {
+        return (int) key;
+    }
+
+    public record Entry<T>(String text, double score, T payload) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newEntryArray(int size) {
+        return (Entry<T>[]) new Entry[size];
+    }
+}
@@ -0,0 +1,141 @@
+package com.ticketblitz.catalog.search;
+
+import com.ticketblitz.catalog.cache.ResponseBodyCache;
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Upcoming Event Store
+ *
+ * In-memory mirror of every upcoming event, any status (EventListDto rows), that the
+ * in-memory indexes (autocomplete, facets) are built from, so each index does
+ * not have to load and track the table on its own.
+ *
+ * FRESHNESS:
+ * ==========
+ * - Seat writes broadcast "event:{id}" on the response cache invalidation
+ *   channel; every instance (the writer included) queues that id
+ * - Every refresh-interval, queued ids are re-read by primary key
+ * - Every full-rebuild-interval everything is reloaded, which drops events
+ *   that have started and picks up rows changed outside the service
+ *
+ * Each step publishes an {@link UpcomingEventsChangedEvent}; listeners run on
+ * the scheduler thread, one at a time.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class UpcomingEventStore implements MessageListener {
+
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Guarded by this
+    private final Map<Long, EventListDto> events = new HashMap<>();
+
+    private final Set<Long> pendingEventIds = ConcurrentHashMap.newKeySet();
+
+    public UpcomingEventStore(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
+        this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${catalog.in-memory-index.full-rebuild-interval:PT10M}",
+            initialDelayString = "${catalog.in-memory-index.full-rebuild-interval:PT10M}"
+    )
+    public synchronized void reload() {
+        // Ids queued from here on are re-read by the next refresh
+        pendingEventIds.clear();
+
+        try {
+            Map<Long, EventListDto> loaded = new HashMap<>();
+            eventRepository.findUpcomingListRows(LocalDateTime.now())
+                    .forEach(event -> loaded.put(event.getId(), event));
+
+            events.clear();
+            events.putAll(loaded);
+
+            log.info("Upcoming event store loaded {} events", events.size());
+            publish(Map.of(), Map.of());
+        } catch (Exception ex) {
+            // Indexes keep serving what they have
+            log.error("Upcoming event reload failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.in-memory-index.refresh-interval:PT2S}")
+    public synchronized void applyPendingChanges() {
+        if (pendingEventIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> changedIds = new HashSet<>(pendingEventIds);
+        pendingEventIds.removeAll(changedIds);
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, EventListDto> previous = new HashMap<>();
+            Map<Long, EventListDto> current = new HashMap<>();
+            for (Long id : changedIds) {
+                previous.put(id, events.remove(id));
+                current.put(id, null);
+            }
+
+            for (EventListDto event : eventRepository.findListRowsByIds(changedIds)) {
+                if (!event.getEventDate().isBefore(now)) {
+                    events.put(event.getId(), event);
+                    current.put(event.getId(), event);
+                }
+            }
+
+            publish(Collections.unmodifiableMap(previous), Collections.unmodifiableMap(current));
+        } catch (Exception ex) {
+            pendingEventIds.addAll(changedIds);
+            log.warn("Upcoming event refresh failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Event change broadcast (same channel as the response cache)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tag = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (tag.startsWith(ResponseBodyCache.EVENT_TAG_PREFIX)) {
+            try {
+                pendingEventIds.add(Long.valueOf(tag.substring(ResponseBodyCache.EVENT_TAG_PREFIX.length())));
+            } catch (NumberFormatException ex) {
+                log.debug("Ignoring malformed event tag: {}", tag);
+            }
+        }
+    }
+
+    private void publish(Map<Long, EventListDto> previous, Map<Long, EventListDto> current) {
+        eventPublisher.publishEvent(new UpcomingEventsChangedEvent(
+                Collections.unmodifiableCollection(new ArrayList<>(events.values())),
+                previous,
+                current
+        ));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ticketblitz.catalog.search;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Published by {@link UpcomingEventStore} after every reload or refresh.
+ *
+ * @param events   every upcoming event after the change (read-only)
+ * @param previous changed ids -> row before the refresh (null = not upcoming)
+ * @param current  changed ids -> row after the refresh (null = no longer upcoming)
+ *
+ * Both maps are empty after a full reload.
+ *
+ * @author Akhil
+ */
+public record UpcomingEventsChangedEvent(
+        Collection<EventListDto> events,
+        Map<Long, EventListDto> previous,
+        Map<Long, EventListDto> current
+) {
+
+    public boolean fullReload() {
+        return previous.isEmpty();
+    }
+
+    public Set<Long> changedIds() {
+        return previous.keySet();
+    }
+}
@@ -0,0 +1,191 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.SuggestionDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.entity.Venue;
+import com.ticketblitz.catalog.repository.VenueRepository;
+import com.ticketblitz.catalog.search.PrefixIndex;
+import com.ticketblitz.catalog.search.UpcomingEventStore;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Autocomplete Service
+ *
+ * WHY:
+ * ====
+ * Typeahead fires one request per keystroke. Sending those through
+ * /events/search means a Specification query per keystroke; here they are a
+ * lookup in an in-memory {@link PrefixIndex} and never touch Postgres or Redis.
+ *
+ * SOURCES:
+ * ========
+ * - Events: upcoming ACTIVE / SOLD_OUT events from {@link UpcomingEventStore}
+ *   (sold out ranked lower)
+ * - Venues: all venues, ranked by capacity, reloaded with the store
+ *
+ * A full reload rebuilds the index. A refresh only replaces the entries of
+ * events whose name, date, venue or status changed (PrefixIndex.update);
+ * most seat writes just move availableSeats, which suggestions do not carry.
+ *
+ * Readers only ever see a complete index: rebuilds and updates publish a new
+ * immutable instance through a volatile reference.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private final VenueRepository venueRepository;
+    private final int topK;
+    private final int maxPrefixLength;
+
+    // Only touched from store events, which arrive one at a time
+    private List<Venue> venues = List.of();
+
+    private volatile PrefixIndex<SuggestionDto> index = PrefixIndex.empty();
+
+    public AutocompleteService(
+            VenueRepository venueRepository,
+            @Value("${catalog.autocomplete.top-k:10}") int topK,
+            @Value("${catalog.autocomplete.max-prefix-length:24}") int maxPrefixLength
+    ) {
+        this.venueRepository = venueRepository;
+        this.topK = topK;
+        this.maxPrefixLength = maxPrefixLength;
+    }
+
+    /**
+     * Best events and venues with a word starting with the query
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        return index.lookup(query, Math.min(limit, topK));
+    }
+
+    @EventListener
+    public void onUpcomingEventsChanged(UpcomingEventsChangedEvent change) {
+        try {
+            if (change.fullReload()) {
+                venues = venueRepository.findAllOrderedByName();
+                rebuild(change.events());
+                return;
+            }
+            Set<Long> changed = changedSuggestions(change);
+            if (!changed.isEmpty()) {
+                update(change, changed);
+            }
+        } catch (Exception ex) {
+            // Keep serving the previous index
+            log.error("Autocomplete index update failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void rebuild(Collection<EventListDto> events) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PrefixIndex.Entry<SuggestionDto>> entries = new ArrayList<>(events.size() + venues.size());
+        events.stream()
+                .filter(this::isSuggestable)
+                .forEach(event -> entries.add(eventEntry(event, now)));
+        venues.forEach(venue -> entries.add(venueEntry(venue)));
+
+        index = PrefixIndex.build(entries, topK, maxPrefixLength);
+
+        log.info("Autocomplete index rebuilt: {} entries in {}ms",
+                index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Replaces the suggestions of the changed events only
+     */
+    private void update(UpcomingEventsChangedEvent change, Set<Long> changed) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PrefixIndex.Entry<SuggestionDto>> added = changed.stream()
+                .map(change.current()::get)
+                .filter(event -> event != null && isSuggestable(event))
+                .map(event -> eventEntry(event, now))
+                .toList();
+
+        index = index.update(entry -> entry.payload().getType() == SuggestionDto.Type.EVENT
+                && changed.contains(entry.payload().getId()), added);
+
+        log.debug("Autocomplete index updated for {} events in {}us",
+                changed.size(), (System.nanoTime() - start) / 1000);
+    }
+
+    private Set<Long> changedSuggestions(UpcomingEventsChangedEvent change) {
+        return change.changedIds().stream()
+                .filter(id -> !Objects.equals(
+                        indexedFields(change.previous().get(id)),
+                        indexedFields(change.current().get(id))))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Sooner events rank higher; sold out events stay findable but sink
+     */
+    private PrefixIndex.Entry<SuggestionDto> eventEntry(EventListDto event, LocalDateTime now) {
+        double days = Math.max(0, Duration.between(now, event.getEventDate()).toDays());
+        double recency = 0.5 + 0.5 / (1 + days / 30);
+        double availability = event.getStatus() == Event.EventStatus.ACTIVE ? 1.0 : 0.6;
+
+        SuggestionDto suggestion = SuggestionDto.builder()
+                .type(SuggestionDto.Type.EVENT)
+                .id(event.getId())
+                .text(event.getName())
+                .detail(event.getVenueName() + ", " + event.getVenueCity())
+                .eventDate(event.getEventDate())
+                .build();
+        return new PrefixIndex.Entry<>(event.getName(), recency * availability, suggestion);
+    }
+
+    /**
+     * Venues sit between near-term and far-off events, bigger venues first
+     */
+    private PrefixIndex.Entry<SuggestionDto> venueEntry(Venue venue) {
+        double score = 0.3 + 0.4 * Math.min(1.0, venue.getCapacity() / 50_000.0);
+
+        SuggestionDto suggestion = SuggestionDto.builder()
+                .type(SuggestionDto.Type.VENUE)
+                .id(venue.getId())
+                .text(venue.getName())
+                .detail(venue.getCity())
+                .build();
+        return new PrefixIndex.Entry<>(venue.getName(), score, suggestion);
+    }
+
+    /**
+     * Everything that feeds text, detail or score of an event suggestion;
+     * null when the event is not suggested at all
+     */
+    private List<Object> indexedFields(EventListDto event) {
+        if (event == null || !isSuggestable(event)) {
+            return null;
+        }
+        return Arrays.asList(event.getName(), event.getStatus(), event.getEventDate(),
+                event.getVenueName(), event.getVenueCity());
+    }
+
+    private boolean isSuggestable(EventListDto event) {
+        return event.getStatus() == Event.EventStatus.ACTIVE
+                || event.getStatus() == Event.EventStatus.SOLD_OUT;
+    }
+}
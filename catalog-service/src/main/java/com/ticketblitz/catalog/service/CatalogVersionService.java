@@ -0,0 +1,122 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.dto.EventVersion;
+import com.ticketblitz.catalog.repository.EventRepository;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Catalog Version Service
+ *
+ * Produces strong ETags for conditional GETs without loading response bodies.
+ *
+ * ETAG SOURCES:
+ * =============
+ * - Event details: events.version (@Version, bumped by every update)
+ * - Seat reads:    events.inventory_version (bumped by every seat transition)
+ * - Event lists:   Redis counter incremented after each inventory commit,
+ *                  plus a minute bucket because "upcoming" moves with time
+ *
+ * COST:
+ * =====
+ * Event and seat validators are one primary-key lookup of two integers.
+ * List validators are one Redis GET. Neither touches the DTO caches.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+public class CatalogVersionService {
+
+    static final String EVENT_LIST_VERSION_KEY = "catalog:events:list-version";
+
+    private final EventRepository eventRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    public CatalogVersionService(EventRepository eventRepository, StringRedisTemplate redisTemplate) {
+        this.eventRepository = eventRepository;
+        this.redisTemplate = redisTemplate;
+        this.clock = Clock.systemUTC();
+    }
+
+    public String eventEtag(Long eventId) {
+        EventVersion version = loadVersion(eventId);
+        return "\"e" + eventId + "-" + version.version() + "\"";
+    }
+
+    /**
+     * @param representation distinguishes list/available/seatmap/... of the same event
+     */
+    public String seatEtag(Long eventId, String representation) {
+        EventVersion version = loadVersion(eventId);
+        return "\"s" + eventId + "-" + version.inventoryVersion()
+                + "-" + Integer.toHexString(representation.hashCode()) + "\"";
+    }
+
+    public String eventListEtag() {
+        long minuteBucket = Instant.now(clock).truncatedTo(ChronoUnit.MINUTES).getEpochSecond() / 60;
+        return "\"l" + currentListVersion() + "-" + minuteBucket + "\"";
+    }
+
+    /**
+     * Called from the seat write path; the bump is applied after commit so a
+     * revalidating client never gets a new ETag paired with old data
+     */
+    public void onInventoryChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpListVersion();
+                }
+            });
+        } else {
+            bumpListVersion();
+        }
+    }
+
+    private EventVersion loadVersion(Long eventId) {
+        return eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", eventId));
+    }
+
+    private String currentListVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(EVENT_LIST_VERSION_KEY);
+            if (version != null) {
+                return version;
+            }
+
+            // Seed with the clock so a flushed Redis never reissues an old ETag
+            String seed = Long.toString(clock.millis());
+            Boolean created = redisTemplate.opsForValue().setIfAbsent(EVENT_LIST_VERSION_KEY, seed);
+            return Boolean.TRUE.equals(created)
+                    ? seed
+                    : redisTemplate.opsForValue().get(EVENT_LIST_VERSION_KEY);
+        } catch (Exception ex) {
+            // Unique per call: no 304s while Redis is down, but never a wrong one
+            log.warn("Event list version unavailable, disabling list revalidation: {}", ex.getMessage());
+            return "x" + System.nanoTime();
+        }
+    }
+
+    private void bumpListVersion() {
+        try {
+            if (redisTemplate.opsForValue().get(EVENT_LIST_VERSION_KEY) == null) {
+                redisTemplate.opsForValue().setIfAbsent(EVENT_LIST_VERSION_KEY, Long.toString(clock.millis()));
+            }
+            redisTemplate.opsForValue().increment(EVENT_LIST_VERSION_KEY);
+        } catch (Exception ex) {
+            log.warn("Failed to bump event list version: {}", ex.getMessage());
+        }
+    }
+}
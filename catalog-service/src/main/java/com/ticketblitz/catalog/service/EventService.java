@@ -1,25 +1,36 @@
 package com.ticketblitz.catalog.service;
 
+import com.ticketblitz.catalog.cache.EventTimelineCache;
 import com.ticketblitz.catalog.config.CacheConfig;
 import com.ticketblitz.catalog.dto.EventDto;
 import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.FacetedPageResponse;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
 import com.ticketblitz.catalog.dto.PageResponse;
 import com.ticketblitz.catalog.entity.Event;
 import com.ticketblitz.catalog.mapper.EventMapper;
 import com.ticketblitz.catalog.repository.EventRepository;
 import com.ticketblitz.catalog.repository.specification.EventSpecification;
+import com.ticketblitz.catalog.search.FacetIndex;
+import com.ticketblitz.common.dto.CursorPage;
 import com.ticketblitz.common.exception.ResourceNotFoundException;
+import com.ticketblitz.common.pagination.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Event Service
@@ -27,7 +38,7 @@ import java.util.List;
  * DESIGN PATTERNS:
  * 1. Service layer pattern - Business logic isolation
  * 2. Cache-Aside pattern - Explicit cache management
- * 3. DTO pattern - Never expose entities
+ * 3. DTO pattern - Never expose entities (list queries project straight into DTOs)
  * 4. Transaction management - Read-only optimization
  *
  * CACHING STRATEGY:
@@ -57,6 +68,9 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final FacetSearchService facetSearchService;
+    private final EventTimelineCache eventTimelineCache;
+    private final GeoSearchService geoSearchService;
 
     /**
      * Get event by ID (with venue)
@@ -84,18 +98,29 @@ public class EventService {
     /**
      * Get upcoming events (paginated)
      *
-     * CACHING: 5 minutes TTL
-     * KEY: "events::upcoming:page:size"
+     * SOURCES:
+     * - eventDate order: Redis timeline (any page depth, no Postgres)
+     * - other sorts:     in-memory facet index
+     * - database only when neither is available
      */
-    @Cacheable(
-            value = CacheConfig.EVENT_LIST_CACHE,
-            key = "'upcoming:' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort"
-    )
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PageResponse<EventListDto> getUpcomingEvents(Pageable pageable) {
         log.debug("Fetching upcoming events: page={}, size={}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Event> eventsPage = eventRepository.findUpcomingEvents(
+        Optional<Page<EventListDto>> timeline = timelinePage(EventTimelineCache.allKey(), pageable);
+        if (timeline.isPresent()) {
+            return buildPageResponse(timeline.get());
+        }
+
+        EventSearchFilter activeOnly = new EventSearchFilter(
+                null, null, Event.EventStatus.ACTIVE, null, null, null, null
+        );
+        if (facetSearchService.supports(activeOnly, pageable)) {
+            return buildPageResponse(facetSearchService.search(activeOnly, pageable).page());
+        }
+
+        Page<EventListDto> eventsPage = eventRepository.findUpcomingEvents(
                 LocalDateTime.now(),
                 pageable
         );
@@ -104,14 +129,14 @@ public class EventService {
     }
 
     /**
-     * Search events with filters (specification pattern)
+     * Search events with filters
+     *
+     * Served from the in-memory facet index when the result can only contain
+     * upcoming events (a date range starting now or later, no search term);
+     * otherwise falls back to the Specification query. Not cached: filter
+     * combinations rarely repeat.
      */
-    @Cacheable(
-            value = CacheConfig.EVENT_LIST_CACHE,
-            key = "'search:' + #category + ':' + #status + ':' + #city + ':' + " +
-                    "#searchTerm + ':' + #minSeats + ':' + #startDate + ':' + #endDate + ':' + " +
-                    "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort"
-    )
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PageResponse<EventListDto> searchEvents(
             Event.EventCategory category,
             Event.EventStatus status,
@@ -125,30 +150,83 @@ public class EventService {
         log.debug("Searching events: category={}, status={}, city={}, term={}",
                 category, status, city, searchTerm);
 
+        EventSearchFilter filter = new EventSearchFilter(
+                searchTerm, category, status, city, minSeats, startDate, endDate
+        );
+        if (startDate != null && endDate != null && facetSearchService.supports(filter, pageable)) {
+            return buildPageResponse(facetSearchService.search(filter, pageable).page());
+        }
+
         Specification<Event> spec = EventSpecification.buildSpecification(
                 category, status, city, searchTerm, minSeats, startDate, endDate
         );
 
-        Page<Event> eventsPage = eventRepository.findAll(spec, pageable);
+        Page<EventListDto> eventsPage = eventRepository.findListPage(spec, pageable);
 
         return buildPageResponse(eventsPage);
     }
 
     /**
-     * Get events by category
-     * @return
+     * Filter upcoming events and count every facet value for the same filters
+     *
+     * Facet counts leave out the facet's own filter, so picking CONCERT
+     * still shows how many SPORTS events there are
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FacetedPageResponse<EventListDto> searchEventsFaceted(
+            EventSearchFilter filter,
+            Pageable pageable
+    ) {
+        log.debug("Faceted event search: {}", filter);
+
+        if (!FacetIndex.supports(filter, pageable.getSort(), LocalDateTime.now())) {
+            throw new IllegalArgumentException(
+                    "Faceted search covers upcoming events only: no search term, startDate not in the past");
+        }
+
+        FacetIndex.Result result = facetSearchService.search(filter, pageable);
+        return FacetedPageResponse.<EventListDto>builder()
+                .page(buildPageResponse(result.page()))
+                .facets(result.facets())
+                .build();
+    }
+
+    /**
+     * Search events with filters, ranked by relevance to the search term
+     *
+     * Uses the full-text / trigram indexes instead of LIKE '%term%', so cost
+     * follows the number of matches rather than the size of the catalog
      */
     @Cacheable(
             value = CacheConfig.EVENT_LIST_CACHE,
-            key = "'category:' + #category + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort"
+            key = "'search-ranked:' + #filter + ':' + #pageable.pageNumber + ':' + #pageable.pageSize"
     )
+    public PageResponse<EventListDto> searchEventsRanked(
+            EventSearchFilter filter,
+            Pageable pageable
+    ) {
+        log.debug("Ranked event search: {}", filter);
+
+        Page<EventListDto> eventsPage = eventRepository.searchRanked(filter, pageable);
+        return buildPageResponse(eventsPage);
+    }
+
+    /**
+     * Get upcoming events by category (Redis timeline, database fallback)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PageResponse<EventListDto> getEventsByCategory(
             Event.EventCategory category,
             Pageable pageable) {
 
         log.debug("Fetching events by category: {}", category);
 
-        Page<Event> eventsPage = eventRepository.findByCategory(category, pageable);
+        Optional<Page<EventListDto>> timeline = timelinePage(EventTimelineCache.categoryKey(category), pageable);
+        if (timeline.isPresent()) {
+            return buildPageResponse(timeline.get());
+        }
+
+        Page<EventListDto> eventsPage = eventRepository.findByCategory(category, LocalDateTime.now(), pageable);
         return buildPageResponse(eventsPage);
     }
 
@@ -165,24 +243,52 @@ public class EventService {
 
         log.debug("Fetching events by venue: {}", venueId);
 
-        Page<Event> eventsPage = eventRepository.findByVenueId(venueId, pageable);
+        Page<EventListDto> eventsPage = eventRepository.findByVenueId(venueId, pageable);
         return buildPageResponse(eventsPage);
     }
 
     /**
-     * Get events by city
+     * Get upcoming events by city (Redis timeline, database fallback)
      */
-    @Cacheable(
-            value = CacheConfig.EVENT_LIST_CACHE,
-            key = "'city:' + #city + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort"
-    )
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PageResponse<EventListDto> getEventsByCity(
             String city,
             Pageable pageable) {
 
         log.debug("Fetching events by city: {}", city);
 
-        Page<Event> eventsPage = eventRepository.findByCity(city, pageable);
+        Optional<Page<EventListDto>> timeline = timelinePage(EventTimelineCache.cityKey(city), pageable);
+        if (timeline.isPresent()) {
+            return buildPageResponse(timeline.get());
+        }
+
+        Page<EventListDto> eventsPage = eventRepository.findByCity(city, LocalDateTime.now(), pageable);
+        return buildPageResponse(eventsPage);
+    }
+
+    /**
+     * Get upcoming events at venues within radiusKm of a point
+     *
+     * Venues come from the in-memory geo grid (the closest
+     * catalog.geo.max-event-venues of them), events from one indexed query
+     * over those venues
+     */
+    public PageResponse<EventListDto> getEventsNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Pageable pageable) {
+
+        log.debug("Fetching events within {} km of ({}, {})", radiusKm, latitude, longitude);
+
+        List<Long> venueIds = geoSearchService.findVenueIdsNearby(latitude, longitude, radiusKm);
+        if (venueIds.isEmpty()) {
+            return buildPageResponse(Page.empty(pageable));
+        }
+
+        Page<EventListDto> eventsPage = eventRepository.findUpcomingByVenueIds(
+                venueIds, LocalDateTime.now(), pageable
+        );
         return buildPageResponse(eventsPage);
     }
 
@@ -201,14 +307,14 @@ public class EventService {
 
         log.debug("Fetching events by date range: {} to {}", startDate, endDate);
 
-        Page<Event> eventsPage = eventRepository.findByDateRange(
+        Page<EventListDto> eventsPage = eventRepository.findByDateRange(
                 startDate, endDate, pageable
         );
         return buildPageResponse(eventsPage);
     }
 
     /**
-     * Search events by name
+     * Search active events by name/description, most relevant first
      */
     @Cacheable(
             value = CacheConfig.EVENT_LIST_CACHE,
@@ -220,10 +326,69 @@ public class EventService {
 
         log.debug("Searching events by name: {}", searchTerm);
 
-        Page<Event> eventsPage = eventRepository.searchByName(searchTerm, pageable);
+        Page<EventListDto> eventsPage = eventRepository.searchRanked(
+                EventSearchFilter.forTerm(searchTerm), pageable
+        );
         return buildPageResponse(eventsPage);
     }
 
+    /**
+     * Upcoming events, keyset paginated (infinite scroll)
+     *
+     * No COUNT query and constant cost per page regardless of depth
+     */
+    @Cacheable(
+            value = CacheConfig.EVENT_LIST_CACHE,
+            key = "'upcoming-scroll:' + #cursor + ':' + #size"
+    )
+    public CursorPage<EventListDto> scrollUpcomingEvents(String cursor, int size) {
+        SeekCursor after = SeekCursor.decodeOrDefault(cursor, SeekCursor.MIN);
+
+        return buildCursorPage(eventRepository.findUpcomingEventsAfter(
+                LocalDateTime.now(), after.timestamp(), after.id(), PageRequest.of(0, size)
+        ));
+    }
+
+    @Cacheable(
+            value = CacheConfig.EVENT_LIST_CACHE,
+            key = "'category-scroll:' + #category + ':' + #cursor + ':' + #size"
+    )
+    public CursorPage<EventListDto> scrollEventsByCategory(
+            Event.EventCategory category,
+            String cursor,
+            int size) {
+
+        SeekCursor after = SeekCursor.decodeOrDefault(cursor, SeekCursor.MIN);
+
+        return buildCursorPage(eventRepository.findByCategoryAfter(
+                category, after.timestamp(), after.id(), PageRequest.of(0, size)
+        ));
+    }
+
+    @Cacheable(
+            value = CacheConfig.EVENT_LIST_CACHE,
+            key = "'venue-scroll:' + #venueId + ':' + #cursor + ':' + #size"
+    )
+    public CursorPage<EventListDto> scrollEventsByVenue(Long venueId, String cursor, int size) {
+        SeekCursor after = SeekCursor.decodeOrDefault(cursor, SeekCursor.MIN);
+
+        return buildCursorPage(eventRepository.findByVenueIdAfter(
+                venueId, after.timestamp(), after.id(), PageRequest.of(0, size)
+        ));
+    }
+
+    @Cacheable(
+            value = CacheConfig.EVENT_LIST_CACHE,
+            key = "'city-scroll:' + #city + ':' + #cursor + ':' + #size"
+    )
+    public CursorPage<EventListDto> scrollEventsByCity(String city, String cursor, int size) {
+        SeekCursor after = SeekCursor.decodeOrDefault(cursor, SeekCursor.MIN);
+
+        return buildCursorPage(eventRepository.findByCityAfter(
+                city, after.timestamp(), after.id(), PageRequest.of(0, size)
+        ));
+    }
+
     /**
      * Get active event count (for stats)
      */
@@ -232,11 +397,25 @@ public class EventService {
     }
 
 
-    private PageResponse<EventListDto> buildPageResponse(Page<Event> page) {
-        List<EventListDto> content = eventMapper.toListDtoList(page.getContent());
+    /**
+     * Timelines are scored by eventDate, so only that order (either direction) applies
+     */
+    private Optional<Page<EventListDto>> timelinePage(String timelineKey, Pageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() > 1 || (orders.size() == 1 && !"eventDate".equals(orders.get(0).getProperty()))) {
+            return Optional.empty();
+        }
+        boolean descending = orders.size() == 1 && orders.get(0).isDescending();
+        return eventTimelineCache.page(timelineKey, pageable, descending);
+    }
 
+    /**
+     * Pages already hold EventListDto projections - no entity mapping, no
+     * lazy venue access
+     */
+    private PageResponse<EventListDto> buildPageResponse(Page<EventListDto> page) {
         return PageResponse.<EventListDto>builder()
-                .content(content)
+                .content(page.getContent())
                 .page(page.getNumber())
                 .size(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -246,4 +425,21 @@ public class EventService {
                 .empty(page.isEmpty())
                 .build();
     }
-}
\ No newline at end of file
+
+    private CursorPage<EventListDto> buildCursorPage(Slice<EventListDto> slice) {
+        List<EventListDto> content = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            EventListDto last = content.get(content.size() - 1);
+            nextCursor = new SeekCursor(last.getEventDate(), last.getId()).encode();
+        }
+
+        return CursorPage.<EventListDto>builder()
+                .content(content)
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
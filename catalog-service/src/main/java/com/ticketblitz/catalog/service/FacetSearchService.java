@@ -0,0 +1,84 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.search.FacetIndex;
+import com.ticketblitz.catalog.search.UpcomingEventStore;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import com.ticketblitz.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Facet Search Service
+ *
+ * Answers filtered event lists (category / status / city / date / minSeats)
+ * and their facet counts from an in-memory {@link FacetIndex} over the
+ * upcoming events in {@link UpcomingEventStore}.
+ *
+ * WHY:
+ * ====
+ * Filter combinations are too diverse to cache; each used to be a
+ * Specification query plus a COUNT(*) against Postgres. Here a query is a few
+ * bitset ANDs over the date range, which is cheap enough to run every time.
+ *
+ * SYNC:
+ * =====
+ * - Full reload          -> rebuild
+ * - Only seats changed   -> patch the availability column in place
+ * - Anything else        -> rebuild (one per refresh, however many events changed)
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+public class FacetSearchService {
+
+    // Null until the store has loaded once
+    private volatile FacetIndex index;
+
+    @EventListener
+    public void onUpcomingEventsChanged(UpcomingEventsChangedEvent change) {
+        FacetIndex current = index;
+        if (current == null || change.fullReload() || !patchAvailability(current, change)) {
+            long started = System.nanoTime();
+            index = FacetIndex.build(change.events());
+            log.info("Facet index built: {} events in {} ms",
+                    index.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /**
+     * Whether the in-memory index can answer the query (it only holds upcoming events)
+     */
+    public boolean supports(EventSearchFilter filter, Pageable pageable) {
+        return index != null && FacetIndex.supports(filter, pageable.getSort(), LocalDateTime.now());
+    }
+
+    public FacetIndex.Result search(EventSearchFilter filter, Pageable pageable) {
+        FacetIndex current = index;
+        if (current == null) {
+            throw new BusinessException(
+                    "SEARCH_INDEX_LOADING",
+                    "Event search index is still loading, retry shortly",
+                    503
+            );
+        }
+        return current.search(filter, pageable, LocalDateTime.now());
+    }
+
+    private boolean patchAvailability(FacetIndex current, UpcomingEventsChangedEvent change) {
+        for (Long id : change.changedIds()) {
+            EventListDto before = change.previous().get(id);
+            EventListDto after = change.current().get(id);
+            if (before == null || after == null || !current.updateAvailability(after)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.dto.VenueDto;
+import com.ticketblitz.catalog.entity.Venue;
+import com.ticketblitz.catalog.mapper.VenueMapper;
+import com.ticketblitz.catalog.repository.VenueRepository;
+import com.ticketblitz.catalog.search.GeoGrid;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import com.ticketblitz.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Geo Search Service
+ *
+ * "Within N km of a point" over venues, answered from an in-memory
+ * {@link GeoGrid} instead of computing a distance for every venue row.
+ *
+ * The grid holds every venue with coordinates and is reloaded with the
+ * upcoming event store's full reload; venues change rarely and only through
+ * migrations. It is the only geo index: the database keeps plain coordinates.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+public class GeoSearchService {
+
+    private final VenueRepository venueRepository;
+    private final VenueMapper venueMapper;
+    private final double maxRadiusKm;
+    private final int maxEventVenues;
+
+    // Null until the first load
+    private volatile GeoGrid<VenueDto> grid;
+
+    public GeoSearchService(
+            VenueRepository venueRepository,
+            VenueMapper venueMapper,
+            @Value("${catalog.geo.max-radius-km:500}") double maxRadiusKm,
+            @Value("${catalog.geo.max-event-venues:200}") int maxEventVenues
+    ) {
+        this.venueRepository = venueRepository;
+        this.venueMapper = venueMapper;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxEventVenues = maxEventVenues;
+    }
+
+    @EventListener
+    public void onUpcomingEventsChanged(UpcomingEventsChangedEvent change) {
+        if (!change.fullReload() && grid != null) {
+            return;
+        }
+
+        try {
+            List<Venue> venues = venueRepository.findAllWithCoordinates();
+            grid = GeoGrid.build(venues.stream()
+                    .map(venue -> new GeoGrid.Entry<>(
+                            venue.getLatitude(), venue.getLongitude(), venueMapper.toDto(venue)))
+                    .toList());
+            log.info("Venue geo grid loaded: {} venues", grid.size());
+        } catch (Exception ex) {
+            // Keep serving the previous grid
+            log.error("Venue geo grid reload failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Venues within radiusKm, closest first, each with its distanceKm
+     */
+    public List<VenueDto> findVenuesNearby(double latitude, double longitude, double radiusKm, int limit) {
+        if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most " + maxRadiusKm);
+        }
+
+        GeoGrid<VenueDto> current = grid;
+        if (current == null) {
+            throw new BusinessException(
+                    "GEO_INDEX_LOADING",
+                    "Venue location index is still loading, retry shortly",
+                    503
+            );
+        }
+
+        return current.within(latitude, longitude, radiusKm, limit).stream()
+                .map(hit -> hit.payload().toBuilder()
+                        .distanceKm(Math.round(hit.distanceKm() * 100) / 100.0)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * IDs of the closest venues within radiusKm, at most max-event-venues of
+     * them, so nearby event queries filter on a bounded venue list
+     */
+    public List<Long> findVenueIdsNearby(double latitude, double longitude, double radiusKm) {
+        return findVenuesNearby(latitude, longitude, radiusKm, maxEventVenues).stream()
+                .map(VenueDto::getId)
+                .toList();
+    }
+}
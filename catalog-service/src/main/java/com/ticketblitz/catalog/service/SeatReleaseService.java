@@ -0,0 +1,96 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.inventory.SeatReleaseRejectedException;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Seat releases requested by booking-service (SeatsReleasedEvent)
+ *
+ * BATCHING:
+ * =========
+ * A batch of messages is grouped by event; each event's seats are released
+ * in one step (one row lock pass or one actor command, one availability
+ * refresh, one cache eviction) instead of one catalog call per booking.
+ *
+ * IDEMPOTENCY:
+ * ============
+ * processed_seat_releases is claimed atomically with the release, keyed by
+ * booking ID (see SeatService.releaseClaimedSeats). Redelivered, retried or
+ * duplicated messages find their booking there and release nothing.
+ *
+ * FAILURES:
+ * =========
+ * - One booking's seats cannot be released (already booked, unknown seats):
+ *   the event's group is retried booking by booking, and the offending
+ *   booking is recorded as REJECTED so it is not retried forever
+ * - Anything else (DB down, inventory busy, interrupted): thrown, the batch
+ *   goes to the retry queue; bookings already released are skipped on the
+ *   next attempt
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatReleaseService {
+
+    private final SeatService seatService;
+    private final ProcessedSeatReleaseRepository processedSeatReleases;
+
+    public void release(List<SeatsReleasedEvent> releases) {
+        Map<Long, List<SeatsReleasedEvent>> byEvent = releases.stream()
+                .collect(Collectors.groupingBy(SeatsReleasedEvent::getEventId, LinkedHashMap::new, Collectors.toList()));
+
+        byEvent.forEach((eventId, group) -> {
+            List<ProcessedSeatReleaseRepository.Claim> claims = toClaims(group);
+            try {
+                releaseGroup(eventId, claims);
+            } catch (SeatReleaseRejectedException | ResourceNotFoundException ex) {
+                if (claims.size() == 1) {
+                    reject(eventId, claims.get(0), ex);
+                    return;
+                }
+                log.warn("Batched seat release for event {} failed, releasing {} bookings one by one",
+                        eventId, claims.size());
+                for (ProcessedSeatReleaseRepository.Claim claim : claims) {
+                    try {
+                        releaseGroup(eventId, List.of(claim));
+                    } catch (SeatReleaseRejectedException | ResourceNotFoundException singleEx) {
+                        reject(eventId, claim, singleEx);
+                    }
+                }
+            }
+        });
+    }
+
+    private void releaseGroup(Long eventId, List<ProcessedSeatReleaseRepository.Claim> claims) {
+        seatService.releaseClaimedSeats(eventId, claims);
+        log.info("Released seats of {} bookings for event {}", claims.size(), eventId);
+    }
+
+    private void reject(Long eventId, ProcessedSeatReleaseRepository.Claim claim, RuntimeException cause) {
+        log.error("Seats of booking {} ({}) cannot be released for event {}: {}",
+                claim.bookingId(), claim.reason(), eventId, cause.getMessage());
+        processedSeatReleases.claim(eventId, List.of(claim), ProcessedSeatReleaseRepository.OUTCOME_REJECTED);
+    }
+
+    /**
+     * One claim per booking; a booking listed twice in the batch is one release
+     */
+    private static List<ProcessedSeatReleaseRepository.Claim> toClaims(List<SeatsReleasedEvent> group) {
+        Map<Long, ProcessedSeatReleaseRepository.Claim> claims = new LinkedHashMap<>();
+        group.forEach(release -> claims.putIfAbsent(release.getBookingId(), new ProcessedSeatReleaseRepository.Claim(
+                release.getBookingId(), release.getReason().name(), List.copyOf(release.getSeatIds()))));
+        return List.copyOf(claims.values());
+    }
+}
@@ -1,21 +1,31 @@
 package com.ticketblitz.catalog.service;
 
+import com.ticketblitz.catalog.cache.ResponseBodyCache;
 import com.ticketblitz.catalog.config.CacheConfig;
 import com.ticketblitz.catalog.dto.SeatDto;
 import com.ticketblitz.catalog.entity.Event;
 import com.ticketblitz.catalog.entity.Seat;
+import com.ticketblitz.catalog.inventory.InventoryEngine;
+import com.ticketblitz.catalog.inventory.InventoryFlushedEvent;
+import com.ticketblitz.catalog.inventory.SeatReleaseRejectedException;
 import com.ticketblitz.catalog.mapper.SeatMapper;
 import com.ticketblitz.catalog.repository.EventRepository;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
 import com.ticketblitz.catalog.repository.SeatRepository;
 import com.ticketblitz.common.constant.SeatStatus;
 import com.ticketblitz.common.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,6 +38,10 @@ import java.util.stream.Collectors;
  *
  * Read paths remain cached for catalog traffic, but booking-related writes are
  * handled synchronously and transactionally so inventory stays authoritative.
+ *
+ * With catalog.inventory.engine=actor, lock/book/release go to the
+ * in-memory InventoryEngine instead of row locks; seat rows then trail the
+ * engine by its flush interval, and caches are evicted once they catch up.
  */
 @Slf4j
 @Service
@@ -39,19 +53,35 @@ public class SeatService {
     private final SeatMapper seatMapper;
     private final CacheManager caffeineCacheManager;
     private final CacheManager redisCacheManager;
+    private final ResponseBodyCache responseBodyCache;
+    private final CatalogVersionService catalogVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessedSeatReleaseRepository processedSeatReleases;
+    // null unless catalog.inventory.engine=actor
+    private final InventoryEngine inventoryEngine;
 
     public SeatService(
             SeatRepository seatRepository,
             EventRepository eventRepository,
             SeatMapper seatMapper,
             @Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
-            @Qualifier("redisCacheManager") CacheManager redisCacheManager
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+            ResponseBodyCache responseBodyCache,
+            CatalogVersionService catalogVersionService,
+            TransactionTemplate transactionTemplate,
+            ProcessedSeatReleaseRepository processedSeatReleases,
+            ObjectProvider<InventoryEngine> inventoryEngine
     ) {
         this.seatRepository = seatRepository;
         this.eventRepository = eventRepository;
         this.seatMapper = seatMapper;
         this.caffeineCacheManager = caffeineCacheManager;
         this.redisCacheManager = redisCacheManager;
+        this.responseBodyCache = responseBodyCache;
+        this.catalogVersionService = catalogVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.processedSeatReleases = processedSeatReleases;
+        this.inventoryEngine = inventoryEngine.getIfAvailable();
     }
 
     @Cacheable(
@@ -96,6 +126,8 @@ public class SeatService {
                 .collect(Collectors.groupingBy(SeatDto::getSection));
     }
 
+    // Read-write so booking-time checks hit the primary, never a lagging replica
+    @Transactional
     public int getAvailableSeatCount(Long eventId) {
         log.debug("Counting available seats for event: {}", eventId);
         return seatRepository.countAvailableSeats(eventId);
@@ -111,6 +143,7 @@ public class SeatService {
         return seatRepository.findDistinctSectionsByEventId(eventId);
     }
 
+    @Transactional
     public List<SeatDto> getSeatsByEventAndIds(Long eventId, List<Long> seatIds) {
         List<Long> normalizedSeatIds = normalizeSeatIds(seatIds);
         List<Seat> seats = seatRepository.findByEventIdAndIdIn(eventId, normalizedSeatIds);
@@ -119,8 +152,72 @@ public class SeatService {
         return seatMapper.toDtoList(seats);
     }
 
-    @Transactional
+    // No surrounding transaction: the engine path must not hold a connection while it waits
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SeatDto> lockSeats(Long eventId, List<Long> seatIds) {
+        if (inventoryEngine != null) {
+            return inventoryEngine.lockSeats(eventId, normalizeSeatIds(seatIds));
+        }
+        return transactionTemplate.execute(status -> lockSeatsInDatabase(eventId, seatIds));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SeatDto> bookSeats(Long eventId, List<Long> seatIds) {
+        if (inventoryEngine != null) {
+            return inventoryEngine.bookSeats(eventId, normalizeSeatIds(seatIds));
+        }
+        return transactionTemplate.execute(status -> bookSeatsInDatabase(eventId, seatIds));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SeatDto> releaseSeats(Long eventId, List<Long> seatIds) {
+        if (inventoryEngine != null) {
+            return inventoryEngine.releaseSeats(eventId, normalizeSeatIds(seatIds));
+        }
+        return transactionTemplate.execute(status -> releaseSeatsInDatabase(eventId, seatIds));
+    }
+
+    /**
+     * Release the seats of bookings not released before, recording each
+     * booking in processed_seat_releases atomically with its release.
+     *
+     * - engine: the actor checks the claims and commits them with the
+     *   journal entry (no connection is held while waiting for the actor)
+     * - row locking: claim and release share one transaction; if the release
+     *   fails, the claim rolls back with it
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void releaseClaimedSeats(Long eventId, List<ProcessedSeatReleaseRepository.Claim> claims) {
+        if (inventoryEngine != null) {
+            inventoryEngine.releaseClaimedSeats(eventId, claims);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> claimed = processedSeatReleases.claim(
+                    eventId, claims, ProcessedSeatReleaseRepository.OUTCOME_RELEASED);
+            List<Long> seatIds = claims.stream()
+                    .filter(claim -> claimed.contains(claim.bookingId()))
+                    .flatMap(claim -> claim.seatIds().stream())
+                    .distinct()
+                    .toList();
+            if (claimed.size() < claims.size()) {
+                log.debug("Skipping {} already processed seat releases for event {}",
+                        claims.size() - claimed.size(), eventId);
+            }
+            if (!seatIds.isEmpty()) {
+                releaseSeatsInDatabase(eventId, seatIds);
+            }
+        });
+    }
+
+    @Async("cacheExecutor")
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onInventoryFlushed(InventoryFlushedEvent event) {
+        evictInventoryCaches(event.eventId());
+    }
+
+    private List<SeatDto> lockSeatsInDatabase(Long eventId, List<Long> seatIds) {
         List<Seat> seats = loadSeatsForUpdate(eventId, seatIds);
         ensureStatuses(seats, SeatStatus.AVAILABLE,
                 "One or more seats are no longer available for booking.");
@@ -132,8 +229,7 @@ public class SeatService {
         return seatMapper.toDtoList(seats);
     }
 
-    @Transactional
-    public List<SeatDto> bookSeats(Long eventId, List<Long> seatIds) {
+    private List<SeatDto> bookSeatsInDatabase(Long eventId, List<Long> seatIds) {
         List<Seat> seats = loadSeatsForUpdate(eventId, seatIds);
         boolean invalidTransition = seats.stream()
                 .anyMatch(seat -> seat.getStatus() != SeatStatus.LOCKED
@@ -152,14 +248,13 @@ public class SeatService {
         return seatMapper.toDtoList(seats);
     }
 
-    @Transactional
-    public List<SeatDto> releaseSeats(Long eventId, List<Long> seatIds) {
+    private List<SeatDto> releaseSeatsInDatabase(Long eventId, List<Long> seatIds) {
         List<Seat> seats = loadSeatsForUpdate(eventId, seatIds);
         boolean invalidTransition = seats.stream()
                 .anyMatch(seat -> seat.getStatus() == SeatStatus.BOOKED);
 
         if (invalidTransition) {
-            throw new IllegalStateException("Booked seats cannot be released back to inventory.");
+            throw new SeatReleaseRejectedException();
         }
 
         long releasedSeats = seats.stream()
@@ -221,6 +316,7 @@ public class SeatService {
         int updatedAvailableSeats = seatRepository.countAvailableSeats(eventId);
 
         event.setAvailableSeats(updatedAvailableSeats);
+        event.setInventoryVersion(event.getInventoryVersion() + 1);
         if (updatedAvailableSeats == 0 && event.getStatus() == Event.EventStatus.ACTIVE) {
             event.setStatus(Event.EventStatus.SOLD_OUT);
         } else if (updatedAvailableSeats > 0 && event.getStatus() == Event.EventStatus.SOLD_OUT) {
@@ -239,6 +335,9 @@ public class SeatService {
         if (eventListCache != null) {
             eventListCache.clear();
         }
+
+        responseBodyCache.evictEvent(eventId);
+        catalogVersionService.onInventoryChanged();
     }
 
     private void evict(Cache cache, Object key) {
@@ -0,0 +1,4 @@
+-- City lookups compare LOWER(TRIM(city)) so "new york", "New York " and the
+-- lowercase Redis city timelines all resolve to the same venues.
+DROP INDEX IF EXISTS idx_venues_city;
+CREATE INDEX idx_venues_city_lower ON venues (lower(trim(city)));
@@ -0,0 +1,6 @@
+-- Proximity search is answered by the in-memory venue GeoGrid; nothing ever
+-- queried venues.geohash or its prefix index, they only cost a generated
+-- column and an index write on every venue change.
+DROP INDEX IF EXISTS idx_venues_geohash;
+ALTER TABLE venues DROP COLUMN IF EXISTS geohash;
+DROP FUNCTION IF EXISTS geohash_encode(DOUBLE PRECISION, DOUBLE PRECISION, INT);
@@ -0,0 +1,4 @@
+-- Bumped on every seat state transition of an event. Seat reads use it as
+-- their ETag source, so a conditional GET only needs this one row.
+ALTER TABLE events
+ADD COLUMN inventory_version BIGINT NOT NULL DEFAULT 0;
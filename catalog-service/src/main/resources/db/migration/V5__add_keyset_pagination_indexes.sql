@@ -0,0 +1,5 @@
+-- Composite indexes matching the keyset scans: equality columns first, then
+-- the (event_date, id) seek key, so each page is a single bounded index range.
+CREATE INDEX idx_events_status_date_id ON events(status, event_date, id);
+CREATE INDEX idx_events_category_status_date_id ON events(category, status, event_date, id);
+CREATE INDEX idx_events_venue_status_date_id ON events(venue_id, status, event_date, id);
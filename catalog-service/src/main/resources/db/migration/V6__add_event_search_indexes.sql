@@ -0,0 +1,17 @@
+-- Full-text and trigram search for events and venues.
+--
+-- search_vector is maintained by Postgres itself (generated column), so no
+-- application code or trigger has to keep it in sync with name/description.
+-- The trigram indexes serve LOWER(name) LIKE '%term%' (the Specification
+-- path and venue search) and the fuzzy "<%" operator used for typos.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE events ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_events_search_vector ON events USING gin (search_vector);
+CREATE INDEX idx_events_name_trgm ON events USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_venues_name_trgm ON venues USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,74 @@
+-- Venue coordinates for proximity search.
+--
+-- geohash is a generated column, like events.search_vector: Postgres keeps it
+-- in sync with latitude/longitude, so no application code has to. Nearby
+-- venues share a geohash prefix, which the text_pattern_ops index serves as
+-- an index range scan (geohash LIKE 'dr5r%') without PostGIS or earthdistance.
+CREATE OR REPLACE FUNCTION geohash_encode(lat DOUBLE PRECISION, lon DOUBLE PRECISION, hash_length INT)
+RETURNS VARCHAR
+LANGUAGE plpgsql
+IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789bcdefghjkmnpqrstuvwxyz';
+    lat_min DOUBLE PRECISION := -90;
+    lat_max DOUBLE PRECISION := 90;
+    lon_min DOUBLE PRECISION := -180;
+    lon_max DOUBLE PRECISION := 180;
+    mid DOUBLE PRECISION;
+    hash TEXT := '';
+    bits INT := 0;
+    bit_count INT := 0;
+    even BOOLEAN := TRUE;
+BEGIN
+    WHILE length(hash) < hash_length LOOP
+        IF even THEN
+            mid := (lon_min + lon_max) / 2;
+            IF lon >= mid THEN
+                bits := bits * 2 + 1;
+                lon_min := mid;
+            ELSE
+                bits := bits * 2;
+                lon_max := mid;
+            END IF;
+        ELSE
+            mid := (lat_min + lat_max) / 2;
+            IF lat >= mid THEN
+                bits := bits * 2 + 1;
+                lat_min := mid;
+            ELSE
+                bits := bits * 2;
+                lat_max := mid;
+            END IF;
+        END IF;
+        even := NOT even;
+        bit_count := bit_count + 1;
+
+        IF bit_count = 5 THEN
+            hash := hash || substr(alphabet, bits + 1, 1);
+            bits := 0;
+            bit_count := 0;
+        END IF;
+    END LOOP;
+    RETURN hash;
+END;
+$$;
+
+ALTER TABLE venues ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE venues ADD COLUMN longitude DOUBLE PRECISION;
+
+ALTER TABLE venues ADD CONSTRAINT chk_venues_coordinates CHECK (
+    (latitude IS NULL AND longitude IS NULL)
+    OR (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180)
+);
+
+ALTER TABLE venues ADD COLUMN geohash VARCHAR(12)
+    GENERATED ALWAYS AS (geohash_encode(latitude, longitude, 12)) STORED;
+
+CREATE INDEX idx_venues_geohash ON venues (geohash text_pattern_ops);
+
+UPDATE venues SET latitude = 40.750504, longitude = -73.993439 WHERE name = 'Madison Square Garden';
+UPDATE venues SET latitude = 51.556021, longitude = -0.279519 WHERE name = 'Wembley Stadium';
+UPDATE venues SET latitude = 34.112224, longitude = -118.339127 WHERE name = 'Hollywood Bowl';
+UPDATE venues SET latitude = 39.665475, longitude = -105.205837 WHERE name = 'Red Rocks Amphitheatre';
+UPDATE venues SET latitude = -33.856784, longitude = 151.215297 WHERE name = 'Sydney Opera House';
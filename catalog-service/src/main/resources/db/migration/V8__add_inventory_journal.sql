@@ -0,0 +1,26 @@
+-- Journal for the in-memory inventory engine (catalog.inventory.engine=actor).
+--
+-- The owning actor appends every accepted seat transition here before it
+-- replies, and writes the resulting seat statuses behind to the seats table.
+-- On load, seats + journal entries after applied_sequence rebuild the
+-- in-memory state, so nothing acknowledged is lost on a crash.
+--
+-- inventory_streams.last_sequence is the fencing token: an append only
+-- succeeds if it extends the sequence the actor loaded, so a second owner
+-- of the same event (another instance, a stale actor) fails and reloads.
+CREATE TABLE inventory_streams (
+    event_id BIGINT PRIMARY KEY REFERENCES events(id),
+    last_sequence BIGINT NOT NULL DEFAULT 0,
+    applied_sequence BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE inventory_journal (
+    event_id BIGINT NOT NULL REFERENCES inventory_streams(event_id),
+    sequence BIGINT NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    seat_ids BIGINT[] NOT NULL,
+    target_status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id, sequence)
+);
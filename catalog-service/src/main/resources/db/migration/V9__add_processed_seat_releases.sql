@@ -0,0 +1,18 @@
+-- Seat releases consumed from booking-service (SeatsReleasedEvent).
+--
+-- A booking gives its seats back at most once (cancelled, expired or payment
+-- failed are all final), so booking_id is the dedupe key: a redelivered or
+-- retried message finds its row and is skipped instead of releasing seats
+-- that may since have been locked by another booking.
+--
+-- outcome: RELEASED, or REJECTED when the seats could not be released
+-- (e.g. already booked) and retrying would not help.
+CREATE TABLE processed_seat_releases (
+    booking_id BIGINT PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    reason VARCHAR(20) NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_processed_seat_releases_processed_at ON processed_seat_releases(processed_at);
@@ -0,0 +1,80 @@
+package com.ticketblitz.catalog.cache;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import com.ticketblitz.common.event.CatalogChannels;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class EventChangeBroadcasterTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.now().plusDays(30).withNano(0);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final EventChangeBroadcaster broadcaster = new EventChangeBroadcaster(redisTemplate);
+
+    @Test
+    void shouldNotBroadcastTheFirstFullLoad() {
+        broadcaster.onUpcomingEventsChanged(fullReload(event(1, "Finals"), event(2, "Opera")));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void shouldBroadcastEventsAddedEditedAndGoneOnFullReload() {
+        broadcaster.onUpcomingEventsChanged(fullReload(event(1, "Finals"), event(2, "Opera"), event(3, "Ballet")));
+
+        // 1 unchanged, 2 renamed, 3 gone, 4 inserted or re-dated into the future outside the service
+        broadcaster.onUpcomingEventsChanged(fullReload(event(1, "Finals"), event(2, "Opera Gala"), event(4, "Derby")));
+
+        verify(redisTemplate, never()).convertAndSend(CatalogChannels.EVENT_CHANGED, "1");
+        verify(redisTemplate).convertAndSend(CatalogChannels.EVENT_CHANGED, "2");
+        verify(redisTemplate).convertAndSend(CatalogChannels.EVENT_CHANGED, "3");
+        verify(redisTemplate).convertAndSend(CatalogChannels.EVENT_CHANGED, "4");
+    }
+
+    @Test
+    void shouldBroadcastOnlyCachedFieldsOnRefresh() {
+        broadcaster.onUpcomingEventsChanged(fullReload(event(1, "Finals"), event(2, "Opera")));
+        clearInvocations(redisTemplate);
+
+        EventListDto fewerSeats = event(1, "Finals");
+        fewerSeats.setAvailableSeats(10);
+        Map<Long, EventListDto> previous = new HashMap<>(Map.of(1L, event(1, "Finals"), 2L, event(2, "Opera")));
+        Map<Long, EventListDto> current = new HashMap<>();
+        current.put(1L, fewerSeats);
+        current.put(2L, null);
+        broadcaster.onUpcomingEventsChanged(new UpcomingEventsChangedEvent(List.of(fewerSeats), previous, current));
+
+        verify(redisTemplate).convertAndSend(CatalogChannels.EVENT_CHANGED, "2");
+        verify(redisTemplate, never()).convertAndSend(CatalogChannels.EVENT_CHANGED, "1");
+    }
+
+    private static UpcomingEventsChangedEvent fullReload(EventListDto... events) {
+        return new UpcomingEventsChangedEvent(Arrays.asList(events), Map.of(), Map.of());
+    }
+
+    private static EventListDto event(long id, String name) {
+        return EventListDto.builder()
+                .id(id)
+                .name(name)
+                .eventDate(DATE)
+                .status(Event.EventStatus.ACTIVE)
+                .venueName("Arena")
+                .availableSeats(100)
+                .build();
+    }
+}
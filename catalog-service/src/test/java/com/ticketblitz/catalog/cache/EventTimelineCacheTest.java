@@ -0,0 +1,342 @@
+package com.ticketblitz.catalog.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.repository.EventRepository;
+import com.ticketblitz.catalog.search.UpcomingEventsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Timeline keys, ordering and eviction against an in-memory stand-in for the
+ * handful of Redis commands the cache pipelines (sorted sets, hashes, sets,
+ * RENAME), so the real key layout and score ranges are exercised.
+ */
+public class EventTimelineCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    private final InMemoryRedis redis = new InMemoryRedis();
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private EventTimelineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    @Test
+    void shouldPageEventsInDateOrderBothWays() {
+        rebuild(
+                event(1, 3, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"),
+                event(2, 1, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Chicago"),
+                event(3, 2, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"),
+                event(4, 4, Event.EventCategory.THEATER, Event.EventStatus.ACTIVE, "Denver"));
+
+        Page<EventListDto> first = page(EventTimelineCache.allKey(), 0, 2, false);
+        assertThat(ids(first)).containsExactly(2L, 3L);
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(ids(page(EventTimelineCache.allKey(), 1, 2, false))).containsExactly(1L, 4L);
+        assertThat(ids(page(EventTimelineCache.allKey(), 0, 3, true))).containsExactly(4L, 1L, 3L);
+        assertThat(ids(page(EventTimelineCache.categoryKey(Event.EventCategory.CONCERT), 0, 10, false)))
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void shouldKeyCitiesIgnoringCaseAndSpaces() {
+        rebuild(
+                event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"),
+                event(2, 2, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, " boston "),
+                event(3, 3, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Chicago"),
+                event(4, 4, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, null));
+
+        assertThat(EventTimelineCache.cityKey("BOSTON ")).isEqualTo(EventTimelineCache.cityKey("boston"));
+        assertThat(ids(page(EventTimelineCache.cityKey("BOSTON"), 0, 10, false))).containsExactly(1L, 2L);
+        assertThat(ids(page(EventTimelineCache.cityKey("chicago"), 0, 10, false))).containsExactly(3L);
+        assertThat(redis.zsets.keySet()).containsExactlyInAnyOrder(
+                EventTimelineCache.allKey(),
+                EventTimelineCache.cityKey("boston"),
+                EventTimelineCache.cityKey("chicago"),
+                EventTimelineCache.categoryKey(Event.EventCategory.CONCERT));
+    }
+
+    @Test
+    void shouldEvictEventsThatStopBeingListed() {
+        EventListDto rock = event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston");
+        EventListDto derby = event(2, 2, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Boston");
+        rebuild(rock, derby);
+
+        EventListDto rockSoldOut = event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.SOLD_OUT, "Boston");
+        EventListDto derbyMoved = event(2, 2, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Chicago");
+        cache.onUpcomingEventsChanged(new UpcomingEventsChangedEvent(
+                List.of(rockSoldOut, derbyMoved),
+                Map.of(1L, rock, 2L, derby),
+                Map.of(1L, rockSoldOut, 2L, derbyMoved)));
+
+        assertThat(ids(page(EventTimelineCache.allKey(), 0, 10, false))).containsExactly(2L);
+        assertThat(ids(page(EventTimelineCache.cityKey("Boston"), 0, 10, false))).isEmpty();
+        assertThat(ids(page(EventTimelineCache.cityKey("Chicago"), 0, 10, false))).containsExactly(2L);
+        assertThat(redis.hashes.get(EventTimelineCache.ROWS_KEY)).containsOnlyKeys("2");
+    }
+
+    @Test
+    void shouldDropTimelinesAndStartedEventsOnRebuild() {
+        rebuild(
+                event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"),
+                event(2, 2, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Chicago"));
+
+        // Next full reload: Chicago is gone and one event has already started
+        redis.strings.remove(EventTimelineCache.REBUILD_LOCK_KEY);
+        EventListDto started = new EventListDto(1L, "Event 1", NOW.minusHours(1), Event.EventCategory.CONCERT,
+                100, BigDecimal.TEN, Event.EventStatus.ACTIVE, null, "Venue 1", "Boston");
+        rebuild(started, event(3, 3, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"));
+
+        assertThat(ids(page(EventTimelineCache.allKey(), 0, 10, false))).containsExactly(3L);
+        assertThat(redis.zsets).doesNotContainKey(EventTimelineCache.cityKey("Chicago"));
+        assertThat(redis.sets.get(EventTimelineCache.KEYS_KEY))
+                .doesNotContain(EventTimelineCache.cityKey("Chicago"));
+    }
+
+    @Test
+    void shouldKeepRefreshesAppliedWhileAnotherInstanceRebuilds() {
+        EventListDto rock = event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston");
+        EventListDto derby = event(2, 2, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Boston");
+        rebuild(rock, derby);
+        redis.strings.remove(EventTimelineCache.REBUILD_LOCK_KEY);
+
+        // Another instance refreshes after this one read its snapshot, but before the swap
+        EventListDto rockSoldOut = event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.SOLD_OUT, "Boston");
+        EventListDto derbyMoved = event(2, 2, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "Chicago");
+        newCache().onUpcomingEventsChanged(new UpcomingEventsChangedEvent(
+                List.of(rockSoldOut, derbyMoved),
+                Map.of(1L, rock, 2L, derby),
+                Map.of(1L, rockSoldOut, 2L, derbyMoved)));
+        when(eventRepository.findListRowsByIds(any())).thenReturn(List.of(rockSoldOut, derbyMoved));
+
+        rebuild(rock, derby);
+
+        assertThat(ids(page(EventTimelineCache.allKey(), 0, 10, false))).containsExactly(2L);
+        assertThat(ids(page(EventTimelineCache.cityKey("Boston"), 0, 10, false))).isEmpty();
+        assertThat(ids(page(EventTimelineCache.cityKey("Chicago"), 0, 10, false))).containsExactly(2L);
+        assertThat(redis.hashes.get(EventTimelineCache.ROWS_KEY)).containsOnlyKeys("2");
+        assertThat(redis.zsets).doesNotContainKey(EventTimelineCache.CHANGES_KEY);
+    }
+
+    @Test
+    void shouldFallBackToTheDatabaseUntilBuilt() {
+        assertThat(cache.page(EventTimelineCache.allKey(), PageRequest.of(0, 10), false)).isEmpty();
+
+        rebuild(event(1, 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston"));
+        assertThat(cache.page(EventTimelineCache.allKey(), PageRequest.of(0, 10), false)).isPresent();
+    }
+
+    private EventTimelineCache newCache() {
+        return new EventTimelineCache(redis.template(), new ObjectMapper().findAndRegisterModules(),
+                eventRepository, true, Duration.ofMinutes(10));
+    }
+
+    private void rebuild(EventListDto... events) {
+        cache.onUpcomingEventsChanged(new UpcomingEventsChangedEvent(List.of(events), Map.of(), Map.of()));
+    }
+
+    private Page<EventListDto> page(String key, int page, int size, boolean descending) {
+        return cache.page(key, PageRequest.of(page, size), descending).orElseThrow();
+    }
+
+    private static List<Long> ids(Page<EventListDto> page) {
+        return page.getContent().stream().map(EventListDto::getId).toList();
+    }
+
+    private static EventListDto event(
+            long id, int daysFromNow, Event.EventCategory category, Event.EventStatus status, String city) {
+        return new EventListDto(id, "Event " + id, NOW.plusDays(daysFromNow), category, 100,
+                BigDecimal.valueOf(10 + id), status, null, "Venue " + id, city);
+    }
+
+    /**
+     * The commands EventTimelineCache issues, on plain maps. Pipelined calls
+     * return their results in order, like executePipelined does.
+     */
+    private static class InMemoryRedis {
+
+        final Map<String, Map<String, Double>> zsets = new HashMap<>();
+        final Map<String, Map<String, String>> hashes = new HashMap<>();
+        final Map<String, Set<String>> sets = new HashMap<>();
+        final Map<String, String> strings = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        StringRedisTemplate template() {
+            StringRedisTemplate template = mock(StringRedisTemplate.class);
+
+            when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+                List<Object> results = new ArrayList<>();
+                StringRedisConnection connection = mock(StringRedisConnection.class, command -> {
+                    Object result = execute(command);
+                    if (result != null) {
+                        results.add(result);
+                    }
+                    return result;
+                });
+                ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+                return results;
+            });
+
+            ValueOperations<String, String> values = mock(ValueOperations.class);
+            when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation ->
+                    strings.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+            when(template.opsForValue()).thenReturn(values);
+
+            SetOperations<String, String> setOps = mock(SetOperations.class);
+            when(setOps.members(anyString())).thenAnswer(invocation ->
+                    new HashSet<>(sets.getOrDefault(invocation.<String>getArgument(0), Set.of())));
+            when(template.opsForSet()).thenReturn(setOps);
+
+            HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+            when(hashOps.multiGet(eq(EventTimelineCache.ROWS_KEY), anyList())).thenAnswer(invocation -> {
+                Map<String, String> rows = hashes.getOrDefault(EventTimelineCache.ROWS_KEY, Map.of());
+                return invocation.<List<Object>>getArgument(1).stream().map(rows::get).toList();
+            });
+            when(template.opsForHash()).thenReturn(hashOps);
+
+            ZSetOperations<String, String> zsetOps = mock(ZSetOperations.class);
+            when(zsetOps.range(anyString(), eq(0L), eq(-1L))).thenAnswer(invocation -> new LinkedHashSet<>(
+                    range(invocation.getArgument(0), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false)));
+            when(zsetOps.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation ->
+                    removeRange(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            when(template.opsForZSet()).thenReturn(zsetOps);
+
+            return template;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object execute(InvocationOnMock command) {
+            Object[] args = command.getArguments();
+            String key = (String) args[0];
+            switch (command.getMethod().getName()) {
+                case "exists":
+                    return exists(key);
+                case "zAdd":
+                    zsets.computeIfAbsent(key, k -> new HashMap<>()).put((String) args[2], (Double) args[1]);
+                    return Boolean.TRUE;
+                case "zRem":
+                    Map<String, Double> zset = zsets.getOrDefault(key, new HashMap<>());
+                    members(args).forEach(zset::remove);
+                    if (zset.isEmpty()) {
+                        zsets.remove(key);
+                    }
+                    return 1L;
+                case "zRemRangeByScore":
+                    return removeRange(key, (Double) args[1], (Double) args[2]);
+                case "zCount":
+                    return (long) range(key, (Double) args[1], (Double) args[2], false).size();
+                case "zRangeByScore":
+                case "zRevRangeByScore":
+                    List<String> range = range(key, (Double) args[1], (Double) args[2],
+                            command.getMethod().getName().startsWith("zRev"));
+                    int from = (int) Math.min((Long) args[3], range.size());
+                    int to = (int) Math.min(from + (Long) args[4], range.size());
+                    return new LinkedHashSet<>(range.subList(from, to));
+                case "hSet":
+                    hashes.computeIfAbsent(key, k -> new HashMap<>()).put((String) args[1], (String) args[2]);
+                    return Boolean.TRUE;
+                case "hMSet":
+                    hashes.computeIfAbsent(key, k -> new HashMap<>()).putAll((Map<String, String>) args[1]);
+                    return null;
+                case "hDel":
+                    members(args).forEach(hashes.getOrDefault(key, new HashMap<>())::remove);
+                    return 1L;
+                case "sAdd":
+                    sets.computeIfAbsent(key, k -> new HashSet<>()).addAll(members(args));
+                    return 1L;
+                case "setEx":
+                    strings.put(key, (String) args[2]);
+                    return Boolean.TRUE;
+                case "del":
+                    Arrays.stream(args).map(String.class::cast).forEach(this::delete);
+                    return 1L;
+                case "rename":
+                    rename(key, (String) args[1]);
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(command.getMethod().getName());
+            }
+        }
+
+        private boolean exists(String key) {
+            return zsets.containsKey(key) || hashes.containsKey(key) || sets.containsKey(key) || strings.containsKey(key);
+        }
+
+        private List<String> range(String key, double min, double max, boolean descending) {
+            Comparator<Map.Entry<String, Double>> order = Map.Entry.<String, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            return zsets.getOrDefault(key, Map.of()).entrySet().stream()
+                    .filter(entry -> entry.getValue() >= min && entry.getValue() <= max)
+                    .sorted(descending ? order.reversed() : order)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        private long removeRange(String key, double min, double max) {
+            List<String> removed = range(key, min, max, false);
+            Map<String, Double> zset = zsets.getOrDefault(key, new HashMap<>());
+            removed.forEach(zset::remove);
+            if (zset.isEmpty()) {
+                zsets.remove(key);
+            }
+            return removed.size();
+        }
+
+        private void delete(String key) {
+            zsets.remove(key);
+            hashes.remove(key);
+            sets.remove(key);
+            strings.remove(key);
+        }
+
+        private void rename(String from, String to) {
+            delete(to);
+            if (zsets.containsKey(from)) {
+                zsets.put(to, zsets.remove(from));
+            } else if (hashes.containsKey(from)) {
+                hashes.put(to, hashes.remove(from));
+            }
+        }
+
+        private static List<String> members(Object[] args) {
+            return Arrays.stream(args).skip(1).map(String.class::cast).toList();
+        }
+    }
+}
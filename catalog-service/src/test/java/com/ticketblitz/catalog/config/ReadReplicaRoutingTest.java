@@ -0,0 +1,103 @@
+package com.ticketblitz.catalog.config;
+
+import com.ticketblitz.common.datasource.ReadReplicaRoutingDataSource;
+import com.ticketblitz.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only transactions go to the replica, everything else to the primary,
+ * and reads fall back to the primary once the replica stops answering.
+ *
+ * Two independent databases stand in for primary and replica; the database
+ * name tells which one served a statement.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("primary_db");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("replica_db");
+
+    private HikariDataSource primaryPool;
+    private HikariDataSource replicaPool;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primaryPool = pool(PRIMARY);
+        replicaPool = pool(REPLICA);
+        lagMonitor = new ReplicaLagMonitor(replicaPool, Duration.ofSeconds(1), Duration.ofHours(1));
+        lagMonitor.start();
+
+        DataSource routing = ReadReplicaRoutingDataSource.create(primaryPool, replicaPool, lagMonitor);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.close();
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @Test
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(lagMonitor.getLagSeconds()).isZero();
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica_db");
+        assertThat(currentDatabase(readWrite)).isEqualTo("primary_db");
+        assertThat(currentDatabase()).isEqualTo("primary_db");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaIsDown() {
+        replicaPool.close();
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary_db");
+    }
+
+    private String currentDatabase(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer<?> container) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(container.getJdbcUrl());
+        pool.setUsername(container.getUsername());
+        pool.setPassword(container.getPassword());
+        pool.setMaximumPoolSize(2);
+        return pool;
+    }
+}
@@ -0,0 +1,210 @@
+package com.ticketblitz.catalog.grpc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.common.constant.SeatStatus;
+import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.grpc.ProtoConversions;
+import com.ticketblitz.common.grpc.catalog.CatalogInternalGrpc;
+import com.ticketblitz.common.grpc.catalog.SeatList;
+import com.ticketblitz.common.grpc.catalog.SeatsRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Side-by-side: the booking-time seat lookup as JSON over HTTP/1.1 (what the
+ * Feign client does today) and as protobuf over gRPC/HTTP/2.
+ *
+ * Both servers run in this JVM on loopback and return the same 10 seats, so
+ * the difference is encoding, parsing and transport, not the database.
+ *
+ * SCOPE:
+ * ======
+ * The JSON side is the JDK HttpClient plus Jackson, not the Feign stack
+ * (no Feign encoder/decoder, interceptors, load balancer or Apache/OkHttp
+ * pool), and every call comes from a single caller thread. The numbers
+ * compare serialization and per-call overhead without contention; they say
+ * nothing about how either transport behaves under concurrent load.
+ *
+ * The benchmark only runs on demand:
+ *   mvn test -Dtest=CatalogTransportBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+public class CatalogTransportBenchmarkTest {
+
+    private static final int WARMUP_CALLS = 2_000;
+    private static final int MEASURED_CALLS = 10_000;
+
+    static {
+        // The JDK server writes headers and body separately; without this,
+        // Nagle + delayed ACK add ~40ms to every JSON call on loopback
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final List<SeatDto> SEATS = seats();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static Server grpcServer;
+    private static ManagedChannel channel;
+    private static CatalogInternalGrpc.CatalogInternalBlockingStub stub;
+    private static HttpServer httpServer;
+    private static HttpClient httpClient;
+    private static URI jsonUri;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        grpcServer = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0))
+                .addService(new CatalogInternalGrpc.CatalogInternalImplBase() {
+                    @Override
+                    public void getSeats(SeatsRequest request, StreamObserver<SeatList> responseObserver) {
+                        responseObserver.onNext(CatalogGrpcService.toSeatList(SEATS));
+                        responseObserver.onCompleted();
+                    }
+                })
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()
+                .start();
+        channel = NettyChannelBuilder.forAddress("127.0.0.1", grpcServer.getPort()).usePlaintext().build();
+        stub = CatalogInternalGrpc.newBlockingStub(channel);
+
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.createContext("/api/v1/seats/event/1/selected", exchange -> {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(ApiResponse.success(SEATS));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        httpServer.start();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        jsonUri = URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort()
+                + "/api/v1/seats/event/1/selected?seatIds=1,2,3,4,5,6,7,8,9,10");
+    }
+
+    @AfterAll
+    static void stopServers() {
+        channel.shutdownNow();
+        grpcServer.shutdownNow();
+        httpServer.stop(0);
+    }
+
+    @Test
+    void shouldDecodeSameSeatsOverBothTransports() throws Exception {
+        assertThat(grpcCall()).isEqualTo(SEATS);
+        assertThat(jsonCall()).isEqualTo(SEATS);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compareLatencyAndCpuPerCall() throws Exception {
+        Result json = measure("JSON / HTTP 1.1", CatalogTransportBenchmarkTest::jsonCall);
+        Result grpc = measure("protobuf / gRPC", CatalogTransportBenchmarkTest::grpcCall);
+
+        int jsonBytes = OBJECT_MAPPER.writeValueAsBytes(ApiResponse.success(SEATS)).length;
+        int grpcBytes = CatalogGrpcService.toSeatList(SEATS).getSerializedSize();
+
+        log.info(String.format("%-16s %10s %10s %14s %10s", "transport", "p50 us", "p99 us", "cpu us/call", "body B"));
+        log.info(String.format("%-16s %10.1f %10.1f %14.1f %10d", json.name, json.p50, json.p99, json.cpuPerCall, jsonBytes));
+        log.info(String.format("%-16s %10.1f %10.1f %14.1f %10d", grpc.name, grpc.p50, grpc.p99, grpc.cpuPerCall, grpcBytes));
+    }
+
+    private static List<SeatDto> grpcCall() {
+        SeatList response = stub.getSeats(SeatsRequest.newBuilder()
+                .setEventId(1)
+                .addAllSeatIds(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L))
+                .build());
+        return response.getSeatsList().stream()
+                .map(seat -> SeatDto.builder()
+                        .id(seat.getId())
+                        .section(seat.getSection())
+                        .rowLabel(seat.getRowLabel())
+                        .seatNumber(seat.getSeatNumber())
+                        .price(ProtoConversions.fromProto(seat.getPrice()))
+                        .status(ProtoConversions.fromProto(seat.getStatus()))
+                        .build())
+                .toList();
+    }
+
+    private static List<SeatDto> jsonCall() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(jsonUri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        ApiResponse<List<SeatDto>> body = OBJECT_MAPPER.readValue(response.body(), new TypeReference<>() {
+        });
+        return body.getData();
+    }
+
+    private static Result measure(String name, Callable<List<SeatDto>> call) throws Exception {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.call();
+        }
+
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long[] latencies = new long[MEASURED_CALLS];
+        long cpuStart = os.getProcessCpuTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            long start = System.nanoTime();
+            call.call();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long cpu = os.getProcessCpuTime() - cpuStart;
+
+        Arrays.sort(latencies);
+        return new Result(
+                name,
+                latencies[MEASURED_CALLS / 2] / 1_000.0,
+                latencies[(int) (MEASURED_CALLS * 0.99)] / 1_000.0,
+                cpu / 1_000.0 / MEASURED_CALLS
+        );
+    }
+
+    private static List<SeatDto> seats() {
+        List<SeatDto> seats = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            seats.add(SeatDto.builder()
+                    .id((long) i)
+                    .section("Floor A")
+                    .rowLabel("R" + (i % 3))
+                    .seatNumber(i)
+                    .price(new BigDecimal("149.99"))
+                    .status(SeatStatus.AVAILABLE)
+                    .build());
+        }
+        return seats;
+    }
+
+    private record Result(String name, double p50, double p99, double cpuPerCall) {
+    }
+}
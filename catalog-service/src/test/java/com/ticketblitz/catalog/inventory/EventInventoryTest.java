@@ -0,0 +1,83 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.common.constant.SeatStatus;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+public class EventInventoryTest {
+
+    private final EventInventory inventory = new EventInventory(1L, List.of(
+            seat(1L, SeatStatus.AVAILABLE),
+            seat(2L, SeatStatus.AVAILABLE),
+            seat(3L, SeatStatus.BOOKED)
+    ));
+
+    @Test
+    void shouldLockBookAndReleaseLikeTheRowLockingPath() {
+        assertThat(inventory.apply(SeatOperation.LOCK, List.of(2L, 1L)))
+                .extracting(SeatDto::getId, SeatDto::getStatus)
+                .containsExactly(
+                        tuple(1L, SeatStatus.LOCKED),
+                        tuple(2L, SeatStatus.LOCKED));
+        assertThat(inventory.availableSeats()).isZero();
+
+        inventory.apply(SeatOperation.BOOK, List.of(1L));
+        inventory.apply(SeatOperation.RELEASE, List.of(2L));
+
+        assertThat(inventory.availableSeats()).isEqualTo(1);
+        assertThat(inventory.dirty()).isEqualTo(Map.of(1L, SeatStatus.BOOKED, 2L, SeatStatus.AVAILABLE));
+    }
+
+    @Test
+    void shouldRejectWholeOperationWhenOneSeatCannotTransition() {
+        assertThatThrownBy(() -> inventory.apply(SeatOperation.LOCK, List.of(1L, 3L)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> inventory.apply(SeatOperation.BOOK, List.of(1L)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> inventory.apply(SeatOperation.RELEASE, List.of(3L)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> inventory.apply(SeatOperation.LOCK, List.of(1L, 99L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(inventory.availableSeats()).isEqualTo(2);
+        assertThat(inventory.dirty()).isEmpty();
+    }
+
+    @Test
+    void shouldNotLeakInternalStateToCallers() {
+        SeatDto locked = inventory.apply(SeatOperation.LOCK, List.of(1L)).get(0);
+        locked.setStatus(SeatStatus.AVAILABLE);
+
+        assertThatThrownBy(() -> inventory.apply(SeatOperation.LOCK, List.of(1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReplayJournalEntries() {
+        inventory.replay(List.of(1L, 2L), SeatStatus.LOCKED);
+        inventory.replay(List.of(2L), SeatStatus.BOOKED);
+
+        assertThat(inventory.availableSeats()).isZero();
+        assertThat(inventory.dirty()).isEqualTo(Map.of(1L, SeatStatus.LOCKED, 2L, SeatStatus.BOOKED));
+    }
+
+    private static SeatDto seat(Long id, SeatStatus status) {
+        return SeatDto.builder()
+                .id(id)
+                .section("A")
+                .rowLabel("1")
+                .seatNumber(id.intValue())
+                .price(new BigDecimal("50.00"))
+                .status(status)
+                .build();
+    }
+}
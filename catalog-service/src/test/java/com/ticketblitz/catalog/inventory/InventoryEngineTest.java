@@ -0,0 +1,265 @@
+package com.ticketblitz.catalog.inventory;
+
+import com.ticketblitz.catalog.dto.SeatDto;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.constant.SeatStatus;
+import com.ticketblitz.common.exception.ResourceNotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The inventory engine against Postgres: concurrent callers, two owners of
+ * the same event racing on the journal, and recovery of journaled but not
+ * yet written-behind operations after a crash.
+ *
+ * Every engine here is a separate "instance" sharing one database. Tests use
+ * the seeded seats of event 1, each test its own seat range.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class InventoryEngineTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final long EVENT_ID = 1L;
+    private static final AtomicLong NEXT_SEAT = new AtomicLong(1);
+    // Longer than any test step, short enough for shutdown to wake the actor
+    private static final Duration NO_WRITE_BEHIND = Duration.ofSeconds(5);
+
+    private static HikariDataSource pool;
+    private static JdbcTemplate jdbcTemplate;
+    private static InventoryJournal journal;
+
+    private final List<InventoryEngine> engines = new ArrayList<>();
+
+    @BeforeAll
+    static void migrate() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(POSTGRES.getJdbcUrl());
+        pool.setUsername(POSTGRES.getUsername());
+        pool.setPassword(POSTGRES.getPassword());
+        pool.setMaximumPoolSize(10);
+        Flyway.configure().dataSource(pool).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(pool);
+        journal = new InventoryJournal(jdbcTemplate, new ProcessedSeatReleaseRepository(jdbcTemplate),
+                new DataSourceTransactionManager(pool));
+    }
+
+    @AfterAll
+    static void closePool() {
+        pool.close();
+    }
+
+    @AfterEach
+    void stopEngines() throws InterruptedException {
+        for (InventoryEngine engine : engines) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void shouldLockEverySeatOnceUnderConcurrentCallers() throws Exception {
+        InventoryEngine engine = engine(Duration.ofMillis(50));
+        List<Long> seats = seats(20);
+        Map<Long, Integer> lockedBy = new ConcurrentHashMap<>();
+
+        // 100 callers, each wants two neighbouring seats; overlapping requests must conflict
+        List<Future<?>> calls = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                int caller = i;
+                int first = i % (seats.size() - 1);
+                List<Long> pair = List.of(seats.get(first), seats.get(first + 1));
+                calls.add(callers.submit(() -> {
+                    try {
+                        engine.lockSeats(EVENT_ID, pair);
+                        pair.forEach(seat -> assertThat(lockedBy.putIfAbsent(seat, caller)).isNull());
+                    } catch (IllegalStateException ex) {
+                        // seat taken by another caller
+                    }
+                }));
+            }
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+        assertThat(lockedBy).isNotEmpty();
+
+        List<Long> locked = List.copyOf(lockedBy.keySet());
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            locked.forEach(seat -> callers.submit(() -> engine.releaseSeats(EVENT_ID, List.of(seat))));
+        }
+
+        engine.shutdown();
+        assertThat(statuses(seats)).containsOnly(SeatStatus.AVAILABLE.name());
+        assertThat(journalSize()).isZero();
+    }
+
+    @Test
+    void shouldReloadWhenAnotherOwnerAppendedFirst() {
+        InventoryEngine first = engine(NO_WRITE_BEHIND);
+        InventoryEngine second = engine(NO_WRITE_BEHIND);
+        List<Long> seats = seats(3);
+        long before = lastSequence();
+
+        first.lockSeats(EVENT_ID, List.of(seats.get(0)));
+        // second loads after first's append and moves the sequence past first's
+        second.lockSeats(EVENT_ID, List.of(seats.get(1)));
+
+        // first still believes seats[1] is available: its append is fenced, it
+        // reloads, re-applies and now sees the seat locked by second
+        assertThatThrownBy(() -> first.lockSeats(EVENT_ID, List.of(seats.get(1))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer available");
+        List<SeatDto> locked = first.lockSeats(EVENT_ID, List.of(seats.get(2)));
+        assertThat(locked).extracting(SeatDto::getStatus).containsOnly(SeatStatus.LOCKED);
+
+        assertThat(journalOperationsAfter(before)).containsExactly("LOCK", "LOCK", "LOCK");
+    }
+
+    @Test
+    void shouldReloadBeforeRejectingOnStaleState() {
+        InventoryEngine first = engine(NO_WRITE_BEHIND);
+        InventoryEngine second = engine(NO_WRITE_BEHIND);
+        List<Long> seats = seats(1);
+
+        first.lockSeats(EVENT_ID, seats);
+        second.releaseSeats(EVENT_ID, seats);
+
+        // first still holds the seat as LOCKED; nothing to append, so only the
+        // sequence check can tell it that the seat is free again
+        List<SeatDto> locked = first.lockSeats(EVENT_ID, seats);
+        assertThat(locked).extracting(SeatDto::getStatus).containsOnly(SeatStatus.LOCKED);
+    }
+
+    @Test
+    void shouldNotKeepAnActorForAnEventWithoutSeats() throws InterruptedException {
+        InventoryEngine engine = engine(NO_WRITE_BEHIND);
+
+        assertThatThrownBy(() -> engine.lockSeats(999_999L, List.of(1L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        Map<?, ?> actors = (Map<?, ?>) ReflectionTestUtils.getField(engine, "actors");
+        for (int i = 0; i < 100 && !actors.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(actors).isEmpty();
+    }
+
+    @Test
+    void shouldRejectAppendFromStaleSequence() {
+        InventoryEngine engine = engine(NO_WRITE_BEHIND);
+        List<Long> seats = seats(1);
+        engine.lockSeats(EVENT_ID, seats);
+        long lastSequence = lastSequence();
+
+        InventoryJournal.Entry entry = new InventoryJournal.Entry(
+                lastSequence, SeatOperation.RELEASE, seats, List.of());
+        assertThatThrownBy(() -> journal.append(EVENT_ID, lastSequence - 1, List.of(entry)))
+                .isInstanceOf(InventoryJournal.StaleInventoryException.class);
+        assertThat(lastSequence()).isEqualTo(lastSequence);
+    }
+
+    @Test
+    void shouldRecoverJournaledOperationsAfterCrash() throws InterruptedException {
+        InventoryEngine crashed = engine(NO_WRITE_BEHIND);
+        List<Long> seats = seats(2);
+        crashed.lockSeats(EVENT_ID, seats);
+
+        // Acknowledged but not written behind: only the journal knows
+        assertThat(statuses(seats)).containsOnly(SeatStatus.AVAILABLE.name());
+        assertThat(journalSize()).isPositive();
+
+        InventoryEngine restarted = engine(NO_WRITE_BEHIND);
+        assertThatThrownBy(() -> restarted.lockSeats(EVENT_ID, seats))
+                .isInstanceOf(IllegalStateException.class);
+        restarted.bookSeats(EVENT_ID, seats);
+
+        restarted.shutdown();
+        assertThat(statuses(seats)).containsOnly(SeatStatus.BOOKED.name());
+        assertThat(journalSize()).isZero();
+    }
+
+    @Test
+    void shouldReleaseClaimedSeatsOncePerBooking() throws InterruptedException {
+        InventoryEngine engine = engine(NO_WRITE_BEHIND);
+        List<Long> seats = seats(3);
+        engine.lockSeats(EVENT_ID, seats);
+        List<ProcessedSeatReleaseRepository.Claim> claims = List.of(
+                new ProcessedSeatReleaseRepository.Claim(9_001L, "EXPIRED", seats.subList(0, 2)),
+                new ProcessedSeatReleaseRepository.Claim(9_002L, "CANCELLED", seats.subList(2, 3)));
+
+        assertThat(engine.releaseClaimedSeats(EVENT_ID, claims)).hasSize(3);
+
+        // Seats locked again by someone else before the release is redelivered
+        engine.lockSeats(EVENT_ID, seats);
+        assertThat(engine.releaseClaimedSeats(EVENT_ID, claims)).isEmpty();
+
+        engine.shutdown();
+        assertThat(statuses(seats)).containsOnly(SeatStatus.LOCKED.name());
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT outcome FROM processed_seat_releases WHERE booking_id IN (9001, 9002)", String.class))
+                .containsExactly("RELEASED", "RELEASED");
+    }
+
+    private InventoryEngine engine(Duration flushInterval) {
+        InventoryEngine engine = new InventoryEngine(journal, event -> {
+        }, new SimpleMeterRegistry(), 1024, 64, flushInterval, Duration.ofHours(1), Duration.ofSeconds(10));
+        engines.add(engine);
+        return engine;
+    }
+
+    private static List<Long> seats(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM seats WHERE event_id = ? ORDER BY id OFFSET ? LIMIT ?",
+                Long.class, EVENT_ID, NEXT_SEAT.getAndAdd(count) - 1, count);
+    }
+
+    private static List<String> statuses(List<Long> seatIds) {
+        return seatIds.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT status FROM seats WHERE id = ?", String.class, id))
+                .toList();
+    }
+
+    private static long journalSize() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_journal WHERE event_id = ?", Long.class, EVENT_ID);
+    }
+
+    private static List<String> journalOperationsAfter(long sequence) {
+        return jdbcTemplate.queryForList(
+                "SELECT operation FROM inventory_journal WHERE event_id = ? AND sequence > ? ORDER BY sequence",
+                String.class, EVENT_ID, sequence);
+    }
+
+    private static long lastSequence() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(last_sequence), 0) FROM inventory_streams WHERE event_id = ?",
+                Long.class, EVENT_ID);
+    }
+}
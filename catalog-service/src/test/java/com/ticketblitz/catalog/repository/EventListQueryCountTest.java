@@ -0,0 +1,105 @@
+package com.ticketblitz.catalog.repository;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.entity.Event;
+import com.ticketblitz.catalog.repository.specification.EventSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the event list paths against the venue N+1: a page must be served by
+ * a single SELECT, with no Event entity hydrated along the way.
+ *
+ * Runs against the Flyway seed data (several concerts spread over different
+ * venues), so a lazy venue load would show up as extra statements.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class EventListQueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Before every seeded event date
+    private static final LocalDateTime SEED_EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void categoryPageIsOneQueryWithoutEntityLoads() {
+        Page<EventListDto> page = eventRepository.findByCategory(
+                Event.EventCategory.CONCERT, SEED_EPOCH, PageRequest.of(0, 20, Sort.by("eventDate")));
+
+        assertThat(page.getContent()).hasSizeGreaterThan(1);
+        assertThat(page.getContent()).allSatisfy(event -> assertThat(event.getVenueName()).isNotBlank());
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void specificationPageIsOneQueryWithoutEntityLoads() {
+        Page<EventListDto> page = eventRepository.findListPage(
+                EventSpecification.buildSpecification(
+                        Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, null, null, null, null, null),
+                PageRequest.of(0, 20, Sort.by("eventDate")));
+
+        assertThat(page.getContent()).hasSizeGreaterThan(1);
+        assertThat(page.getContent()).allSatisfy(event -> assertThat(event.getVenueCity()).isNotBlank());
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void cityFilterReusesTheProjectionJoin() {
+        Page<EventListDto> page = eventRepository.findListPage(
+                EventSpecification.inCity("London"), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).allSatisfy(event -> assertThat(event.getVenueCity()).isEqualTo("London"));
+        assertSingleStatementWithoutEntities();
+    }
+
+    /**
+     * The seed data fits on one page, so PageableExecutionUtils skips the
+     * COUNT and the content SELECT is the only statement
+     */
+    private void assertSingleStatementWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,148 @@
+package com.ticketblitz.catalog.search;
+
+import com.ticketblitz.catalog.dto.EventListDto;
+import com.ticketblitz.catalog.dto.EventSearchFilter;
+import com.ticketblitz.catalog.entity.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FacetIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final List<EventListDto> events = List.of(
+            event(1, "Past Concert", -1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston", 100),
+            event(2, "Rock Night", 1, Event.EventCategory.CONCERT, Event.EventStatus.ACTIVE, "Boston", 50),
+            event(3, "Jazz Evening", 2, Event.EventCategory.CONCERT, Event.EventStatus.SOLD_OUT, "Chicago", 0),
+            event(4, "Derby", 3, Event.EventCategory.SPORTS, Event.EventStatus.ACTIVE, "boston", 500),
+            event(5, "Hamlet", 4, Event.EventCategory.THEATER, Event.EventStatus.ACTIVE, "Chicago", 20)
+    );
+
+    private final FacetIndex index = FacetIndex.build(events);
+
+    @Test
+    void shouldFilterUpcomingEventsInDateOrder() {
+        FacetIndex.Result result = index.search(filter(null, null, null, null), PageRequest.of(0, 10), NOW);
+
+        assertThat(ids(result)).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(result.page().getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCountFacetsWithoutTheirOwnFilter() {
+        FacetIndex.Result result = index.search(
+                filter(Event.EventCategory.CONCERT, null, "BOSTON", null), PageRequest.of(0, 10), NOW);
+
+        assertThat(ids(result)).containsExactly(2L);
+        // category counts ignore category=CONCERT, city counts ignore city=BOSTON
+        assertThat(result.facets().get(FacetIndex.CATEGORY_FACET))
+                .containsExactly(entry("CONCERT", 1L), entry("SPORTS", 1L));
+        assertThat(result.facets().get(FacetIndex.CITY_FACET))
+                .containsExactly(entry("Boston", 1L), entry("Chicago", 1L))
+                .hasSize(2);
+        assertThat(result.facets().get(FacetIndex.STATUS_FACET)).containsExactly(entry("ACTIVE", 1L));
+    }
+
+    @Test
+    void shouldSortAndPageThroughPermutations() {
+        FacetIndex.Result byName = index.search(
+                filter(null, null, null, null), PageRequest.of(1, 2, Sort.by("name")), NOW);
+        assertThat(ids(byName)).containsExactly(3L, 2L);
+
+        FacetIndex.Result bySeats = index.search(
+                filter(null, null, null, null), PageRequest.of(0, 2, Sort.by("availableSeats").descending()), NOW);
+        assertThat(ids(bySeats)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void shouldPatchAvailabilityInPlace() {
+        EventListDto updated = event(2, "Rock Night", 1, Event.EventCategory.CONCERT,
+                Event.EventStatus.ACTIVE, "Boston", 5);
+        assertThat(index.updateAvailability(updated)).isTrue();
+
+        FacetIndex.Result result = index.search(filter(null, null, null, 10), PageRequest.of(0, 10), NOW);
+        assertThat(ids(result)).containsExactly(4L, 5L);
+
+        EventListDto soldOut = event(2, "Rock Night", 1, Event.EventCategory.CONCERT,
+                Event.EventStatus.SOLD_OUT, "Boston", 0);
+        assertThat(index.updateAvailability(soldOut)).isFalse();
+    }
+
+    @Test
+    void shouldOnlySupportQueriesOverUpcomingEvents() {
+        EventSearchFilter pastRange = new EventSearchFilter(
+                null, null, null, null, null, NOW.minusDays(1), NOW.plusDays(1));
+
+        assertThat(FacetIndex.supports(filter(null, null, null, null), Sort.by("price"), NOW)).isTrue();
+        assertThat(FacetIndex.supports(EventSearchFilter.forTerm("rock"), Sort.unsorted(), NOW)).isFalse();
+        assertThat(FacetIndex.supports(pastRange, Sort.unsorted(), NOW)).isFalse();
+        assertThat(FacetIndex.supports(filter(null, null, null, null), Sort.by("venue.name"), NOW)).isFalse();
+    }
+
+    @Test
+    void shouldMatchBruteForceOnRandomData() {
+        Random random = new Random(42);
+        Event.EventCategory[] categories = Event.EventCategory.values();
+        Event.EventStatus[] statuses = Event.EventStatus.values();
+        String[] cities = {"Boston", "Chicago", "Denver", "Austin"};
+
+        List<EventListDto> generated = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            generated.add(event(i, "Event " + random.nextInt(500), random.nextInt(400) - 50,
+                    categories[random.nextInt(categories.length)], statuses[random.nextInt(statuses.length)],
+                    cities[random.nextInt(cities.length)], random.nextInt(300)));
+        }
+        FacetIndex large = FacetIndex.build(generated);
+
+        for (int i = 0; i < 50; i++) {
+            Event.EventCategory category = random.nextBoolean() ? categories[random.nextInt(categories.length)] : null;
+            String city = random.nextBoolean() ? cities[random.nextInt(cities.length)] : null;
+            Integer minSeats = random.nextBoolean() ? random.nextInt(300) : null;
+            LocalDateTime start = NOW.plusDays(random.nextInt(100));
+            LocalDateTime end = start.plusDays(random.nextInt(200));
+            EventSearchFilter filter = new EventSearchFilter(null, category, null, city, minSeats, start, end);
+
+            List<Long> expected = generated.stream()
+                    .filter(e -> !e.getEventDate().isBefore(start) && !e.getEventDate().isAfter(end))
+                    .filter(e -> category == null || e.getCategory() == category)
+                    .filter(e -> city == null || e.getVenueCity().equalsIgnoreCase(city))
+                    .filter(e -> minSeats == null || e.getAvailableSeats() >= minSeats)
+                    .sorted(Comparator.comparing(EventListDto::getEventDate).thenComparing(EventListDto::getId))
+                    .map(EventListDto::getId)
+                    .toList();
+
+            FacetIndex.Result result = large.search(filter, PageRequest.of(0, 2000), NOW);
+            assertThat(ids(result)).isEqualTo(expected);
+        }
+    }
+
+    private static EventSearchFilter filter(
+            Event.EventCategory category, Event.EventStatus status, String city, Integer minSeats) {
+        return new EventSearchFilter(null, category, status, city, minSeats, null, null);
+    }
+
+    private static List<Long> ids(FacetIndex.Result result) {
+        return result.page().getContent().stream().map(EventListDto::getId).toList();
+    }
+
+    private static java.util.Map.Entry<String, Long> entry(String key, Long value) {
+        return java.util.Map.entry(key, value);
+    }
+
+    private static EventListDto event(
+            long id, String name, int daysFromNow, Event.EventCategory category,
+            Event.EventStatus status, String city, int seats) {
+        return new EventListDto(id, name, NOW.plusDays(daysFromNow), category, seats,
+                BigDecimal.valueOf(10 + id), status, null, "Venue " + id, city);
+    }
+}
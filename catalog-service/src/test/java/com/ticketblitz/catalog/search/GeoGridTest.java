@@ -0,0 +1,84 @@
+package com.ticketblitz.catalog.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class GeoGridTest {
+
+    private final GeoGrid<String> grid = GeoGrid.build(List.of(
+            new GeoGrid.Entry<>(40.750504, -73.993439, "msg"),
+            new GeoGrid.Entry<>(40.829643, -73.926175, "yankee"),
+            new GeoGrid.Entry<>(40.722668, -74.174074, "newark"),
+            new GeoGrid.Entry<>(51.556021, -0.279519, "wembley")
+    ));
+
+    @Test
+    void shouldEncodeStandardGeohashes() {
+        assertThat(GeoGrid.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoGrid.encode(40.750504, -73.993439, 12)).isEqualTo("dr5ru4rsgusb");
+    }
+
+    @Test
+    void shouldReturnPointsWithinRadiusClosestFirst() {
+        List<GeoGrid.Hit<String>> hits = grid.within(40.7580, -73.9855, 20, 10);
+
+        assertThat(hits).extracting(GeoGrid.Hit::payload).containsExactly("msg", "yankee", "newark");
+        assertThat(hits.get(0).distanceKm()).isCloseTo(1.07, within(0.05));
+
+        assertThat(grid.within(40.7580, -73.9855, 5, 10)).extracting(GeoGrid.Hit::payload)
+                .containsExactly("msg");
+        assertThat(grid.within(40.7580, -73.9855, 20, 1)).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectInvalidCoordinates() {
+        assertThatThrownBy(() -> grid.within(91, 0, 10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grid.within(0, -181, 10, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMatchBruteForceEverywhere() {
+        Random random = new Random(7);
+        List<GeoGrid.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            // Dense around a few anchors, including the antimeridian and far north
+            double[] anchor = switch (i % 4) {
+                case 0 -> new double[]{40.7, -74.0};
+                case 1 -> new double[]{-17.7, 179.9};
+                case 2 -> new double[]{78.2, 15.6};
+                default -> new double[]{random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180};
+            };
+            double lat = Math.max(-90, Math.min(90, anchor[0] + random.nextGaussian() * 2));
+            double lon = ((anchor[1] + random.nextGaussian() * 3 + 540) % 360) - 180;
+            entries.add(new GeoGrid.Entry<>(lat, lon, i));
+        }
+        GeoGrid<Integer> large = GeoGrid.build(entries);
+
+        double[][] queries = {{40.7, -74.0}, {-17.7, 179.99}, {-17.7, -179.99}, {78.2, 15.6}, {0, 0}, {89.9, 0}};
+        double[] radii = {0.5, 5, 25, 100, 500};
+        for (double[] query : queries) {
+            for (double radius : radii) {
+                List<Integer> expected = entries.stream()
+                        .filter(e -> GeoGrid.distanceKm(query[0], query[1], e.latitude(), e.longitude()) <= radius)
+                        .sorted(Comparator.comparingDouble(
+                                e -> GeoGrid.distanceKm(query[0], query[1], e.latitude(), e.longitude())))
+                        .map(GeoGrid.Entry::payload)
+                        .toList();
+
+                List<Integer> actual = large.within(query[0], query[1], radius, Integer.MAX_VALUE).stream()
+                        .map(GeoGrid.Hit::payload)
+                        .toList();
+
+                assertThat(actual).as("(%s, %s) r=%s", query[0], query[1], radius).isEqualTo(expected);
+            }
+        }
+    }
+}
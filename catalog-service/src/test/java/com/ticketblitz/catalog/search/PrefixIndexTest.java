@@ -0,0 +1,145 @@
+package com.ticketblitz.catalog.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrefixIndexTest {
+
+    private final PrefixIndex<String> index = PrefixIndex.build(List.of(
+            new PrefixIndex.Entry<>("Taylor Swift - The Eras Tour", 0.9, "eras"),
+            new PrefixIndex.Entry<>("Tame Impala Live", 0.5, "tame"),
+            new PrefixIndex.Entry<>("Théâtre du Châtelet", 0.4, "chatelet"),
+            new PrefixIndex.Entry<>("Coldplay World Tour", 0.7, "coldplay")
+    ), 10, 8);
+
+    @Test
+    void shouldReturnMatchesByScore() {
+        assertThat(index.lookup("ta", 10)).containsExactly("eras", "tame");
+        assertThat(index.lookup("tour", 10)).containsExactly("eras", "coldplay");
+        assertThat(index.lookup("ta", 1)).containsExactly("eras");
+    }
+
+    @Test
+    void shouldMatchAnyWordStartButNotMidWord() {
+        assertThat(index.lookup("swi", 10)).containsExactly("eras");
+        assertThat(index.lookup("eras t", 10)).containsExactly("eras");
+        assertThat(index.lookup("wift", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreCaseAccentsAndPunctuation() {
+        assertThat(index.lookup("THEATRE", 10)).containsExactly("chatelet");
+        assertThat(index.lookup("chât", 10)).containsExactly("chatelet");
+        assertThat(index.lookup("swift the", 10)).containsExactly("eras");
+    }
+
+    @Test
+    void shouldFilterQueriesLongerThanIndexedDepth() {
+        assertThat(index.lookup("taylor swift the eras", 10)).containsExactly("eras");
+        assertThat(index.lookup("taylor swift the wrong", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnOnlyTheTopKMatches() {
+        List<PrefixIndex.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new PrefixIndex.Entry<>("Concert " + i, i, i));
+        }
+
+        PrefixIndex<Integer> concerts = PrefixIndex.build(entries, 3, 24);
+
+        assertThat(concerts.lookup("conc", 10)).containsExactly(99, 98, 97);
+        assertThat(concerts.lookup("concert 5", 10)).containsExactly(59, 58, 57);
+    }
+
+    @Test
+    void shouldServeHeavyPrefixesFromPrecomputedTopK() {
+        PrefixIndex<Integer> concerts = PrefixIndex.build(concerts(1000), 3, 8);
+
+        // "c" and "concert" match more than SCAN_LIMIT keys: precomputed
+        assertThat(concerts.lookup("c", 10)).containsExactly(999, 998, 997);
+        assertThat(concerts.lookup("concert", 10)).containsExactly(999, 998, 997);
+        // Longer than maxDepth but still heavy: scanned
+        assertThat(concerts.lookup("concert n", 10)).containsExactly(999, 998, 997);
+        // Light range below a heavy one: scanned
+        assertThat(concerts.lookup("concert no 12", 10)).containsExactly(129, 128, 127);
+    }
+
+    @Test
+    void shouldUpdateLikeAFullBuild() {
+        List<PrefixIndex.Entry<Integer>> entries = concerts(1000);
+        PrefixIndex<Integer> concerts = PrefixIndex.build(entries, 3, 8);
+
+        List<PrefixIndex.Entry<Integer>> added = List.of(
+                new PrefixIndex.Entry<>("Concert No 5000", 5000, 5000),
+                new PrefixIndex.Entry<>("Opera Night", 500.5, -1));
+        PrefixIndex<Integer> updated = concerts.update(entry -> entry.payload() >= 998, added);
+
+        List<PrefixIndex.Entry<Integer>> expected = new ArrayList<>(entries.subList(0, 998));
+        expected.addAll(added);
+        PrefixIndex<Integer> rebuilt = PrefixIndex.build(expected, 3, 8);
+
+        for (String prefix : List.of("c", "co", "concert", "concert n", "concert no 9", "concert no 5", "o", "op")) {
+            assertThat(updated.lookup(prefix, 10)).as(prefix).isEqualTo(rebuilt.lookup(prefix, 10));
+        }
+        assertThat(updated.lookup("c", 10)).containsExactly(5000, 997, 996);
+        assertThat(updated.lookup("o", 10)).containsExactly(-1);
+        assertThat(updated.size()).isEqualTo(1000);
+        // The old index is untouched
+        assertThat(concerts.lookup("c", 10)).containsExactly(999, 998, 997);
+    }
+
+    @Test
+    void shouldMatchAFullBuildAfterRandomUpdates() {
+        Random random = new Random(31);
+        String[] words = {"the", "tour", "live", "taylor", "tame", "theatre", "night", "concert"};
+        List<PrefixIndex.Entry<Integer>> entries = new ArrayList<>();
+        PrefixIndex<Integer> index = PrefixIndex.build(List.of(), 5, 6);
+
+        for (int round = 0; round < 20; round++) {
+            Set<Integer> removed = new HashSet<>();
+            entries.forEach(entry -> {
+                if (random.nextInt(10) == 0) {
+                    removed.add(entry.payload());
+                }
+            });
+            List<PrefixIndex.Entry<Integer>> added = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int id = round * 1000 + i;
+                String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + id;
+                added.add(new PrefixIndex.Entry<>(text, random.nextDouble(), id));
+            }
+
+            index = index.update(entry -> removed.contains(entry.payload()), added);
+            entries.removeIf(entry -> removed.contains(entry.payload()));
+            entries.addAll(added);
+        }
+
+        PrefixIndex<Integer> rebuilt = PrefixIndex.build(entries, 5, 6);
+        for (String prefix : List.of("t", "th", "the", "ta", "tour", "live n", "night the", "c", "concert t", "1")) {
+            assertThat(index.lookup(prefix, 5)).as(prefix).isEqualTo(rebuilt.lookup(prefix, 5));
+        }
+        assertThat(index.size()).isEqualTo(entries.size());
+    }
+
+    @Test
+    void shouldReturnNothingForBlankQuery() {
+        assertThat(index.lookup("  ", 10)).isEmpty();
+        assertThat(PrefixIndex.<String>empty().lookup("ta", 10)).isEmpty();
+    }
+
+    private static List<PrefixIndex.Entry<Integer>> concerts(int count) {
+        List<PrefixIndex.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(new PrefixIndex.Entry<>("Concert No " + i, i, i));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,173 @@
+package com.ticketblitz.catalog.service;
+
+import com.ticketblitz.catalog.cache.ResponseBodyCache;
+import com.ticketblitz.catalog.mapper.SeatMapperImpl;
+import com.ticketblitz.catalog.repository.ProcessedSeatReleaseRepository;
+import com.ticketblitz.common.event.SeatsReleasedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batched seat releases on the row-locking path, with the pool configured
+ * like production (reWriteBatchedInserts=true): several bookings of the same
+ * event released in one batch must all give their seats back, exactly once.
+ *
+ * Runs against the Flyway seed data (event 1 has seats); every test uses its
+ * own seats and booking IDs, nothing is rolled back between tests.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SeatService.class, SeatReleaseService.class, ProcessedSeatReleaseRepository.class, SeatMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class SeatReleaseBatchTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final long EVENT_ID = 1L;
+    private static final AtomicLong NEXT_SEAT_OFFSET = new AtomicLong();
+    private static final AtomicLong NEXT_BOOKING_ID = new AtomicLong(1000);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @TestConfiguration
+    static class NoCaching {
+
+        @Bean
+        @Primary
+        CacheManager caffeineCacheManager() {
+            return new NoOpCacheManager();
+        }
+
+        @Bean
+        CacheManager redisCacheManager() {
+            return new NoOpCacheManager();
+        }
+    }
+
+    @MockBean
+    private ResponseBodyCache responseBodyCache;
+
+    @MockBean
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatReleaseService seatReleaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldReleaseEveryBookingOfTheSameEventInOneBatch() {
+        List<Long> first = lockedSeats(2);
+        List<Long> second = lockedSeats(3);
+        long firstBooking = NEXT_BOOKING_ID.incrementAndGet();
+        long secondBooking = NEXT_BOOKING_ID.incrementAndGet();
+
+        seatReleaseService.release(List.of(
+                release(firstBooking, first, SeatsReleasedEvent.Reason.EXPIRED),
+                release(secondBooking, second, SeatsReleasedEvent.Reason.CANCELLED)));
+
+        assertThat(statuses(first)).containsOnly("AVAILABLE");
+        assertThat(statuses(second)).containsOnly("AVAILABLE");
+        assertThat(outcome(firstBooking)).isEqualTo("RELEASED");
+        assertThat(outcome(secondBooking)).isEqualTo("RELEASED");
+    }
+
+    @Test
+    void shouldNotReleaseSeatsTwiceOnRedelivery() {
+        List<Long> seats = lockedSeats(2);
+        List<Long> otherSeats = lockedSeats(1);
+        long booking = NEXT_BOOKING_ID.incrementAndGet();
+        SeatsReleasedEvent expired = release(booking, seats, SeatsReleasedEvent.Reason.EXPIRED);
+        seatReleaseService.release(List.of(expired));
+
+        // Another booking locks the seats before the same message comes back
+        seatService.lockSeats(EVENT_ID, seats);
+        seatReleaseService.release(List.of(
+                expired,
+                release(NEXT_BOOKING_ID.incrementAndGet(), otherSeats, SeatsReleasedEvent.Reason.PAYMENT_FAILED)));
+
+        assertThat(statuses(seats)).containsOnly("LOCKED");
+        assertThat(statuses(otherSeats)).containsOnly("AVAILABLE");
+    }
+
+    @Test
+    void shouldRejectOnlyTheBookingWhoseSeatsAreBooked() {
+        List<Long> booked = lockedSeats(1);
+        seatService.bookSeats(EVENT_ID, booked);
+        List<Long> locked = lockedSeats(2);
+        long rejectedBooking = NEXT_BOOKING_ID.incrementAndGet();
+        long releasedBooking = NEXT_BOOKING_ID.incrementAndGet();
+
+        seatReleaseService.release(List.of(
+                release(rejectedBooking, booked, SeatsReleasedEvent.Reason.CANCELLED),
+                release(releasedBooking, locked, SeatsReleasedEvent.Reason.CANCELLED)));
+
+        assertThat(statuses(booked)).containsOnly("BOOKED");
+        assertThat(statuses(locked)).containsOnly("AVAILABLE");
+        assertThat(outcome(rejectedBooking)).isEqualTo("REJECTED");
+        assertThat(outcome(releasedBooking)).isEqualTo("RELEASED");
+    }
+
+    private List<Long> lockedSeats(int count) {
+        List<Long> seatIds = jdbcTemplate.queryForList(
+                "SELECT id FROM seats WHERE event_id = ? ORDER BY id OFFSET ? LIMIT ?",
+                Long.class, EVENT_ID, NEXT_SEAT_OFFSET.getAndAdd(count), count);
+        seatService.lockSeats(EVENT_ID, seatIds);
+        return seatIds;
+    }
+
+    private List<String> statuses(List<Long> seatIds) {
+        return seatIds.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT status FROM seats WHERE id = ?", String.class, id))
+                .toList();
+    }
+
+    private String outcome(long bookingId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT outcome FROM processed_seat_releases WHERE booking_id = ?", bookingId);
+        return rows.isEmpty() ? null : (String) rows.get(0).get("outcome");
+    }
+
+    private static SeatsReleasedEvent release(long bookingId, List<Long> seatIds, SeatsReleasedEvent.Reason reason) {
+        return SeatsReleasedEvent.builder()
+                .bookingId(bookingId)
+                .eventId(EVENT_ID)
+                .seatIds(seatIds)
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticketblitz.common.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read Replica Routing DataSource
+ *
+ * ROUTING:
+ * ========
+ * @Transactional(readOnly = true) -> replica (while the lag monitor allows it)
+ * everything else                 -> primary
+ *
+ * WHY THE LAZY PROXY:
+ * ===================
+ * The transaction manager fetches a connection in doBegin(), before it marks
+ * the transaction read-only. {@link #create} wraps the router in a
+ * {@link LazyConnectionDataSourceProxy}, so the physical connection (and the
+ * routing decision) is deferred to the first statement, when the flag is set.
+ *
+ * Reads that must see a write that just committed (booking-time seat checks,
+ * read-your-writes after a create) should use a read-write transaction.
+ *
+ * @author Akhil
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static DataSource create(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replica, lagMonitor));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
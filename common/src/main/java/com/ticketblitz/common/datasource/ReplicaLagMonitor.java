@@ -0,0 +1,122 @@
+package com.ticketblitz.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica Lag Monitor
+ *
+ * Polls the replica for how far it is behind the primary and tells
+ * {@link ReadReplicaRoutingDataSource} whether reads may go there.
+ *
+ * LAG:
+ * ====
+ * - Not in recovery (a standalone database)  -> 0
+ * - Everything received has been replayed     -> 0 (an idle primary is not lag)
+ * - Otherwise                                 -> now() - last replayed commit
+ *
+ * The replica is taken out of rotation when the lag exceeds maxLag or the
+ * check fails, and put back on the next good check.
+ *
+ * @author Akhil
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Checks once synchronously (so startup routing is decided), then on the interval
+     */
+    public void start() {
+        check();
+        scheduler.scheduleWithFixedDelay(
+                this::check, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void check() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            usable = lagSeconds * 1000 <= maxLag.toMillis();
+            if (!usable && replicaUsable) {
+                log.warn("Replica lag {}s exceeds {}ms, routing reads to primary", lagSeconds, maxLag.toMillis());
+            }
+        } catch (SQLException | RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica check failed, routing reads to primary: {}", ex.getMessage());
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica in rotation (lag {}s)", lagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public void bindTo(MeterRegistry registry, String poolName) {
+        Gauge.builder("db.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("Replica replay lag behind the primary")
+                .baseUnit("seconds")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("db.replica.in.rotation", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .tag("pool", poolName)
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketblitz.common.event;
+
+/**
+ * Redis pub/sub channels catalog-service publishes on for other services.
+ *
+ * EVENT_CHANGED: body is the event id; published when an event's name, date,
+ * status or venue changes, so near-caches of that event can drop it.
+ *
+ * @author Akhil
+ */
+public final class CatalogChannels {
+
+    public static final String EVENT_CHANGED = "catalog:events:changed";
+
+    private CatalogChannels() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.ticketblitz.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event published by booking-service when a booking ends without payment
+ * and its seats go back to inventory. Consumed by catalog-service, which
+ * releases the seats (batched, at most once per booking).
+ *
+ * Routing key by reason: booking.cancelled, booking.expired, payment.failed
+ *
+ * @author Akhil
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatsReleasedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        CANCELLED("booking.cancelled"),
+        EXPIRED("booking.expired"),
+        PAYMENT_FAILED("payment.failed");
+
+        private final String routingKey;
+
+        Reason(String routingKey) {
+            this.routingKey = routingKey;
+        }
+
+        public String routingKey() {
+            return routingKey;
+        }
+    }
+
+    private Long bookingId;
+    private Long eventId;
+    private List<Long> seatIds;
+    private Reason reason;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,67 @@
+package com.ticketblitz.common.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.ticketblitz.common.constant.SeatStatus;
+import com.ticketblitz.common.grpc.catalog.Decimal;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversions between the catalog_internal.proto messages and Java types,
+ * shared by the catalog server and the booking client so both ends agree.
+ *
+ * - BigDecimal    <-> Decimal (unscaled long + scale, exact)
+ * - LocalDateTime <-> Timestamp (the local time read as UTC, like the JSON)
+ * - null String   <-> "" (proto3 strings have no null)
+ *
+ * @author Akhil
+ */
+public final class ProtoConversions {
+
+    private ProtoConversions() {
+    }
+
+    public static Decimal toProto(BigDecimal value) {
+        return Decimal.newBuilder()
+                .setUnscaled(value.unscaledValue().longValueExact())
+                .setScale(value.scale())
+                .build();
+    }
+
+    public static BigDecimal fromProto(Decimal value) {
+        return BigDecimal.valueOf(value.getUnscaled(), value.getScale());
+    }
+
+    public static Timestamp toProto(LocalDateTime value) {
+        return Timestamp.newBuilder()
+                .setSeconds(value.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(value.getNano())
+                .build();
+    }
+
+    public static LocalDateTime fromProto(Timestamp value) {
+        return LocalDateTime.ofEpochSecond(value.getSeconds(), value.getNanos(), ZoneOffset.UTC);
+    }
+
+    public static com.ticketblitz.common.grpc.catalog.SeatStatus toProto(SeatStatus status) {
+        return com.ticketblitz.common.grpc.catalog.SeatStatus.valueOf(status.name());
+    }
+
+    public static SeatStatus fromProto(com.ticketblitz.common.grpc.catalog.SeatStatus status) {
+        if (status == com.ticketblitz.common.grpc.catalog.SeatStatus.SEAT_STATUS_UNSPECIFIED
+                || status == com.ticketblitz.common.grpc.catalog.SeatStatus.UNRECOGNIZED) {
+            throw new IllegalArgumentException("Unknown seat status: " + status);
+        }
+        return SeatStatus.valueOf(status.name());
+    }
+
+    public static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
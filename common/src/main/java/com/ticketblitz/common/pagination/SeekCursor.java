@@ -0,0 +1,79 @@
+package com.ticketblitz.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset (seek) pagination position: the sort timestamp and id of the last
+ * row a client has already seen.
+ *
+ * WHY:
+ * ====
+ * OFFSET n makes the database walk and discard n rows, and Page needs an
+ * extra COUNT(*). Seeking on (timestamp, id) reads exactly one page from the
+ * index, no matter how deep the client has scrolled. The id breaks ties
+ * between rows sharing a timestamp.
+ *
+ * TOKEN FORMAT:
+ * =============
+ * base64url("{iso-timestamp}|{id}") - opaque to clients, stable across
+ * releases as long as the sort key does not change.
+ *
+ * @author Akhil
+ */
+public record SeekCursor(LocalDateTime timestamp, long id) {
+
+    /**
+     * Lower bound for ascending scans (first page)
+     */
+    public static final SeekCursor MIN = new SeekCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    /**
+     * Upper bound for descending scans (first page)
+     */
+    public static final SeekCursor MAX = new SeekCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    public SeekCursor {
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Cursor timestamp is required");
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token continuation token, or null/blank for the first page
+     * @param start position to use when no token is given (MIN or MAX)
+     */
+    public static SeekCursor decodeOrDefault(String token, SeekCursor start) {
+        if (token == null || token.isBlank()) {
+            return start;
+        }
+        return decode(token);
+    }
+
+    public static SeekCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            return new SeekCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ticketblitz.common.ticket;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * What a ticket's QR code proves: this ticket number admits to this seat of
+ * this event until expiresAt. Signed and verified by TicketTokenCodec.
+ *
+ * expiresAt has second precision (that is all the token carries).
+ *
+ * @author Akhil
+ */
+public record TicketToken(UUID ticketNumber, long eventId, long seatId, Instant expiresAt) {
+
+    public TicketToken {
+        if (ticketNumber == null) {
+            throw new IllegalArgumentException("Ticket number is required");
+        }
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiry is required");
+        }
+        expiresAt = expiresAt.truncatedTo(ChronoUnit.SECONDS);
+    }
+}
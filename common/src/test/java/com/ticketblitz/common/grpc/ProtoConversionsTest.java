@@ -0,0 +1,40 @@
+package com.ticketblitz.common.grpc;
+
+import com.ticketblitz.common.constant.SeatStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProtoConversionsTest {
+
+    @Test
+    void shouldRoundTripDecimalsExactly() {
+        for (String price : new String[]{"149.99", "0.10", "1000", "-12.345", "0"}) {
+            BigDecimal value = new BigDecimal(price);
+            BigDecimal roundTripped = ProtoConversions.fromProto(ProtoConversions.toProto(value));
+            assertThat(roundTripped).isEqualTo(value);
+            assertThat(roundTripped.scale()).isEqualTo(value.scale());
+        }
+    }
+
+    @Test
+    void shouldRoundTripLocalDateTimes() {
+        LocalDateTime eventDate = LocalDateTime.of(2026, 11, 20, 19, 30, 15, 123_456_000);
+
+        assertThat(ProtoConversions.fromProto(ProtoConversions.toProto(eventDate))).isEqualTo(eventDate);
+    }
+
+    @Test
+    void shouldMapSeatStatusesOneToOne() {
+        for (SeatStatus status : SeatStatus.values()) {
+            assertThat(ProtoConversions.fromProto(ProtoConversions.toProto(status))).isEqualTo(status);
+        }
+        assertThatThrownBy(() -> ProtoConversions.fromProto(
+                com.ticketblitz.common.grpc.catalog.SeatStatus.SEAT_STATUS_UNSPECIFIED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ticketblitz.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SeekCursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2026, 5, 1, 19, 30, 15, 123_000_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(SeekCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldFallBackToStartPositionWithoutToken() {
+        assertThat(SeekCursor.decodeOrDefault(null, SeekCursor.MIN)).isEqualTo(SeekCursor.MIN);
+        assertThat(SeekCursor.decodeOrDefault(" ", SeekCursor.MAX)).isEqualTo(SeekCursor.MAX);
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        assertThatThrownBy(() -> SeekCursor.decode("bm90LWEtY3Vyc29y"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeekCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ticketblitz.common.ticket;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TicketTokenCodecTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant EXPIRY = Instant.parse("2026-06-01T23:00:00Z");
+
+    private final TicketTokenCodec codec = new TicketTokenCodec(KEY);
+    private final TicketToken ticket = new TicketToken(UUID.randomUUID(), 42L, 1234L, EXPIRY);
+
+    @Test
+    void shouldVerifyOwnTokenOffline() {
+        String token = codec.sign(ticket);
+
+        TicketTokenCodec.Verification verification = codec.verify(token, EXPIRY.minus(Duration.ofHours(3)));
+
+        assertThat(token).hasSize(71).doesNotContain("=", "+", "/");
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.token()).isEqualTo(ticket);
+    }
+
+    @Test
+    void shouldReportExpiredTokenWithItsClaims() {
+        TicketTokenCodec.Verification verification = codec.verify(codec.sign(ticket), EXPIRY.plusSeconds(1));
+
+        assertThat(verification.status()).isEqualTo(TicketTokenCodec.Status.EXPIRED);
+        assertThat(verification.token()).isEqualTo(ticket);
+    }
+
+    @Test
+    void shouldRejectTamperedTokenAndForeignKey() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.sign(ticket));
+        bytes[20] ^= 1; // event ID
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        TicketTokenCodec foreign = new TicketTokenCodec("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(codec.verify(tampered, EXPIRY).status()).isEqualTo(TicketTokenCodec.Status.BAD_SIGNATURE);
+        assertThat(codec.verify(foreign.sign(ticket), EXPIRY).status()).isEqualTo(TicketTokenCodec.Status.BAD_SIGNATURE);
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        assertThat(codec.verify(null, EXPIRY).status()).isEqualTo(TicketTokenCodec.Status.MALFORMED);
+        assertThat(codec.verify("%%%", EXPIRY).status()).isEqualTo(TicketTokenCodec.Status.MALFORMED);
+        assertThat(codec.verify("{\"ticket\":\"x\"}", EXPIRY).status()).isEqualTo(TicketTokenCodec.Status.MALFORMED);
+    }
+
+    @Test
+    void shouldSignAndVerifyFromManyVirtualThreads() throws Exception {
+        String shared = codec.sign(ticket);
+        Instant now = EXPIRY.minus(Duration.ofHours(3));
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                long seatId = i;
+                results.add(threads.submit(() -> {
+                    TicketToken own = new TicketToken(UUID.randomUUID(), 42L, seatId, EXPIRY);
+                    TicketTokenCodec.Verification verification = codec.verify(codec.sign(own), now);
+                    return verification.isValid()
+                            && verification.token().equals(own)
+                            && codec.verify(shared, now).token().equals(ticket)
+                            && codec.verify(shared.substring(1) + "A", now).status() != TicketTokenCodec.Status.VALID;
+                }));
+            }
+        }
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldRequireStrongKey() {
+        assertThatThrownBy(() -> new TicketTokenCodec("short".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
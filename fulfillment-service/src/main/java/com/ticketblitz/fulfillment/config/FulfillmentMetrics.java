@@ -63,6 +63,10 @@ public class FulfillmentMetrics {
         duplicateEventsSkipped.increment();
     }
 
+    public void incrementDuplicatesSkipped(int count) {
+        duplicateEventsSkipped.increment(count);
+    }
+
     public Timer.Sample startGenerationTimer() {
         return Timer.start(registry);
     }
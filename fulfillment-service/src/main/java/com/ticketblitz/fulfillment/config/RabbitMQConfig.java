@@ -1,11 +1,17 @@
 package com.ticketblitz.fulfillment.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * RabbitMQ Configuration — Fulfillment Service (Consumer Side)
  *
@@ -17,6 +23,12 @@ import org.springframework.context.annotation.Configuration;
  * - Failed messages after max retries → Dead Letter Queue
  * - 3 concurrent consumers (configurable via application.yml)
  *
+ * BATCHED CONSUMER:
+ * =================
+ * The confirmed listener gets up to batch-size messages at once (or whatever
+ * arrived within receive-timeout) and acks them together, so a sell-out
+ * backlog is drained with one ticket transaction per batch.
+ *
  * WHY DECLARE ON BOTH SIDES:
  * ==========================
  * Both publisher and consumer declare the topology. RabbitMQ
@@ -115,6 +127,24 @@ public class RabbitMQConfig {
                 .with(BOOKING_DLQ_ROUTING_KEY);
     }
 
+    @Bean
+    public SimpleRabbitListenerContainerFactory bookingConfirmedContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${fulfillment.ticket-generation.batch-size:50}") int batchSize,
+            @Value("${fulfillment.ticket-generation.receive-timeout:200ms}") Duration receiveTimeout) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
         return new Jackson2JsonMessageConverter(objectMapper);
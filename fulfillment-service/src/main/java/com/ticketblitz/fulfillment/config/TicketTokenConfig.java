@@ -0,0 +1,23 @@
+package com.ticketblitz.fulfillment.config;
+
+import com.ticketblitz.common.ticket.TicketTokenCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * QR code token signing — the same key is provisioned on gate scanners,
+ * which verify tickets offline with TicketTokenCodec.
+ *
+ * @author Akhil
+ */
+@Configuration
+public class TicketTokenConfig {
+
+    @Bean
+    public TicketTokenCodec ticketTokenCodec(@Value("${fulfillment.ticket-token.secret}") String secret) {
+        return new TicketTokenCodec(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,12 +1,16 @@
 package com.ticketblitz.fulfillment.controller;
 
 import com.ticketblitz.common.dto.ApiResponse;
+import com.ticketblitz.common.dto.CursorPage;
 import com.ticketblitz.fulfillment.dto.TicketDto;
+import com.ticketblitz.fulfillment.dto.TicketVerificationRequest;
+import com.ticketblitz.fulfillment.dto.TicketVerificationResponse;
 import com.ticketblitz.fulfillment.service.TicketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,13 +28,16 @@ import java.util.List;
  * ENDPOINTS:
  * ==========
  * GET /api/v1/tickets                     → User's tickets (paginated)
+ * GET /api/v1/tickets/scroll              → User's tickets (cursor, no totals)
  * GET /api/v1/tickets/booking/{bookingId} → Tickets for a booking
  * GET /api/v1/tickets/{ticketNumber}      → Single ticket by number
+ * POST /api/v1/tickets/verify             → Verify a scanned QR token
  *
  * AUTH:
  * =====
  * All endpoints require authenticated user (X-User-Id from API Gateway).
- * Users can only access their own tickets.
+ * Users can only access their own tickets. Verification is not tied to the
+ * ticket owner — it is called by gate scanners.
  *
  * @author Akhil
  */
@@ -70,6 +77,28 @@ public class TicketController {
         return ResponseEntity.ok(ApiResponse.success(tickets));
     }
 
+    /**
+     * Get tickets for the current user with keyset pagination.
+     *
+     * GET /api/v1/tickets/scroll?size=20&cursor=...
+     */
+    @Operation(summary = "Scroll user's tickets", description = "Cursor-paginated tickets without totals")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TicketDto>>> scrollUserTickets(
+            @Parameter(description = "User ID from JWT", hidden = true)
+            @RequestHeader("X-User-Id") String userId,
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("GET /api/v1/tickets/scroll - User: {}", userId);
+
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CursorPage<TicketDto> tickets = ticketService.scrollUserTickets(userId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(tickets));
+    }
+
     /**
      * Get all tickets for a specific booking.
      *
@@ -119,4 +148,19 @@ public class TicketController {
 
         return ResponseEntity.ok(ApiResponse.success(ticket));
     }
+
+    /**
+     * Verify a scanned QR code token offline (signature + expiry, no DB).
+     *
+     * POST /api/v1/tickets/verify
+     */
+    @Operation(summary = "Verify ticket QR code", description = "Check a scanned QR token's signature and expiry")
+    @PostMapping("/verify")
+    public ResponseEntity<ApiResponse<TicketVerificationResponse>> verifyTicket(
+            @Valid @RequestBody TicketVerificationRequest request) {
+
+        TicketVerificationResponse verification = ticketService.verifyTicket(request.getToken());
+
+        return ResponseEntity.ok(ApiResponse.success(verification));
+    }
 }
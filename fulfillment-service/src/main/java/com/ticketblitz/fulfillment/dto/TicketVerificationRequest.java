@@ -0,0 +1,18 @@
+package com.ticketblitz.fulfillment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ticket verification request — the scanned QR code content.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketVerificationRequest {
+
+    @NotBlank(message = "Token is required")
+    private String token;
+}
@@ -0,0 +1,29 @@
+package com.ticketblitz.fulfillment.dto;
+
+import com.ticketblitz.common.ticket.TicketTokenCodec;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ticket verification result. Claims are null for MALFORMED and
+ * BAD_SIGNATURE tokens.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketVerificationResponse {
+
+    private boolean valid;
+    private TicketTokenCodec.Status status;
+
+    private UUID ticketNumber;
+    private Long eventId;
+    private Long seatId;
+    private Instant expiresAt;
+}
@@ -7,6 +7,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Ticket Entity — one ticket per seat in a confirmed booking.
@@ -84,8 +85,9 @@ public class Ticket {
 
     // ── Ticket identifiers ─────────────────────────────────────────
 
-    @Column(name = "ticket_number", nullable = false, unique = true, length = 36)
-    private String ticketNumber;
+    // UUIDv7 (time-ordered) in a native uuid column
+    @Column(name = "ticket_number", nullable = false, unique = true)
+    private UUID ticketNumber;
 
     @Column(name = "qr_code", length = 512)
     private String qrCode;
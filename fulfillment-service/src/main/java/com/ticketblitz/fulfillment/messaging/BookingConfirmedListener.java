@@ -1,6 +1,8 @@
 package com.ticketblitz.fulfillment.messaging;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketblitz.common.event.BookingConfirmedEvent;
+import com.ticketblitz.fulfillment.config.FulfillmentMetrics;
 import com.ticketblitz.fulfillment.config.RabbitMQConfig;
 import com.ticketblitz.fulfillment.service.TicketGenerationService;
 import lombok.RequiredArgsConstructor;
@@ -10,22 +12,31 @@ import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * RabbitMQ Consumer — listens for BookingConfirmedEvent messages.
+ * RabbitMQ Consumer — listens for BookingConfirmedEvent messages (batched).
  *
  * CONSUMER GUARANTEES:
  * ====================
- * 1. IDEMPOTENT: TicketGenerationService checks for existing tickets
+ * 1. IDEMPOTENT: TicketGenerationService skips bookings that have tickets
  * 2. RETRY: Broker-level retry with TTL queue (3 attempts)
  * 3. DLQ: After max retries, message goes to dead-letter queue
  *
+ * BATCHING:
+ * =========
+ * Up to batch-size messages arrive together and are acked together.
+ * The whole batch is turned into tickets in one transaction.
+ *
  * ERROR HANDLING:
  * ===============
- * - Business exceptions (validation): logged, message rejected → DLQ
- * - Transient exceptions (DB down): Spring retry kicks in
+ * - Unreadable messages: straight to the DLQ, never into the batch
+ * - Batch transaction fails: each booking is retried on its own, so one
+ *   poisoned message cannot hold back the rest of the batch
+ * - A booking that still fails goes to the retry queue by itself
  * - After max retries: message moves to DLQ for manual inspection
  *
  * CONCURRENCY:
@@ -40,47 +51,77 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class BookingConfirmedListener {
 
+    private static final long MAX_RETRIES = 3;
+
     private final TicketGenerationService ticketGenerationService;
     private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final FulfillmentMetrics metrics;
 
-    @RabbitListener(queues = RabbitMQConfig.BOOKING_CONFIRMED_QUEUE)
-    public void handleBookingConfirmed(BookingConfirmedEvent event,
-                                       Message message) {
+    @RabbitListener(
+            queues = RabbitMQConfig.BOOKING_CONFIRMED_QUEUE,
+            containerFactory = "bookingConfirmedContainerFactory"
+    )
+    public void handleBookingConfirmed(List<Message> messages) {
+        List<Message> accepted = new ArrayList<>(messages.size());
+        List<BookingConfirmedEvent> events = new ArrayList<>(messages.size());
 
-        // check retry count from x-death
-        long retryCount = 0;
-        if (message != null && message.getMessageProperties() != null) {
-            Map<String, Object> headers = message.getMessageProperties().getHeaders();
-            if (headers != null) {
-                List<Map<String, Object>> xDeath = (List<Map<String, Object>>) headers.get("x-death");
-                if (xDeath != null && !xDeath.isEmpty()) {
-                    retryCount = (long) xDeath.get(0).get("count");
-                }
+        for (Message message : messages) {
+            if (retryCount(message) >= MAX_RETRIES) {
+                log.warn("Max retries reached for message {}. Sending to DLQ",
+                        message.getMessageProperties().getCorrelationId());
+                deadLetter(message);
+                continue;
+            }
+            try {
+                events.add(objectMapper.readValue(message.getBody(), BookingConfirmedEvent.class));
+                accepted.add(message);
+            } catch (IOException e) {
+                log.error("Unreadable BookingConfirmedEvent message, sending to DLQ", e);
+                deadLetter(message);
             }
         }
 
-        if (retryCount >= 3) {
-            log.warn("Max retries reached for bookingId {}. Sending to DLQ", event.getBookingId());
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.DLX_EXCHANGE,
-                    RabbitMQConfig.BOOKING_DLQ_ROUTING_KEY,
-                    event
-            );
+        if (events.isEmpty()) {
             return;
         }
 
-        log.info("Received BookingConfirmedEvent: bookingId={}, userId={}, seats={}",
-                event.getBookingId(), event.getUserId(), event.getTotalSeats());
+        log.info("Received {} BookingConfirmedEvents", events.size());
         try {
-            ticketGenerationService.generateTickets(event);
-            log.info("Ticket generation completed for booking: {}", event.getBookingId());
+            ticketGenerationService.generateTickets(events);
+        } catch (Exception e) {
+            log.warn("Batched ticket generation for {} bookings failed ({}). Processing one by one",
+                    events.size(), e.getMessage());
+            for (int i = 0; i < events.size(); i++) {
+                generateIsolated(events.get(i), accepted.get(i));
+            }
+        }
+    }
 
+    private void generateIsolated(BookingConfirmedEvent event, Message message) {
+        try {
+            ticketGenerationService.generateTickets(event);
         } catch (Exception e) {
             log.error("Failed to generate tickets for booking: {}. Error: {}",
                     event.getBookingId(), e.getMessage(), e);
+            metrics.incrementGenerationErrors();
+
+            // Only this message goes back through the retry queue; the rest of the batch is acked
+            rabbitTemplate.send(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.RETRY_ROUTING_KEY, message);
+        }
+    }
+
+    private void deadLetter(Message message) {
+        rabbitTemplate.send(RabbitMQConfig.DLX_EXCHANGE, RabbitMQConfig.BOOKING_DLQ_ROUTING_KEY, message);
+    }
 
-            // Re-throw to trigger Spring retry / DLQ routing
-            throw e;
+    @SuppressWarnings("unchecked")
+    private static long retryCount(Message message) {
+        Map<String, Object> headers = message.getMessageProperties().getHeaders();
+        List<Map<String, Object>> xDeath = (List<Map<String, Object>>) headers.get("x-death");
+        if (xDeath == null || xDeath.isEmpty()) {
+            return 0;
         }
+        return (long) xDeath.get(0).get("count");
     }
-}
\ No newline at end of file
+}
@@ -3,13 +3,16 @@ package com.ticketblitz.fulfillment.repository;
 import com.ticketblitz.fulfillment.entity.Ticket;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Ticket Repository
@@ -20,6 +23,7 @@ import java.util.Optional;
  * 2. findByTicketNumber → Single ticket lookup (QR code scan, download)
  * 3. findByUserId       → User's ticket history (paginated)
  * 4. existsByBookingId  → Idempotency check before ticket generation
+ * 5. findByUserIdBefore → User's ticket history (keyset, no COUNT)
  *
  * @author Akhil
  */
@@ -36,7 +40,7 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
      * Find ticket by its unique ticket number (UUID).
      * Used for QR code scanning and individual ticket lookup.
      */
-    Optional<Ticket> findByTicketNumber(String ticketNumber);
+    Optional<Ticket> findByTicketNumber(UUID ticketNumber);
 
     /**
      * Check if tickets already exist for a booking.
@@ -51,6 +55,22 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT t FROM Ticket t WHERE t.userId = :userId ORDER BY t.eventDate DESC")
     Page<Ticket> findByUserId(@Param("userId") String userId, Pageable pageable);
 
+    /**
+     * Find tickets for a user older than a cursor position (keyset).
+     * Same ordering as findByUserId, with id as tie-breaker, but seeks
+     * instead of OFFSET so deep pages cost the same as the first one.
+     */
+    @Query("SELECT t FROM Ticket t " +
+            "WHERE t.userId = :userId " +
+            "AND t.eventDate <= :beforeEventDate " +
+            "AND (t.eventDate < :beforeEventDate OR t.id < :beforeId) " +
+            "ORDER BY t.eventDate DESC, t.id DESC")
+    Slice<Ticket> findByUserIdBefore(
+            @Param("userId") String userId,
+            @Param("beforeEventDate") LocalDateTime beforeEventDate,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
     /**
      * Count tickets for a booking.
      * Used for validation and stats.
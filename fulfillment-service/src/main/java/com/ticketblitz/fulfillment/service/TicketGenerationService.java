@@ -2,18 +2,37 @@ package com.ticketblitz.fulfillment.service;
 
 import com.ticketblitz.common.constant.TicketStatus;
 import com.ticketblitz.common.event.BookingConfirmedEvent;
+import com.ticketblitz.common.ticket.TicketToken;
+import com.ticketblitz.common.ticket.TicketTokenCodec;
 import com.ticketblitz.fulfillment.config.FulfillmentMetrics;
 import com.ticketblitz.fulfillment.entity.Ticket;
-import com.ticketblitz.fulfillment.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Ticket Generation Service — Core fulfillment business logic.
@@ -24,21 +43,31 @@ import java.util.UUID;
  *
  * IDEMPOTENCY:
  * ============
- * RabbitMQ may redeliver messages (consumer crash, network partition).
- * This service checks existsByBookingId() before generating tickets.
- * If tickets already exist, the operation is a no-op — safe for replay.
+ * RabbitMQ may redeliver messages (consumer crash, network partition,
+ * broker failover). Generation is a single statement:
  *
- * The database-level UNIQUE(booking_id, seat_id) constraint acts as a
- * second safety net even if the application-level check is bypassed.
+ *   INSERT ... ON CONFLICT (booking_id, seat_id) DO NOTHING RETURNING
+ *
+ * combined with a read of the rows that already existed, so a duplicate
+ * delivery inserts nothing and gets the original tickets back — no
+ * existence check, no constraint violation, no retry, no DLQ traffic.
+ *
+ * A concurrent delivery of the same booking is the one case the statement
+ * cannot answer alone: its INSERT waits for the other transaction and then
+ * skips the row, but the read half still uses the snapshot from before that
+ * commit. Seats missing from the result are read again in a new statement
+ * (READ COMMITTED, fresh snapshot), which sees the committed tickets.
  *
  * TICKET GENERATION:
  * ==================
- * 1. Check idempotency (tickets already exist?)
- * 2. Create Ticket entities (GENERATING status)
- * 3. Generate UUID ticket numbers
- * 4. Generate QR code payloads (JSON with ticket metadata)
- * 5. Mark tickets as GENERATED
- * 6. Batch save all tickets
+ * 1. Generate time-ordered ticket numbers (UUIDv7, see TicketNumberGenerator)
+ * 2. Generate QR code payloads (signed compact tokens, verifiable offline)
+ * 3. Insert all seats of all bookings as GENERATED tickets, one round trip
+ *    (seat columns are sent as arrays and expanded with unnest)
+ * 4. Return new and pre-existing tickets together
+ *
+ * Rows are inserted in (booking_id, seat_id) order so concurrent batches
+ * that overlap wait on each other instead of deadlocking.
  *
  * PRODUCTION ENHANCEMENTS:
  * ========================
@@ -46,6 +75,7 @@ import java.util.UUID;
  * - Upload PDFs to S3/GCS
  * - Send email with ticket attachments
  * - Generate actual QR code images (ZXing library)
+ * - Asymmetric signatures (Ed25519) so scanners only hold a public key
  *
  * @author Akhil
  */
@@ -54,9 +84,53 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TicketGenerationService {
 
-    private final TicketRepository ticketRepository;
+    private static final String TICKET_COLUMNS =
+            "id, booking_id, user_id, event_id, event_name, venue_name, event_date, " +
+            "seat_id, section, row_label, seat_number, price, ticket_number, qr_code, " +
+            "status, generated_at, delivered_at, created_at, updated_at, version";
+
+    /**
+     * New tickets come from the INSERT's RETURNING; tickets that already
+     * existed are read in the same statement (the snapshot does not see the
+     * rows just inserted, so the two halves never overlap). Rows committed
+     * by a concurrent insert after the snapshot are in neither half.
+     */
+    private static final String UPSERT_TICKETS_SQL =
+            "WITH input AS (" +
+            "  SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::varchar[], ?::varchar[], " +
+            "                       ?::timestamp[], ?::bigint[], ?::varchar[], ?::varchar[], ?::int[], " +
+            "                       ?::numeric[], ?::uuid[], ?::varchar[]) " +
+            "    AS i(booking_id, user_id, event_id, event_name, venue_name, event_date, " +
+            "         seat_id, section, row_label, seat_number, price, ticket_number, qr_code)" +
+            "), inserted AS (" +
+            "  INSERT INTO tickets (booking_id, user_id, event_id, event_name, venue_name, event_date, " +
+            "                       seat_id, section, row_label, seat_number, price, ticket_number, qr_code, " +
+            "                       status, generated_at) " +
+            "  SELECT booking_id, user_id, event_id, event_name, venue_name, event_date, " +
+            "         seat_id, section, row_label, seat_number, price, ticket_number, qr_code, " +
+            "         '" + TicketStatus.GENERATED.name() + "', NOW() " +
+            "  FROM input " +
+            "  ON CONFLICT (booking_id, seat_id) DO NOTHING " +
+            "  RETURNING " + TICKET_COLUMNS +
+            ") " +
+            "SELECT " + TICKET_COLUMNS + ", TRUE AS new_ticket FROM inserted " +
+            "UNION ALL " +
+            "SELECT " + prefixed("t", TICKET_COLUMNS) + ", FALSE AS new_ticket " +
+            "FROM tickets t JOIN input i ON t.booking_id = i.booking_id AND t.seat_id = i.seat_id";
+
+    private static final String SELECT_TICKETS_SQL =
+            "SELECT " + prefixed("t", TICKET_COLUMNS) + " " +
+            "FROM tickets t JOIN unnest(?::bigint[], ?::bigint[]) AS k(booking_id, seat_id) " +
+            "ON t.booking_id = k.booking_id AND t.seat_id = k.seat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketNumberGenerator ticketNumberGenerator;
+    private final TicketTokenCodec ticketTokenCodec;
     private final FulfillmentMetrics metrics;
 
+    @Value("${fulfillment.ticket-token.validity-after-event:12h}")
+    private Duration tokenValidityAfterEvent;
+
     /**
      * Generate tickets for a confirmed booking.
      *
@@ -67,21 +141,180 @@ public class TicketGenerationService {
     public List<Ticket> generateTickets(BookingConfirmedEvent event) {
         log.info("Processing ticket generation for booking: {}, seats: {}",
                 event.getBookingId(), event.getTotalSeats());
+        return generateTickets(List.of(event));
+    }
 
-        // Idempotency check — prevent duplicate generation on redelivery
-        if (ticketRepository.existsByBookingId(event.getBookingId())) {
-            log.info("Tickets already exist for booking: {}. Skipping generation (idempotent).",
-                    event.getBookingId());
-            metrics.incrementDuplicatesSkipped();
-            return ticketRepository.findByBookingId(event.getBookingId());
+    /**
+     * Generate tickets for a batch of confirmed bookings in one round trip.
+     *
+     * Bookings that already have tickets, and duplicates within the batch,
+     * insert nothing. Any failure rolls back the whole batch.
+     *
+     * @param events Booking confirmed events from one listener batch
+     * @return New and pre-existing tickets of all bookings in the batch
+     */
+    @Transactional
+    public List<Ticket> generateTickets(List<BookingConfirmedEvent> events) {
+        Map<Long, BookingConfirmedEvent> byBooking = new LinkedHashMap<>();
+        for (BookingConfirmedEvent event : events) {
+            if (byBooking.putIfAbsent(event.getBookingId(), event) != null) {
+                metrics.incrementDuplicatesSkipped();
+            }
         }
 
         io.micrometer.core.instrument.Timer.Sample timerSample = metrics.startGenerationTimer();
 
+        List<Ticket> candidates = new ArrayList<>();
+        byBooking.values().forEach(event -> candidates.addAll(buildTickets(event)));
+        candidates.sort(Comparator.comparing(Ticket::getBookingId).thenComparing(Ticket::getSeatId));
+
+        Set<Long> newTicketIds = new HashSet<>();
+        List<Ticket> tickets = jdbcTemplate.query(
+                connection -> upsertStatement(connection, candidates),
+                (rs, rowNum) -> {
+                    Ticket ticket = TICKET_ROW_MAPPER.mapRow(rs, rowNum);
+                    if (rs.getBoolean("new_ticket")) {
+                        newTicketIds.add(ticket.getId());
+                    }
+                    return ticket;
+                });
+        tickets.addAll(concurrentlyInserted(candidates, tickets));
+
+        metrics.stopGenerationTimer(timerSample);
+        metrics.incrementTicketsGenerated(newTicketIds.size());
+
+        Set<Long> bookingsWithNewTickets = tickets.stream()
+                .filter(ticket -> newTicketIds.contains(ticket.getId()))
+                .map(Ticket::getBookingId)
+                .collect(Collectors.toSet());
+        int duplicates = byBooking.size() - bookingsWithNewTickets.size();
+        if (duplicates > 0) {
+            log.info("Tickets already existed for {} of {} bookings. Nothing inserted for them (idempotent).",
+                    duplicates, byBooking.size());
+            metrics.incrementDuplicatesSkipped(duplicates);
+        }
+
+        log.info("Successfully generated {} tickets for {} bookings",
+                newTicketIds.size(), bookingsWithNewTickets.size());
+
+        return tickets;
+    }
+
+    /**
+     * Tickets of seats the upsert neither inserted nor read: committed by a
+     * concurrent delivery after the upsert's snapshot was taken
+     */
+    private List<Ticket> concurrentlyInserted(List<Ticket> candidates, List<Ticket> found) {
+        Set<List<Long>> foundKeys = found.stream()
+                .map(ticket -> List.of(ticket.getBookingId(), ticket.getSeatId()))
+                .collect(Collectors.toSet());
+        List<Ticket> missing = candidates.stream()
+                .filter(ticket -> !foundKeys.contains(List.of(ticket.getBookingId(), ticket.getSeatId())))
+                .toList();
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+
+        log.info("{} tickets were inserted concurrently by another delivery, reading them back", missing.size());
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_TICKETS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint",
+                    missing.stream().map(Ticket::getBookingId).toArray(Long[]::new)));
+            ps.setArray(2, connection.createArrayOf("bigint",
+                    missing.stream().map(Ticket::getSeatId).toArray(Long[]::new)));
+            return ps;
+        }, TICKET_ROW_MAPPER);
+    }
+
+    private static PreparedStatement upsertStatement(Connection connection, List<Ticket> tickets)
+            throws SQLException {
+        int n = tickets.size();
+        Long[] bookingIds = new Long[n];
+        String[] userIds = new String[n];
+        Long[] eventIds = new Long[n];
+        String[] eventNames = new String[n];
+        String[] venueNames = new String[n];
+        Timestamp[] eventDates = new Timestamp[n];
+        Long[] seatIds = new Long[n];
+        String[] sections = new String[n];
+        String[] rowLabels = new String[n];
+        Integer[] seatNumbers = new Integer[n];
+        BigDecimal[] prices = new BigDecimal[n];
+        UUID[] ticketNumbers = new UUID[n];
+        String[] qrCodes = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            Ticket ticket = tickets.get(i);
+            bookingIds[i] = ticket.getBookingId();
+            userIds[i] = ticket.getUserId();
+            eventIds[i] = ticket.getEventId();
+            eventNames[i] = ticket.getEventName();
+            venueNames[i] = ticket.getVenueName();
+            eventDates[i] = ticket.getEventDate() != null ? Timestamp.valueOf(ticket.getEventDate()) : null;
+            seatIds[i] = ticket.getSeatId();
+            sections[i] = ticket.getSection();
+            rowLabels[i] = ticket.getRowLabel();
+            seatNumbers[i] = ticket.getSeatNumber();
+            prices[i] = ticket.getPrice();
+            ticketNumbers[i] = ticket.getTicketNumber();
+            qrCodes[i] = ticket.getQrCode();
+        }
+
+        PreparedStatement ps = connection.prepareStatement(UPSERT_TICKETS_SQL);
+        ps.setArray(1, connection.createArrayOf("bigint", bookingIds));
+        ps.setArray(2, connection.createArrayOf("varchar", userIds));
+        ps.setArray(3, connection.createArrayOf("bigint", eventIds));
+        ps.setArray(4, connection.createArrayOf("varchar", eventNames));
+        ps.setArray(5, connection.createArrayOf("varchar", venueNames));
+        ps.setArray(6, connection.createArrayOf("timestamp", eventDates));
+        ps.setArray(7, connection.createArrayOf("bigint", seatIds));
+        ps.setArray(8, connection.createArrayOf("varchar", sections));
+        ps.setArray(9, connection.createArrayOf("varchar", rowLabels));
+        ps.setArray(10, connection.createArrayOf("int4", seatNumbers));
+        ps.setArray(11, connection.createArrayOf("numeric", prices));
+        ps.setArray(12, connection.createArrayOf("uuid", ticketNumbers));
+        ps.setArray(13, connection.createArrayOf("varchar", qrCodes));
+        return ps;
+    }
+
+    private static final RowMapper<Ticket> TICKET_ROW_MAPPER = (rs, rowNum) -> Ticket.builder()
+            .id(rs.getLong("id"))
+            .bookingId(rs.getLong("booking_id"))
+            .userId(rs.getString("user_id"))
+            .eventId(rs.getLong("event_id"))
+            .eventName(rs.getString("event_name"))
+            .venueName(rs.getString("venue_name"))
+            .eventDate(toLocalDateTime(rs.getTimestamp("event_date")))
+            .seatId(rs.getLong("seat_id"))
+            .section(rs.getString("section"))
+            .rowLabel(rs.getString("row_label"))
+            .seatNumber(rs.getInt("seat_number"))
+            .price(rs.getBigDecimal("price"))
+            .ticketNumber(rs.getObject("ticket_number", UUID.class))
+            .qrCode(rs.getString("qr_code"))
+            .status(TicketStatus.valueOf(rs.getString("status")))
+            .generatedAt(toLocalDateTime(rs.getTimestamp("generated_at")))
+            .deliveredAt(toLocalDateTime(rs.getTimestamp("delivered_at")))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .version(rs.getInt("version"))
+            .build();
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String prefixed(String alias, String columns) {
+        return Arrays.stream(columns.split(",\\s*"))
+                .map(column -> alias + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private List<Ticket> buildTickets(BookingConfirmedEvent event) {
         List<Ticket> tickets = new ArrayList<>(event.getSeats().size());
 
         for (BookingConfirmedEvent.SeatInfo seat : event.getSeats()) {
-            String ticketNumber = generateTicketNumber();
+            UUID ticketNumber = ticketNumberGenerator.next();
             String qrCode = generateQrPayload(event, seat, ticketNumber);
 
             Ticket ticket = Ticket.builder()
@@ -98,57 +331,28 @@ public class TicketGenerationService {
                     .price(seat.getPrice())
                     .ticketNumber(ticketNumber)
                     .qrCode(qrCode)
-                    .status(TicketStatus.GENERATED)
-                    .generatedAt(LocalDateTime.now())
                     .build();
 
             tickets.add(ticket);
         }
-
-        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
-
-        metrics.stopGenerationTimer(timerSample);
-        metrics.incrementTicketsGenerated(savedTickets.size());
-
-        log.info("Successfully generated {} tickets for booking: {}",
-                savedTickets.size(), event.getBookingId());
-
-        return savedTickets;
+        return tickets;
     }
 
     /**
-     * Generate a unique ticket number (UUID v4).
-     *
-     * In production, consider a format like: TB-{eventId}-{seatId}-{shortUUID}
-     * for human readability while maintaining uniqueness.
-     */
-    private String generateTicketNumber() {
-        return UUID.randomUUID().toString();
-    }
-
-    /**
-     * Generate QR code payload as a JSON string.
-     *
-     * The QR code encodes enough information for venue entry validation:
-     * ticket number, event, seat location, and a validation token.
+     * Generate the QR code payload: a signed TicketToken (see TicketTokenCodec).
      *
-     * In production, this would be a signed JWT or encrypted payload
-     * to prevent ticket forgery.
+     * Gate scanners verify it offline with the shared key; it is valid until
+     * validity-after-event past the event's start.
      */
     private String generateQrPayload(
             BookingConfirmedEvent event,
             BookingConfirmedEvent.SeatInfo seat,
-            String ticketNumber
+            UUID ticketNumber
     ) {
-        return String.format(
-                "{\"ticket\":\"%s\",\"event\":\"%s\",\"venue\":\"%s\",\"seat\":\"%s-%s-%d\",\"date\":\"%s\"}",
-                ticketNumber,
-                event.getEventName(),
-                event.getVenueName(),
-                seat.getSection(),
-                seat.getRowLabel(),
-                seat.getSeatNumber(),
-                event.getEventDate()
-        );
+        Instant expiresAt = event.getEventDate()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .plus(tokenValidityAfterEvent);
+        return ticketTokenCodec.sign(new TicketToken(ticketNumber, event.getEventId(), seat.getSeatId(), expiresAt));
     }
 }
@@ -0,0 +1,70 @@
+package com.ticketblitz.fulfillment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ticket Number Generator — time-ordered UUIDs (version 7, RFC 9562).
+ *
+ * WHY NOT UUID.randomUUID():
+ * ==========================
+ * Random v4 UUIDs land on a random page of the ticket_number index on every
+ * insert, and each call goes through a shared SecureRandom. v7 UUIDs start
+ * with the timestamp, so new tickets append to the right edge of the index.
+ *
+ * LAYOUT (128 bits):
+ * ==================
+ * 48 bits  unix time in milliseconds
+ *  4 bits  version (7)
+ * 12 bits  sequence within the millisecond (monotonic per instance)
+ *  2 bits  variant
+ * 16 bits  node — hash of the Eureka instance ID
+ * 46 bits  random (ThreadLocalRandom, no contention)
+ *
+ * When more than 4096 numbers are needed in one millisecond the sequence
+ * borrows from the next millisecond, so numbers never go backwards.
+ *
+ * @author Akhil
+ */
+@Slf4j
+@Component
+public class TicketNumberGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    private final long node;
+
+    /** (unix millis << SEQUENCE_BITS) | sequence of the last number issued */
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    public TicketNumberGenerator(ObjectProvider<EurekaInstanceConfigBean> eurekaInstance, Environment environment) {
+        String instanceId = eurekaInstance.stream()
+                .map(EurekaInstanceConfigBean::getInstanceId)
+                .findFirst()
+                .orElseGet(() -> environment.getProperty("spring.application.name", "fulfillment-service")
+                        + ":" + ProcessHandle.current().pid());
+        this.node = instanceId.hashCode() & 0xFFFFL;
+        log.info("Ticket numbers for instance {} use node {}", instanceId, node);
+    }
+
+    public UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long timeAndSequence = lastTimeAndSequence.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = timeAndSequence >>> SEQUENCE_BITS;
+        long sequence = timeAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long msb = (timestamp << 16) | (0x7L << 12) | sequence;
+        long lsb = (0x2L << 62)
+                | (node << 46)
+                | (ThreadLocalRandom.current().nextLong() & ((1L << 46) - 1));
+        return new UUID(msb, lsb);
+    }
+}
@@ -1,18 +1,28 @@
 package com.ticketblitz.fulfillment.service;
 
+import com.ticketblitz.common.dto.CursorPage;
 import com.ticketblitz.common.exception.ResourceNotFoundException;
+import com.ticketblitz.common.pagination.SeekCursor;
+import com.ticketblitz.common.ticket.TicketToken;
+import com.ticketblitz.common.ticket.TicketTokenCodec;
 import com.ticketblitz.fulfillment.dto.TicketDto;
+import com.ticketblitz.fulfillment.dto.TicketVerificationResponse;
 import com.ticketblitz.fulfillment.entity.Ticket;
 import com.ticketblitz.fulfillment.mapper.TicketMapper;
 import com.ticketblitz.fulfillment.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Ticket Query Service — read-only operations for the REST API.
@@ -30,6 +40,7 @@ public class TicketService {
 
     private final TicketRepository ticketRepository;
     private final TicketMapper ticketMapper;
+    private final TicketTokenCodec ticketTokenCodec;
 
     /**
      * Get all tickets for a booking.
@@ -53,7 +64,8 @@ public class TicketService {
     public TicketDto getTicketByTicketNumber(String ticketNumber) {
         log.info("Fetching ticket: {}", ticketNumber);
 
-        Ticket ticket = ticketRepository.findByTicketNumber(ticketNumber)
+        Ticket ticket = parseTicketNumber(ticketNumber)
+                .flatMap(ticketRepository::findByTicketNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket", ticketNumber));
 
         return ticketMapper.toDto(ticket);
@@ -69,4 +81,62 @@ public class TicketService {
         return ticketRepository.findByUserId(userId, pageable)
                 .map(ticketMapper::toDto);
     }
+
+    /**
+     * Get tickets for a user with keyset pagination (no COUNT query).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TicketDto> scrollUserTickets(String userId, String cursor, int size) {
+        log.info("Scrolling tickets for user: {}", userId);
+
+        SeekCursor before = SeekCursor.decodeOrDefault(cursor, SeekCursor.MAX);
+        Slice<Ticket> slice = ticketRepository.findByUserIdBefore(
+                userId, before.timestamp(), before.id(), PageRequest.of(0, size));
+
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            Ticket last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new SeekCursor(last.getEventDate(), last.getId()).encode();
+        }
+
+        return CursorPage.<TicketDto>builder()
+                .content(ticketMapper.toDtoList(slice.getContent()))
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Verify a scanned QR code token — signature and expiry only, no
+     * database access (safe to call thousands of times per second).
+     */
+    public TicketVerificationResponse verifyTicket(String token) {
+        TicketTokenCodec.Verification verification = ticketTokenCodec.verify(token, Instant.now());
+        TicketToken claims = verification.token();
+
+        if (!verification.isValid()) {
+            log.warn("Ticket token rejected: {}", verification.status());
+        }
+
+        return TicketVerificationResponse.builder()
+                .valid(verification.isValid())
+                .status(verification.status())
+                .ticketNumber(claims != null ? claims.ticketNumber() : null)
+                .eventId(claims != null ? claims.eventId() : null)
+                .seatId(claims != null ? claims.seatId() : null)
+                .expiresAt(claims != null ? claims.expiresAt() : null)
+                .build();
+    }
+
+    /**
+     * Ticket numbers are UUIDs; anything else cannot match a ticket.
+     */
+    private static Optional<UUID> parseTicketNumber(String ticketNumber) {
+        try {
+            return Optional.of(UUID.fromString(ticketNumber));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of a user's tickets (latest event first)
+CREATE INDEX idx_tickets_user_event_date_id ON tickets(user_id, event_date DESC, id DESC);
@@ -0,0 +1,6 @@
+-- Ticket numbers become time-ordered UUIDv7 values stored natively
+-- (16 bytes instead of a 36-char string). Existing v4 numbers convert as-is.
+ALTER TABLE tickets ALTER COLUMN ticket_number TYPE UUID USING ticket_number::uuid;
+
+-- Redundant: the UNIQUE constraint on ticket_number already has its own index
+DROP INDEX IF EXISTS idx_tickets_number;
@@ -0,0 +1,128 @@
+package com.ticketblitz.fulfillment.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.netflix.eureka.EurekaInstanceConfigBean;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TicketNumberGeneratorTest {
+
+    private static final String INSTANCE_ID = "10.0.0.7:fulfillment-service:8083";
+
+    @Test
+    void shouldSetVersionAndVariant() {
+        UUID number = generator(INSTANCE_ID).next();
+
+        assertThat(number.version()).isEqualTo(7);
+        assertThat(number.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStartWithTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID number = generator(INSTANCE_ID).next();
+        long after = System.currentTimeMillis();
+
+        assertThat(timestamp(number)).isBetween(before, after);
+    }
+
+    @Test
+    void shouldStayOrderedWhenMoreThan4096NumbersShareAMillisecond() {
+        TicketNumberGenerator generator = generator(INSTANCE_ID);
+        // Ahead of the clock: every number has to come from the sequence
+        long ahead = System.currentTimeMillis() + 60_000;
+        lastTimeAndSequence(generator).set(ahead << 12);
+
+        List<UUID> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(generator.next());
+        }
+
+        // 4095 + 4096 + 1809 numbers over three milliseconds
+        assertThat(timestamp(numbers.get(0))).isEqualTo(ahead);
+        assertThat(timestamp(numbers.get(numbers.size() - 1))).isEqualTo(ahead + 2);
+
+        for (int i = 1; i < numbers.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    numbers.get(i - 1).getMostSignificantBits(), numbers.get(i).getMostSignificantBits()))
+                    .as("number %d", i)
+                    .isNegative();
+        }
+        assertThat(new HashSet<>(numbers)).hasSize(numbers.size());
+    }
+
+    @Test
+    void shouldCarryTheSequenceIntoTheNextMillisecond() {
+        TicketNumberGenerator generator = generator(INSTANCE_ID);
+        // The generator already ran 4096 numbers into a millisecond ahead of the clock
+        long ahead = System.currentTimeMillis() + 60_000;
+        lastTimeAndSequence(generator).set((ahead << 12) | 0xFFF);
+
+        UUID carried = generator.next();
+        UUID following = generator.next();
+
+        assertThat(timestamp(carried)).isEqualTo(ahead + 1);
+        assertThat(sequence(carried)).isZero();
+        assertThat(timestamp(following)).isEqualTo(ahead + 1);
+        assertThat(sequence(following)).isEqualTo(1);
+        assertThat(carried.version()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldEmbedTheNodeOfTheEurekaInstance() {
+        UUID number = generator(INSTANCE_ID).next();
+
+        assertThat(node(number)).isEqualTo(INSTANCE_ID.hashCode() & 0xFFFF);
+        assertThat(node(generator("10.0.0.8:fulfillment-service:8083").next())).isNotEqualTo(node(number));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToApplicationNameAndPidWithoutEureka() {
+        ObjectProvider<EurekaInstanceConfigBean> noEureka = mock(ObjectProvider.class);
+        when(noEureka.stream()).thenReturn(Stream.empty());
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.application.name", "fulfillment");
+
+        UUID number = new TicketNumberGenerator(noEureka, environment).next();
+
+        String instanceId = "fulfillment:" + ProcessHandle.current().pid();
+        assertThat(node(number)).isEqualTo(instanceId.hashCode() & 0xFFFF);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TicketNumberGenerator generator(String instanceId) {
+        EurekaInstanceConfigBean instance = mock(EurekaInstanceConfigBean.class);
+        when(instance.getInstanceId()).thenReturn(instanceId);
+        ObjectProvider<EurekaInstanceConfigBean> eureka = mock(ObjectProvider.class);
+        when(eureka.stream()).thenAnswer(invocation -> Stream.of(instance));
+        return new TicketNumberGenerator(eureka, new MockEnvironment());
+    }
+
+    private static AtomicLong lastTimeAndSequence(TicketNumberGenerator generator) {
+        return (AtomicLong) ReflectionTestUtils.getField(generator, "lastTimeAndSequence");
+    }
+
+    private static long timestamp(UUID number) {
+        return number.getMostSignificantBits() >>> 16;
+    }
+
+    private static long sequence(UUID number) {
+        return number.getMostSignificantBits() & 0xFFF;
+    }
+
+    private static long node(UUID number) {
+        return (number.getLeastSignificantBits() >>> 46) & 0xFFFF;
+    }
+}
@@ -0,0 +1,97 @@
+-- =============================================================================
+-- EVENT SEARCH BENCHMARK
+-- =============================================================================
+-- Compares the old LIKE '%term%' search with the full-text / trigram path
+-- (catalog V6) on a synthetic catalog of ~300k events.
+--
+-- Run against a scratch copy of the catalog database, never production:
+--   psql -d ticketblitz_catalog_bench -f event-search-benchmark.sql
+--
+-- Everything happens inside a transaction that is rolled back at the end.
+-- =============================================================================
+
+\timing on
+BEGIN;
+
+-- -----------------------------------------------------------------------------
+-- Dataset: 2,000 venues, 300,000 events built from a small vocabulary so that
+-- terms have realistic selectivity
+-- -----------------------------------------------------------------------------
+INSERT INTO venues (name, address, city, country, capacity)
+SELECT (ARRAY['Royal', 'Grand', 'Civic', 'Memorial', 'Riverside', 'Union', 'Harbour', 'Central'])[1 + g % 8]
+           || ' ' || (ARRAY['Arena', 'Hall', 'Stadium', 'Theatre', 'Pavilion', 'Dome'])[1 + g % 6]
+           || ' ' || g,
+       g || ' Bench Street',
+       (ARRAY['London', 'New York', 'Berlin', 'Tokyo', 'Sydney', 'Toronto'])[1 + g % 6],
+       'Benchland',
+       1000 + g % 50000
+FROM generate_series(1, 2000) g;
+
+INSERT INTO events (venue_id, name, description, event_date, category, total_seats,
+                    available_seats, base_price, status)
+SELECT v.id,
+       (ARRAY['Taylor', 'Midnight', 'Electric', 'Symphony', 'Jazz', 'Summer', 'Winter', 'Classic',
+              'Neon', 'Acoustic', 'Legends', 'Rising'])[1 + g % 12]
+           || ' ' || (ARRAY['Tour', 'Festival', 'Live', 'Night', 'Sessions', 'Championship',
+                            'Showcase', 'Revival', 'Gala'])[1 + (g / 12) % 9]
+           || ' ' || (ARRAY['Aurora', 'Brixton', 'Cascade', 'Delta', 'Ember', 'Fjord', 'Granite',
+                            'Horizon', 'Indigo', 'Juniper', 'Kestrel', 'Lumen', 'Meridian', 'Nova',
+                            'Orchid', 'Prism', 'Quartz', 'Raven', 'Sierra', 'Tundra', 'Umbra',
+                            'Vertex', 'Willow', 'Xenon', 'Zephyr'])[1 + (g / 108) % 25]
+           || ' ' || g,
+       'Benchmark event ' || g || ' featuring '
+           || (ARRAY['orchestra', 'guitar', 'football', 'comedy', 'opera', 'basketball'])[1 + g % 6],
+       now() + (g % 700) * interval '1 day',
+       (ARRAY['CONCERT', 'SPORTS', 'THEATER', 'COMEDY', 'FESTIVAL'])[1 + g % 5],
+       500, 500, 25 + g % 200, 'ACTIVE'
+FROM generate_series(1, 300000) g
+JOIN venues v ON v.address = (1 + g % 2000) || ' Bench Street';
+
+ANALYZE venues;
+ANALYZE events;
+
+-- -----------------------------------------------------------------------------
+-- Before: what EventRepository.searchByName used to run (seq scan)
+-- Note: idx_events_name_trgm now makes this indexable too; drop it inside the
+-- transaction to see the original plan.
+-- -----------------------------------------------------------------------------
+DROP INDEX idx_events_name_trgm;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.id, e.name, e.event_date, v.name, v.city
+FROM events e JOIN venues v ON v.id = e.venue_id
+WHERE lower(e.name) LIKE '%symphony gala meridian%' AND e.status = 'ACTIVE'
+ORDER BY e.event_date
+LIMIT 20;
+
+CREATE INDEX idx_events_name_trgm ON events USING gin (lower(name) gin_trgm_ops);
+
+-- -----------------------------------------------------------------------------
+-- After: EventListQueryRepositoryImpl.searchRanked
+-- -----------------------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.id, e.name, e.event_date, v.name, v.city
+FROM events e JOIN venues v ON v.id = e.venue_id,
+     websearch_to_tsquery('english', 'symphony gala meridian') q
+WHERE (e.search_vector @@ q OR lower(e.name) LIKE '%symphony gala meridian%')
+  AND e.status = 'ACTIVE'
+ORDER BY ts_rank_cd(e.search_vector, q) + word_similarity('symphony gala meridian', lower(e.name)) DESC,
+         e.event_date, e.id
+LIMIT 20;
+
+-- Typo fallback: the precise query finds nothing, then word similarity runs
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.id, e.name
+FROM events e, websearch_to_tsquery('english', 'meridan') q
+WHERE 'meridan' <% lower(e.name)
+ORDER BY ts_rank_cd(e.search_vector, q) + word_similarity('meridan', lower(e.name)) DESC,
+         e.event_date, e.id
+LIMIT 20;
+
+-- Venue search (VenueRepository.searchByName)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM venues v
+WHERE lower(v.name) LIKE '%riverside%' OR 'riverside' <% lower(v.name)
+ORDER BY word_similarity('riverside', lower(v.name)) DESC, v.name;
+
+ROLLBACK;
@@ -0,0 +1,96 @@
+-- =============================================================================
+-- TICKET NUMBER INSERT BENCHMARK
+-- =============================================================================
+-- Compares the old ticket_number layout (random UUIDv4 as VARCHAR(36)) with
+-- the current one (time-ordered UUIDv7 in a native uuid column, fulfillment
+-- V4): bulk insert time and size of the unique index behind the column.
+--
+-- Run against a scratch copy of the fulfillment database, never production:
+--   psql -d ticketblitz_fulfillment_bench -f ticket-number-insert-benchmark.sql
+--   psql -d ticketblitz_fulfillment_bench -v rows=50000000 -f ticket-number-insert-benchmark.sql
+--
+-- The gap grows with the table: random keys only hurt once the index no
+-- longer fits in shared_buffers, so size rows well past it for real numbers.
+--
+-- Everything happens inside a transaction that is rolled back at the end.
+-- =============================================================================
+
+\if :{?rows}
+\else
+\set rows 5000000
+\endif
+
+\timing on
+BEGIN;
+
+-- -----------------------------------------------------------------------------
+-- Two copies of the ticket row shape that differ only in ticket_number
+-- -----------------------------------------------------------------------------
+CREATE TABLE bench_tickets_v4 (
+    id            BIGSERIAL PRIMARY KEY,
+    booking_id    BIGINT       NOT NULL,
+    seat_id       BIGINT       NOT NULL,
+    ticket_number VARCHAR(36)  NOT NULL UNIQUE,
+    qr_code       VARCHAR(512)
+);
+
+CREATE TABLE bench_tickets_v7 (
+    id            BIGSERIAL PRIMARY KEY,
+    booking_id    BIGINT       NOT NULL,
+    seat_id       BIGINT       NOT NULL,
+    ticket_number UUID         NOT NULL UNIQUE,
+    qr_code       VARCHAR(512)
+);
+
+-- Same layout as TicketNumberGenerator: 48-bit millis, version 7, 12-bit
+-- sequence, then the random half of a v4 (variant bits already set).
+-- Numbers are issued 4,096 per millisecond, the generator's ceiling.
+CREATE FUNCTION pg_temp.bench_uuid_v7(g BIGINT) RETURNS UUID AS $$
+    SELECT encode(
+               substring(int8send(1760000000000 + g / 4096) FROM 3)
+               || int2send((x'7000'::int | (g % 4096)::int)::smallint)
+               || substring(uuid_send(gen_random_uuid()) FROM 9),
+               'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+-- -----------------------------------------------------------------------------
+-- Bulk load: one INSERT per layout
+-- -----------------------------------------------------------------------------
+INSERT INTO bench_tickets_v4 (booking_id, seat_id, ticket_number, qr_code)
+SELECT g / 4, g, gen_random_uuid()::text, repeat('q', 180)
+FROM generate_series(1, :rows) g;
+
+INSERT INTO bench_tickets_v7 (booking_id, seat_id, ticket_number, qr_code)
+SELECT g / 4, g, pg_temp.bench_uuid_v7(g), repeat('q', 180)
+FROM generate_series(1, :rows) g;
+
+-- -----------------------------------------------------------------------------
+-- Steady state: another 10% into the already large indexes. v4 keys land on
+-- random leaf pages, v7 keys on the right edge.
+-- -----------------------------------------------------------------------------
+INSERT INTO bench_tickets_v4 (booking_id, seat_id, ticket_number, qr_code)
+SELECT g / 4, g, gen_random_uuid()::text, repeat('q', 180)
+FROM generate_series(:rows + 1, :rows + :rows / 10) g;
+
+INSERT INTO bench_tickets_v7 (booking_id, seat_id, ticket_number, qr_code)
+SELECT g / 4, g, pg_temp.bench_uuid_v7(g), repeat('q', 180)
+FROM generate_series(:rows + 1, :rows + :rows / 10) g;
+
+-- -----------------------------------------------------------------------------
+-- Index size: 36-char text keys vs 16-byte uuids, and half-full leaf pages
+-- left behind by random page splits
+-- -----------------------------------------------------------------------------
+SELECT 'v4 varchar' AS layout,
+       pg_size_pretty(pg_relation_size('bench_tickets_v4_ticket_number_key')) AS ticket_number_index,
+       pg_size_pretty(pg_relation_size('bench_tickets_v4')) AS heap
+UNION ALL
+SELECT 'v7 uuid',
+       pg_size_pretty(pg_relation_size('bench_tickets_v7_ticket_number_key')),
+       pg_size_pretty(pg_relation_size('bench_tickets_v7'));
+
+-- Sanity check: v7 numbers are ordered like their insertion
+SELECT count(*) FILTER (WHERE ticket_number < previous) AS out_of_order_v7
+FROM (SELECT ticket_number, lag(ticket_number) OVER (ORDER BY id) AS previous
+      FROM bench_tickets_v7) t;
+
+ROLLBACK;